@@ -0,0 +1,353 @@
+package cousin.florian;
+
+import cousin.florian.iterator.doubles.*;
+import cousin.florian.utils.DoubleChunkedBuffer;
+import cousin.florian.utils.HeapInteger;
+import cousin.florian.utils.HeapLong;
+import cousin.florian.utils.LongHashSet;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A sequence of primitive {@code double} elements supporting sequential operations. This is the
+ * {@code double} primitive specialization of {@link LStream} : elements are never boxed unless
+ * {@link #boxed()} or {@link #mapToObj(DoubleFunction)} is called.
+ */
+public abstract class DoubleLStream implements PrimitiveIterator.OfDouble {
+
+  public DoubleLStream filter(DoublePredicate predicate) {
+    return new DoubleFilterLStream(this, predicate);
+  }
+
+  public DoubleLStream map(DoubleUnaryOperator mapper) {
+    return new DoubleMappingLStream(this, mapper);
+  }
+
+  public <R> LStream<R> mapToObj(DoubleFunction<? extends R> mapper) {
+    return new DoubleMapToObjLStream<>(this, mapper);
+  }
+
+  public IntLStream mapToInt(DoubleToIntFunction mapper) {
+    return new DoubleMapToIntLStream(this, mapper);
+  }
+
+  public LongLStream mapToLong(DoubleToLongFunction mapper) {
+    return new DoubleMapToLongLStream(this, mapper);
+  }
+
+  public LStream<Double> boxed() {
+    return mapToObj(Double::valueOf);
+  }
+
+  public DoubleLStream flatMap(DoubleFunction<? extends DoubleLStream> mapper) {
+    return new DoubleFlatMappingLStream(this, mapper);
+  }
+
+  /**
+   * Returns this lstream if its elements are known to be distinct. If they are known to be sorted,
+   * equal elements are consecutive and only the previous element is kept in memory.
+   */
+  public DoubleLStream distinct() {
+
+    if (isDistinct()) {
+      return this;
+    }
+
+    if (isSorted()) {
+      return new DoubleSortedDistinctLStream(this);
+    }
+
+    // Like Double.equals, NaN equals itself and 0.0 differs from -0.0
+    LongHashSet alreadyIteratedElements = new LongHashSet();
+    return filter(element -> alreadyIteratedElements.add(Double.doubleToLongBits(element)));
+  }
+
+  /** Returns this lstream if its elements are known to be sorted. */
+  public DoubleLStream sorted() {
+    return isSorted() ? this : new DoubleSortedLStream(this);
+  }
+
+  public DoubleLStream peek(DoubleConsumer action) {
+    return new DoublePeekLStream(this, action);
+  }
+
+  public DoubleLStream limit(long maxSize) {
+    return new DoubleLimitLStream(this, maxSize);
+  }
+
+  public DoubleLStream skip(long nbToSkip) {
+    requirePositive(nbToSkip);
+    return new DoubleSkipLStream(this, nbToSkip);
+  }
+
+  protected static void requirePositive(long nbToSkip) throws IllegalArgumentException {
+    if (nbToSkip < 0) {
+      throw new IllegalArgumentException(
+          "nbToSkip is %d but it should be positive".formatted(nbToSkip));
+    }
+  }
+
+  public DoubleLStream takeWhile(DoublePredicate predicate) {
+    return new DoubleTakeWhileLStream(this, predicate);
+  }
+
+  public DoubleLStream dropWhile(DoublePredicate predicate) {
+    return new DoubleDropWhileLStream(this, predicate);
+  }
+
+  public void forEach(DoubleConsumer action) {
+    forEachWhile(
+        value -> {
+          action.accept(value);
+          return true;
+        });
+  }
+
+  @Override
+  public void forEachRemaining(DoubleConsumer action) {
+    forEach(action);
+  }
+
+  /**
+   * Pushes the remaining elements of this lstream into {@code sink} until the sink returns {@code
+   * false} or there is no more element.
+   *
+   * @see LStream#forEachWhile(Predicate)
+   */
+  public boolean forEachWhile(DoublePredicate sink) {
+    while (hasNext()) {
+      if (!sink.test(nextDouble())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Pushes the remaining elements of {@code iterator} into {@code sink}, using {@link
+   * #forEachWhile(DoublePredicate)} if {@code iterator} is a lstream.
+   */
+  protected static boolean forEachRemainingWhile(
+      PrimitiveIterator.OfDouble iterator, DoublePredicate sink) {
+
+    if (iterator instanceof DoubleLStream lStream) {
+      return lStream.forEachWhile(sink);
+    }
+
+    while (iterator.hasNext()) {
+      if (!sink.test(iterator.nextDouble())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the exact number of remaining elements of this lstream if it is known without
+   * iterating, or -1 otherwise.
+   */
+  public long knownSize() {
+    return -1;
+  }
+
+  /**
+   * Returns an upper bound of the number of remaining elements of this lstream that is known
+   * without iterating, or {@link Long#MAX_VALUE} if there is none.
+   */
+  public long sizeUpperBound() {
+    long knownSize = knownSize();
+    return knownSize < 0 ? Long.MAX_VALUE : knownSize;
+  }
+
+  /** Returns whether the remaining elements are known to be sorted without iterating. */
+  public boolean isSorted() {
+    return false;
+  }
+
+  /** Returns whether the remaining elements are known to be distinct without iterating. */
+  public boolean isDistinct() {
+    return false;
+  }
+
+  protected static boolean isSortedOf(PrimitiveIterator.OfDouble iterator) {
+    return iterator instanceof DoubleLStream lStream && lStream.isSorted();
+  }
+
+  protected static boolean isDistinctOf(PrimitiveIterator.OfDouble iterator) {
+    return iterator instanceof DoubleLStream lStream && lStream.isDistinct();
+  }
+
+  protected static long knownSizeOf(PrimitiveIterator.OfDouble iterator) {
+    return iterator instanceof DoubleLStream lStream ? lStream.knownSize() : -1;
+  }
+
+  protected static long sizeUpperBoundOf(PrimitiveIterator.OfDouble iterator) {
+    return iterator instanceof DoubleLStream lStream ? lStream.sizeUpperBound() : Long.MAX_VALUE;
+  }
+
+  protected static long sizeUpperBoundOf(
+      PrimitiveIterator.OfDouble baseIterator, int nbBufferedElements) {
+    long baseUpperBound = sizeUpperBoundOf(baseIterator);
+    return baseUpperBound > Long.MAX_VALUE - nbBufferedElements
+        ? Long.MAX_VALUE
+        : baseUpperBound + nbBufferedElements;
+  }
+
+  public double[] toArray() {
+
+    long knownSize = knownSize();
+
+    if (knownSize >= 0 && knownSize <= Integer.MAX_VALUE) {
+      double[] elements = new double[(int) knownSize];
+      HeapInteger nextIndex = new HeapInteger();
+      forEach(
+          value -> {
+            elements[nextIndex.value()] = value;
+            nextIndex.add(1);
+          });
+      return elements;
+    }
+
+    DoubleChunkedBuffer elements = new DoubleChunkedBuffer();
+    forEach(elements::add);
+    return elements.toArray();
+  }
+
+  public double reduce(double initialValue, DoubleBinaryOperator accumulator) {
+    double[] currentValue = {initialValue};
+    forEach(value -> currentValue[0] = accumulator.applyAsDouble(currentValue[0], value));
+    return currentValue[0];
+  }
+
+  public OptionalDouble reduce(DoubleBinaryOperator accumulator) {
+
+    if (!hasNext()) {
+      return OptionalDouble.empty();
+    }
+
+    return OptionalDouble.of(reduce(nextDouble(), accumulator));
+  }
+
+  /**
+   * Returns the sum of the elements, added one by one.
+   *
+   * <p>The order of the elements is important : the sum of 1e300, 3.5, -1e300 is 0 but the sum of
+   * 1e300, -1e300, 3.5 is 3.5.
+   */
+  public double sum() {
+    return reduce(0, Double::sum);
+  }
+
+  public OptionalDouble min() {
+    return reduce(Math::min);
+  }
+
+  public OptionalDouble max() {
+    return reduce(Math::max);
+  }
+
+  public long count() {
+
+    long knownSize = knownSize();
+    if (knownSize >= 0) {
+      return knownSize;
+    }
+
+    HeapLong nbElementsIterated = new HeapLong();
+    forEach(value -> nbElementsIterated.add(1));
+    return nbElementsIterated.value();
+  }
+
+  public OptionalDouble average() {
+    DoubleSummaryStatistics statistics = summaryStatistics();
+    return statistics.getCount() == 0
+        ? OptionalDouble.empty()
+        : OptionalDouble.of(statistics.getAverage());
+  }
+
+  public DoubleSummaryStatistics summaryStatistics() {
+    DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+    forEach(statistics);
+    return statistics;
+  }
+
+  public boolean anyMatch(DoublePredicate predicate) {
+    return !forEachWhile(predicate.negate());
+  }
+
+  public boolean allMatch(DoublePredicate predicate) {
+    return forEachWhile(predicate);
+  }
+
+  public boolean noneMatch(DoublePredicate predicate) {
+    return !anyMatch(predicate);
+  }
+
+  public OptionalDouble findFirst() {
+    return hasNext() ? OptionalDouble.of(nextDouble()) : OptionalDouble.empty();
+  }
+
+  public OptionalDouble findLast() {
+    return reduce((first, second) -> second);
+  }
+
+  public static DoubleLStream empty() {
+    return new DoubleArrayLStream(new double[0]);
+  }
+
+  public static DoubleLStream of(double... iterationValues) {
+    return new DoubleArrayLStream(iterationValues);
+  }
+
+  public static DoubleLStream from(PrimitiveIterator.OfDouble iterator) {
+    return new DoubleSimpleLStream(iterator);
+  }
+
+  public static DoubleLStream.Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * A mutable builder of {@link DoubleLStream}, storing double elements in chunks of growing size
+   * so that adding an element never copies the previous ones.
+   *
+   * @see LStream.Builder
+   */
+  public static class Builder implements DoubleConsumer {
+
+    private final DoubleChunkedBuffer values = new DoubleChunkedBuffer();
+    private boolean built = false;
+
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
+    @Override
+    public void accept(double t) {
+      checkNotBuilt();
+      values.add(t);
+    }
+
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
+    public DoubleLStream.Builder add(double t) {
+      accept(t);
+      return this;
+    }
+
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
+    public DoubleLStream build() {
+      checkNotBuilt();
+      built = true;
+      return new DoubleBufferLStream(values);
+    }
+
+    private void checkNotBuilt() {
+      if (built) {
+        throw new IllegalStateException("The builder has already been built");
+      }
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package cousin.florian;
+
+/** An element with its index in an lstream, see {@link LStream#zipWithIndex()}. */
+public record Indexed<T>(long index, T element) {}
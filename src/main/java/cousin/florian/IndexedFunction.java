@@ -0,0 +1,7 @@
+package cousin.florian;
+
+/** A function of an element and of its index, so that the index is not boxed. */
+@FunctionalInterface
+public interface IndexedFunction<T, R> {
+  R apply(long index, T element);
+}
@@ -0,0 +1,373 @@
+package cousin.florian;
+
+import cousin.florian.iterator.ints.*;
+import cousin.florian.utils.HeapInteger;
+import cousin.florian.utils.HeapLong;
+import cousin.florian.utils.IntChunkedBuffer;
+import cousin.florian.utils.LongHashSet;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A sequence of primitive {@code int} elements supporting sequential operations. This is the {@code
+ * int} primitive specialization of {@link LStream} : elements are never boxed unless {@link
+ * #boxed()} or {@link #mapToObj(IntFunction)} is called.
+ */
+public abstract class IntLStream implements PrimitiveIterator.OfInt {
+
+  public IntLStream filter(IntPredicate predicate) {
+    return new IntFilterLStream(this, predicate);
+  }
+
+  public IntLStream map(IntUnaryOperator mapper) {
+    return new IntMappingLStream(this, mapper);
+  }
+
+  public <R> LStream<R> mapToObj(IntFunction<? extends R> mapper) {
+    return new IntMapToObjLStream<>(this, mapper);
+  }
+
+  public LongLStream mapToLong(IntToLongFunction mapper) {
+    return new IntMapToLongLStream(this, mapper);
+  }
+
+  public DoubleLStream mapToDouble(IntToDoubleFunction mapper) {
+    return new IntMapToDoubleLStream(this, mapper);
+  }
+
+  public LStream<Integer> boxed() {
+    return mapToObj(Integer::valueOf);
+  }
+
+  public IntLStream flatMap(IntFunction<? extends IntLStream> mapper) {
+    return new IntFlatMappingLStream(this, mapper);
+  }
+
+  /**
+   * Returns this lstream if its elements are known to be distinct. If they are known to be sorted,
+   * equal elements are consecutive and only the previous element is kept in memory.
+   */
+  public IntLStream distinct() {
+
+    if (isDistinct()) {
+      return this;
+    }
+
+    if (isSorted()) {
+      return new IntSortedDistinctLStream(this);
+    }
+
+    LongHashSet alreadyIteratedElements = new LongHashSet();
+    return filter(alreadyIteratedElements::add);
+  }
+
+  /** Returns this lstream if its elements are known to be sorted. */
+  public IntLStream sorted() {
+    return isSorted() ? this : new IntSortedLStream(this);
+  }
+
+  public IntLStream peek(IntConsumer action) {
+    return new IntPeekLStream(this, action);
+  }
+
+  public IntLStream limit(long maxSize) {
+    return new IntLimitLStream(this, maxSize);
+  }
+
+  public IntLStream skip(long nbToSkip) {
+    requirePositive(nbToSkip);
+    return new IntSkipLStream(this, nbToSkip);
+  }
+
+  protected static void requirePositive(long nbToSkip) throws IllegalArgumentException {
+    if (nbToSkip < 0) {
+      throw new IllegalArgumentException(
+          "nbToSkip is %d but it should be positive".formatted(nbToSkip));
+    }
+  }
+
+  public IntLStream takeWhile(IntPredicate predicate) {
+    return new IntTakeWhileLStream(this, predicate);
+  }
+
+  public IntLStream dropWhile(IntPredicate predicate) {
+    return new IntDropWhileLStream(this, predicate);
+  }
+
+  public void forEach(IntConsumer action) {
+    forEachWhile(
+        value -> {
+          action.accept(value);
+          return true;
+        });
+  }
+
+  @Override
+  public void forEachRemaining(IntConsumer action) {
+    forEach(action);
+  }
+
+  /**
+   * Pushes the remaining elements of this lstream into {@code sink} until the sink returns {@code
+   * false} or there is no more element.
+   *
+   * @see LStream#forEachWhile(Predicate)
+   */
+  public boolean forEachWhile(IntPredicate sink) {
+    while (hasNext()) {
+      if (!sink.test(nextInt())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Pushes the remaining elements of {@code iterator} into {@code sink}, using {@link
+   * #forEachWhile(IntPredicate)} if {@code iterator} is a lstream.
+   */
+  protected static boolean forEachRemainingWhile(
+      PrimitiveIterator.OfInt iterator, IntPredicate sink) {
+
+    if (iterator instanceof IntLStream lStream) {
+      return lStream.forEachWhile(sink);
+    }
+
+    while (iterator.hasNext()) {
+      if (!sink.test(iterator.nextInt())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the exact number of remaining elements of this lstream if it is known without
+   * iterating, or -1 otherwise.
+   */
+  public long knownSize() {
+    return -1;
+  }
+
+  /**
+   * Returns an upper bound of the number of remaining elements of this lstream that is known
+   * without iterating, or {@link Long#MAX_VALUE} if there is none.
+   */
+  public long sizeUpperBound() {
+    long knownSize = knownSize();
+    return knownSize < 0 ? Long.MAX_VALUE : knownSize;
+  }
+
+  /** Returns whether the remaining elements are known to be sorted without iterating. */
+  public boolean isSorted() {
+    return false;
+  }
+
+  /** Returns whether the remaining elements are known to be distinct without iterating. */
+  public boolean isDistinct() {
+    return false;
+  }
+
+  protected static boolean isSortedOf(PrimitiveIterator.OfInt iterator) {
+    return iterator instanceof IntLStream lStream && lStream.isSorted();
+  }
+
+  protected static boolean isDistinctOf(PrimitiveIterator.OfInt iterator) {
+    return iterator instanceof IntLStream lStream && lStream.isDistinct();
+  }
+
+  protected static long knownSizeOf(PrimitiveIterator.OfInt iterator) {
+    return iterator instanceof IntLStream lStream ? lStream.knownSize() : -1;
+  }
+
+  protected static long sizeUpperBoundOf(PrimitiveIterator.OfInt iterator) {
+    return iterator instanceof IntLStream lStream ? lStream.sizeUpperBound() : Long.MAX_VALUE;
+  }
+
+  protected static long sizeUpperBoundOf(
+      PrimitiveIterator.OfInt baseIterator, int nbBufferedElements) {
+    long baseUpperBound = sizeUpperBoundOf(baseIterator);
+    return baseUpperBound > Long.MAX_VALUE - nbBufferedElements
+        ? Long.MAX_VALUE
+        : baseUpperBound + nbBufferedElements;
+  }
+
+  public int[] toArray() {
+
+    long knownSize = knownSize();
+
+    if (knownSize >= 0 && knownSize <= Integer.MAX_VALUE) {
+      int[] elements = new int[(int) knownSize];
+      HeapInteger nextIndex = new HeapInteger();
+      forEach(
+          value -> {
+            elements[nextIndex.value()] = value;
+            nextIndex.add(1);
+          });
+      return elements;
+    }
+
+    IntChunkedBuffer elements = new IntChunkedBuffer();
+    forEach(elements::add);
+    return elements.toArray();
+  }
+
+  public int reduce(int initialValue, IntBinaryOperator accumulator) {
+    int[] currentValue = {initialValue};
+    forEach(value -> currentValue[0] = accumulator.applyAsInt(currentValue[0], value));
+    return currentValue[0];
+  }
+
+  public OptionalInt reduce(IntBinaryOperator accumulator) {
+
+    if (!hasNext()) {
+      return OptionalInt.empty();
+    }
+
+    return OptionalInt.of(reduce(nextInt(), accumulator));
+  }
+
+  public int sum() {
+    return reduce(0, Integer::sum);
+  }
+
+  public OptionalInt min() {
+    return isSorted() ? findFirst() : reduce(Math::min);
+  }
+
+  public OptionalInt max() {
+    return isSorted() ? findLast() : reduce(Math::max);
+  }
+
+  public long count() {
+
+    long knownSize = knownSize();
+    if (knownSize >= 0) {
+      return knownSize;
+    }
+
+    HeapLong nbElementsIterated = new HeapLong();
+    forEach(value -> nbElementsIterated.add(1));
+    return nbElementsIterated.value();
+  }
+
+  public OptionalDouble average() {
+    IntSummaryStatistics statistics = summaryStatistics();
+    return statistics.getCount() == 0
+        ? OptionalDouble.empty()
+        : OptionalDouble.of(statistics.getAverage());
+  }
+
+  public IntSummaryStatistics summaryStatistics() {
+    IntSummaryStatistics statistics = new IntSummaryStatistics();
+    forEach(statistics);
+    return statistics;
+  }
+
+  public boolean anyMatch(IntPredicate predicate) {
+    return !forEachWhile(predicate.negate());
+  }
+
+  public boolean allMatch(IntPredicate predicate) {
+    return forEachWhile(predicate);
+  }
+
+  public boolean noneMatch(IntPredicate predicate) {
+    return !anyMatch(predicate);
+  }
+
+  public OptionalInt findFirst() {
+    return hasNext() ? OptionalInt.of(nextInt()) : OptionalInt.empty();
+  }
+
+  public OptionalInt findLast() {
+    return reduce((first, second) -> second);
+  }
+
+  public static IntLStream empty() {
+    return new IntArrayLStream(new int[0]);
+  }
+
+  public static IntLStream of(int... iterationValues) {
+    return new IntArrayLStream(iterationValues);
+  }
+
+  /**
+   * Returns the int elements from {@code start} (inclusive) to {@code endExclusive} by steps of 1.
+   * The range is computed on the fly : skip, limit, count, findLast, toArray, sum and sorted do not
+   * iterate over its elements.
+   */
+  public static IntLStream range(int start, int endExclusive) {
+    return range(start, endExclusive, 1);
+  }
+
+  /**
+   * Returns the int elements {@code start, start + step, ...} strictly before {@code endExclusive}.
+   * A negative step gives a decreasing range.
+   *
+   * @throws IllegalArgumentException if {@code step} is 0
+   */
+  public static IntLStream range(int start, int endExclusive, int step) {
+    return IntRangeLStream.of(start, endExclusive, step, false);
+  }
+
+  public static IntLStream rangeClosed(int start, int endInclusive) {
+    return rangeClosed(start, endInclusive, 1);
+  }
+
+  public static IntLStream rangeClosed(int start, int endInclusive, int step) {
+    return IntRangeLStream.of(start, endInclusive, step, true);
+  }
+
+  public static IntLStream from(PrimitiveIterator.OfInt iterator) {
+    return new IntSimpleLStream(iterator);
+  }
+
+  public static IntLStream.Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * A mutable builder of {@link IntLStream}, storing int elements in chunks of growing size so that
+   * adding an element never copies the previous ones.
+   *
+   * @see LStream.Builder
+   */
+  public static class Builder implements IntConsumer {
+
+    private final IntChunkedBuffer values = new IntChunkedBuffer();
+    private boolean built = false;
+
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
+    @Override
+    public void accept(int t) {
+      checkNotBuilt();
+      values.add(t);
+    }
+
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
+    public IntLStream.Builder add(int t) {
+      accept(t);
+      return this;
+    }
+
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
+    public IntLStream build() {
+      checkNotBuilt();
+      built = true;
+      return new IntBufferLStream(values);
+    }
+
+    private void checkNotBuilt() {
+      if (built) {
+        throw new IllegalStateException("The builder has already been built");
+      }
+    }
+  }
+}
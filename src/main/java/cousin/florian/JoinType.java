@@ -0,0 +1,16 @@
+package cousin.florian;
+
+/**
+ * The combinations returned by a join of the elements of an lstream with the elements of another
+ * lstream having the same key, see {@link LStream#hashJoin}.
+ */
+public enum JoinType {
+  /** Combines each element with each of its matches. */
+  INNER,
+  /** Combines each element with each of its matches, or with null if it has none. */
+  LEFT,
+  /** Combines each element having matches with its first match. */
+  SEMI,
+  /** Combines each element having no match with null. */
+  ANTI
+}
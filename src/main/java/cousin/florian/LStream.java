@@ -2,20 +2,33 @@ package cousin.florian;
 
 import cousin.florian.collector.LCollector;
 import cousin.florian.collector.LCollectors;
+import cousin.florian.collector.WindowCollector;
 import cousin.florian.exception.SeveralElementsException;
 import cousin.florian.iterator.*;
+import cousin.florian.sort.ExternalSort;
+import cousin.florian.sort.ParallelSort;
+import cousin.florian.utils.BloomFilter;
+import cousin.florian.utils.ChunkedList;
+import cousin.florian.utils.HashJoinTable;
+import cousin.florian.utils.HeapInteger;
+import cousin.florian.utils.HeapLong;
+import cousin.florian.utils.HeapReference;
+import cousin.florian.utils.LeastRecentlyUsedSet;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.*;
 import org.jetbrains.annotations.Nullable;
 
 public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
 
-  // TODO Add sized LStream and use new ArrayList<>(size) in supplier for collector, and optimize
-  //  toArray
-
-  // TODO Add a function to use indexes
-  //  We could do list.stream.withIndexes().filter(object -> filter(object)).indexes() and it would
-  //  make an IntStream of the indexes filtered
+  private static final int MAX_PRESIZED_SET_SIZE = 1 << 20;
+  private static final Duration MAX_NANOS_DURATION = Duration.ofNanos(Long.MAX_VALUE);
 
   // TODO Check why it is not possible to return MappingLStream etc... instead of LStream, and make
   //  a ADR
@@ -30,15 +43,91 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
     return new MappingLstream<>(this, mapper);
   }
 
+  @Override
+  public IntLStream mapToInt(ToIntFunction<? super T> mapper) {
+    return new MapToIntLStream<>(this, mapper);
+  }
+
+  @Override
+  public LongLStream mapToLong(ToLongFunction<? super T> mapper) {
+    return new MapToLongLStream<>(this, mapper);
+  }
+
+  @Override
+  public DoubleLStream mapToDouble(ToDoubleFunction<? super T> mapper) {
+    return new MapToDoubleLStream<>(this, mapper);
+  }
+
   @Override
   public <R> LStream<R> flatMap(Function<? super T, ? extends LStreamApi<? extends R>> mapper) {
     return new FlatMappingLStream<>(this, mapper);
   }
 
+  /**
+   * Returns this lstream if its elements are known to be distinct. If they are known to be sorted
+   * in natural order, equal elements are consecutive and only the previous element is kept in
+   * memory instead of all distinct elements.
+   */
   @Override
   public LStream<T> distinct() {
-    Set<T> alreadyIteratedElements = new HashSet<>();
-    return filter(alreadyIteratedElements::add);
+
+    if (isDistinct()) {
+      return this;
+    }
+
+    if (isSortedBy(null)) {
+      return new SortedDistinctLStream<>(this);
+    }
+
+    Set<T> alreadyIteratedElements = presizedHashSet();
+    return new DistinctLStream<>(this, alreadyIteratedElements::add, true);
+  }
+
+  /**
+   * Returns a lstream of the elements whose key, extracted with {@code keyExtractor}, was not
+   * encountered before. Only the keys are kept in memory.
+   */
+  public LStream<T> distinctBy(Function<? super T, ?> keyExtractor) {
+    Set<Object> alreadyIteratedKeys = presizedHashSet();
+    return new DistinctLStream<>(
+        this, element -> alreadyIteratedKeys.add(keyExtractor.apply(element)), true);
+  }
+
+  /**
+   * Returns a lstream without the elements equal to one of the {@code maxRemembered} most recently
+   * encountered distinct elements. Memory is bounded, so that it can deduplicate an infinite
+   * lstream, but an element forgotten since its last occurrence is kept again.
+   *
+   * @throws IllegalArgumentException if {@code maxRemembered} is not strictly positive
+   */
+  public LStream<T> distinctWithin(int maxRemembered) {
+    LeastRecentlyUsedSet<T> recentElements = new LeastRecentlyUsedSet<>(maxRemembered);
+    return new DistinctLStream<>(this, recentElements::add, false);
+  }
+
+  /**
+   * Returns a lstream of distinct elements remembered in a {@link BloomFilter} of fixed size
+   * instead of a set. No duplicate is kept, but an element may wrongly be dropped with a
+   * probability of about {@code falsePositiveRate} once {@code expectedNbElements} distinct
+   * elements have been encountered.
+   *
+   * @throws IllegalArgumentException if {@code expectedNbElements} is not strictly positive or if
+   *     {@code falsePositiveRate} is not strictly between 0 and 1
+   */
+  public LStream<T> distinctApproximately(long expectedNbElements, double falsePositiveRate) {
+    BloomFilter<T> alreadyIteratedElements = BloomFilter.of(expectedNbElements, falsePositiveRate);
+    return new DistinctLStream<>(this, alreadyIteratedElements::add, true);
+  }
+
+  /**
+   * Returns a hash set presized for the known size of this lstream, up to {@link
+   * #MAX_PRESIZED_SET_SIZE} so that mostly duplicated elements do not allocate a huge table.
+   */
+  private <E> Set<E> presizedHashSet() {
+    long knownSize = knownSize();
+    return knownSize < 0
+        ? new HashSet<>()
+        : HashSet.newHashSet((int) Math.min(knownSize, MAX_PRESIZED_SET_SIZE));
   }
 
   @Override
@@ -46,9 +135,324 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
     return sorted(null);
   }
 
+  /** Returns this lstream if its elements are known to be sorted by {@code comparator}. */
   @Override
   public LStream<T> sorted(@Nullable Comparator<? super T> comparator) {
-    return new SortedLStream<>(this, comparator);
+    return isSortedBy(comparator) ? this : new SortedLStream<>(this, comparator);
+  }
+
+  /**
+   * Sorts the elements in natural order, in parallel when there are enough of them.
+   *
+   * @see #sortedInParallel(Comparator, ParallelSort)
+   */
+  public LStream<T> sortedInParallel(ParallelSort parallelSort) {
+    return sortedInParallel(null, parallelSort);
+  }
+
+  /**
+   * Sorts the elements like {@link #sorted(Comparator)}, but with a stable parallel sort in the
+   * pool of {@code parallelSort} when there are at least {@link ParallelSort#threshold()} elements.
+   * Elements are still read sequentially.
+   */
+  public LStream<T> sortedInParallel(
+      @Nullable Comparator<? super T> comparator, ParallelSort parallelSort) {
+    return new SortedLStream<>(this, comparator, parallelSort);
+  }
+
+  /**
+   * Sorts the elements in natural order incrementally.
+   *
+   * @see #sortedIncrementally(Comparator)
+   */
+  public LStream<T> sortedIncrementally() {
+    return sortedIncrementally(null);
+  }
+
+  /**
+   * Sorts the elements incrementally, for consumers that only read the first elements : on the
+   * first access, all elements are arranged in a heap in linear time, then each next element is
+   * popped from the heap in logarithmic time. The sort is stable.
+   *
+   * <p>Reading {@code k} of {@code n} elements costs {@code O(n + k log n)} comparisons. Reading
+   * all of them is slower than {@link #sorted(Comparator)}.
+   */
+  public LStream<T> sortedIncrementally(@Nullable Comparator<? super T> comparator) {
+    return new IncrementalSortedLStream<>(this, comparator);
+  }
+
+  /**
+   * Sorts the elements in natural order with an external merge sort, spilling sorted runs to disk.
+   *
+   * @see #sortedExternally(Comparator, ExternalSort)
+   */
+  public LStream<T> sortedExternally(ExternalSort<T> externalSort) {
+    return sortedExternally(null, externalSort);
+  }
+
+  /**
+   * Sorts the elements with an external merge sort, for elements that do not fit in memory : runs
+   * of {@link ExternalSort#runSize()} elements are sorted in memory and written to temporary files,
+   * then merged lazily with a heap while the returned {@link LStream} is iterated. The sort is
+   * stable.
+   *
+   * <p>Temporary files are deleted once merged, after {@code findFirst} or {@code findOne}, or
+   * shortly after the {@link LStream} is not referenced any more. I/O errors are thrown as {@link
+   * java.io.UncheckedIOException}.
+   */
+  public LStream<T> sortedExternally(
+      @Nullable Comparator<? super T> comparator, ExternalSort<T> externalSort) {
+    return new ExternalSortedLStream<>(this, comparator, externalSort);
+  }
+
+  /**
+   * Returns a lstream of lists of {@code size} consecutive elements, the last one possibly smaller.
+   * On a random-access source, the lists are views of the source without any copy.
+   *
+   * @throws IllegalArgumentException if {@code size} is not strictly positive
+   */
+  public LStream<List<T>> chunk(int size) {
+    return new ChunkingLStream<>(this, size, null, Long.MAX_VALUE, false);
+  }
+
+  /**
+   * Same as {@link #chunk(int)}, but a list also ends once {@code maxDuration} has passed since its
+   * first element, checked when an element is added.
+   *
+   * @throws IllegalArgumentException if {@code size} or {@code maxDuration} is not strictly
+   *     positive
+   */
+  public LStream<List<T>> chunk(int size, Duration maxDuration) {
+    return chunk(size, maxDuration, System::nanoTime);
+  }
+
+  /**
+   * @param nanoClock the time in nanoseconds, such as {@link System#nanoTime()}
+   * @see #chunk(int, Duration)
+   */
+  public LStream<List<T>> chunk(int size, Duration maxDuration, LongSupplier nanoClock) {
+
+    if (maxDuration.isNegative() || maxDuration.isZero()) {
+      throw new IllegalArgumentException(
+          "maxDuration is %s but it should be strictly positive".formatted(maxDuration));
+    }
+
+    long maxNanos =
+        maxDuration.compareTo(MAX_NANOS_DURATION) >= 0 ? Long.MAX_VALUE : maxDuration.toNanos();
+    return new ChunkingLStream<>(this, size, nanoClock, maxNanos, false);
+  }
+
+  /**
+   * Same as {@link #chunk(int)}, but the same list is cleared and returned for every chunk, so that
+   * it must not be kept after the next element is asked.
+   *
+   * @throws IllegalArgumentException if {@code size} is not strictly positive
+   */
+  public LStream<List<T>> chunkReusing(int size) {
+    return new ChunkingLStream<>(this, size, null, Long.MAX_VALUE, true);
+  }
+
+  protected static void requireChunkSize(int size) throws IllegalArgumentException {
+    if (size <= 0) {
+      throw new IllegalArgumentException(
+          "size is %d but it should be strictly positive".formatted(size));
+    }
+  }
+
+  /**
+   * Returns the combinations of the elements of this lstream and of {@code other} with the same
+   * index, until one of them ends. Its size is known, and skipping does not combine elements, if
+   * both are lstreams of known size.
+   */
+  public <U, R> LStream<R> zip(
+      Iterator<U> other, BiFunction<? super T, ? super U, ? extends R> combiner) {
+    return new ZipLStream<>(this, other, combiner);
+  }
+
+  /** Returns each element with its index, starting from 0. */
+  public LStream<Indexed<T>> zipWithIndex() {
+    return zipWithIndex(Indexed::new);
+  }
+
+  /**
+   * Returns the combination of each element with its index, starting from 0, without boxing the
+   * index nor creating a pair.
+   */
+  public <R> LStream<R> zipWithIndex(IndexedFunction<? super T, ? extends R> combiner) {
+    return new IndexedMappingLStream<>(this, combiner, 0);
+  }
+
+  /**
+   * Returns the indexes, starting from 0, of the elements matching {@code predicate}. They are
+   * known to be sorted and distinct.
+   */
+  public LongLStream indexesWhere(Predicate<? super T> predicate) {
+    return new IndexesWhereLStream<>(this, predicate);
+  }
+
+  /**
+   * Joins the elements with the elements of {@code other} having an equal key, combining them as
+   * described by {@code joinType}. The combiner receives null instead of an element of {@code
+   * other} when there is no match.
+   *
+   * <p>{@code other} is put in a hash table, presized when its size is known, the first time a
+   * result is asked, and results are in the order of this lstream. For inner and semi joins only,
+   * this lstream is put in the table instead if its size upper bound is smaller, and results are
+   * then in the order of {@code other}.
+   */
+  public <U, K, R> LStream<R> hashJoin(
+      LStream<U> other,
+      Function<? super T, ? extends K> keyExtractor,
+      Function<? super U, ? extends K> otherKeyExtractor,
+      JoinType joinType,
+      BiFunction<? super T, ? super U, ? extends R> combiner) {
+    return hashJoin(
+        other,
+        joinType,
+        combiner,
+        expectedSize -> HashJoinTable.of(keyExtractor, otherKeyExtractor, expectedSize),
+        expectedSize -> HashJoinTable.of(otherKeyExtractor, keyExtractor, expectedSize));
+  }
+
+  /**
+   * Joins like {@link #hashJoin(LStream, Function, Function, JoinType, BiFunction)} on primitive
+   * long keys, which are neither boxed nor compared with {@code equals}.
+   */
+  public <U, R> LStream<R> hashJoinOnLong(
+      LStream<U> other,
+      ToLongFunction<? super T> keyExtractor,
+      ToLongFunction<? super U> otherKeyExtractor,
+      JoinType joinType,
+      BiFunction<? super T, ? super U, ? extends R> combiner) {
+    return hashJoin(
+        other,
+        joinType,
+        combiner,
+        expectedSize -> HashJoinTable.ofLongKeys(keyExtractor, otherKeyExtractor, expectedSize),
+        expectedSize -> HashJoinTable.ofLongKeys(otherKeyExtractor, keyExtractor, expectedSize));
+  }
+
+  private <U, R> LStream<R> hashJoin(
+      LStream<U> other,
+      JoinType joinType,
+      BiFunction<? super T, ? super U, ? extends R> combiner,
+      IntFunction<HashJoinTable<T, U>> thisTableFactory,
+      IntFunction<HashJoinTable<U, T>> otherTableFactory) {
+
+    boolean keepsElementsWithoutMatch = joinType == JoinType.LEFT || joinType == JoinType.ANTI;
+    if (!keepsElementsWithoutMatch && sizeUpperBound() < other.sizeUpperBound()) {
+      return new SwappedHashJoinLStream<>(
+          this, other, thisTableFactory.apply(expectedTableSize(this)), joinType, combiner);
+    }
+
+    return new HashJoinLStream<>(
+        this, other, otherTableFactory.apply(expectedTableSize(other)), joinType, combiner);
+  }
+
+  private static int expectedTableSize(LStream<?> builtLStream) {
+    long knownSize = builtLStream.knownSize();
+    return knownSize < 0 ? 0 : (int) Math.min(knownSize, MAX_PRESIZED_SET_SIZE);
+  }
+
+  /**
+   * Joins the elements with the elements of {@code other} having an equal key in a single pass,
+   * both being sorted by key according to {@code keyComparator}, null meaning the natural order.
+   * Results are combined as described by {@code joinType}, in the order of this lstream, the
+   * combiner receiving null instead of an element of {@code other} when there is no match.
+   *
+   * <p>Only the elements of {@code other} with the current key are kept in memory, and only one of
+   * them for semi and anti joins.
+   *
+   * <p>Keys are checked to be sorted while iterating, an {@link IllegalStateException} being thrown
+   * otherwise.
+   */
+  @SuppressWarnings("unchecked")
+  public <U, K, R> LStream<R> mergeJoin(
+      LStream<U> other,
+      Function<? super T, ? extends K> keyExtractor,
+      Function<? super U, ? extends K> otherKeyExtractor,
+      @Nullable Comparator<? super K> keyComparator,
+      JoinType joinType,
+      BiFunction<? super T, ? super U, ? extends R> combiner) {
+    return new MergeJoinLStream<>(
+        this,
+        other,
+        keyExtractor,
+        otherKeyExtractor,
+        keyComparator == null ? (Comparator<? super K>) Comparator.naturalOrder() : keyComparator,
+        joinType,
+        combiner);
+  }
+
+  /**
+   * Returns the sliding windows of {@code size} consecutive elements, each window starting one
+   * element after the previous one. There is no window if there are less than {@code size}
+   * elements.
+   *
+   * @throws IllegalArgumentException if {@code size} is not strictly positive
+   */
+  public LStream<List<T>> windowed(int size) {
+    return windowed(size, 1);
+  }
+
+  /**
+   * Returns the windows of {@code size} consecutive elements, each window starting {@code step}
+   * elements after the previous one : they are tumbling windows if {@code step} equals {@code
+   * size}. Last elements that do not fill a window are dropped.
+   *
+   * @throws IllegalArgumentException if {@code size} or {@code step} is not strictly positive
+   */
+  public LStream<List<T>> windowed(int size, int step) {
+    return new WindowingLStream<>(this, size, step);
+  }
+
+  /**
+   * Returns the aggregation of each sliding window of {@code size} consecutive elements, updated
+   * incrementally by {@code collector} when the window slides instead of being recomputed.
+   *
+   * @throws IllegalArgumentException if {@code size} is not strictly positive
+   * @see cousin.florian.collector.WindowCollectors
+   */
+  public <A, R> LStream<R> windowAggregate(int size, WindowCollector<? super T, A, R> collector) {
+    return new WindowAggregateLStream<>(this, size, collector);
+  }
+
+  protected static void requireWindowSize(int size, int step) throws IllegalArgumentException {
+    if (size <= 0 || step <= 0) {
+      throw new IllegalArgumentException(
+          "size is %d and step is %d but they should be strictly positive".formatted(size, step));
+    }
+  }
+
+  /**
+   * Returns a lstream mapping up to {@code maxInFlight} elements at the same time on virtual
+   * threads, in encounter order. See {@link ConcurrentMappingLStream} for failures and
+   * cancellation.
+   *
+   * @throws IllegalArgumentException if {@code maxInFlight} is not strictly positive
+   */
+  public <R> LStream<R> mapConcurrent(int maxInFlight, Function<? super T, ? extends R> mapper) {
+    return new ConcurrentMappingLStream<>(this, mapper, maxInFlight, true);
+  }
+
+  /**
+   * Same as {@link #mapConcurrent(int, Function)}, but the mapped elements are returned as soon as
+   * they are computed.
+   */
+  public <R> LStream<R> mapConcurrentUnordered(
+      int maxInFlight, Function<? super T, ? extends R> mapper) {
+    return new ConcurrentMappingLStream<>(this, mapper, maxInFlight, false);
+  }
+
+  /**
+   * Returns a lstream computing the elements of this lstream in advance on a virtual thread, up to
+   * {@code bufferSize} elements, so that a slow source and a slow consumer run concurrently. See
+   * {@link PrefetchLStream} for exception propagation and cancellation.
+   *
+   * @throws IllegalArgumentException if {@code bufferSize} is not strictly positive
+   */
+  public LStream<T> prefetch(int bufferSize) {
+    return new PrefetchLStream<>(this, bufferSize);
   }
 
   @Override
@@ -91,41 +495,179 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
 
   @Override
   public void forEach(Consumer<? super T> action) {
+    forEachWhile(
+        value -> {
+          action.accept(value);
+          return true;
+        });
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    forEach(action);
+  }
+
+  /**
+   * Pushes the remaining elements of this lstream into {@code sink} until the sink returns {@code
+   * false} or there is no more element.
+   *
+   * <p>This is the internal iteration used by terminal operations. Stages override it to forward
+   * elements directly to the downstream sink instead of going through {@code hasNext}/{@code next}
+   * for each element. Pull and push iterations can be mixed on the same lstream.
+   *
+   * @param sink the consumer of the elements, returning {@code false} to stop the iteration
+   * @return {@code false} if the sink stopped the iteration, {@code true} if all the remaining
+   *     elements have been pushed
+   */
+  public boolean forEachWhile(Predicate<? super T> sink) {
     while (hasNext()) {
-      action.accept(next());
+      if (!sink.test(next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the exact number of remaining elements of this lstream if it is known without
+   * iterating, or -1 otherwise.
+   */
+  public long knownSize() {
+    return -1;
+  }
+
+  /**
+   * Returns an upper bound of the number of remaining elements of this lstream that is known
+   * without iterating, or {@link Long#MAX_VALUE} if there is none.
+   */
+  public long sizeUpperBound() {
+    long knownSize = knownSize();
+    return knownSize < 0 ? Long.MAX_VALUE : knownSize;
+  }
+
+  /**
+   * Returns the comparator by which the remaining elements are known to be sorted without
+   * iterating, {@link Comparator#naturalOrder()} for the natural order, or null if they are not
+   * known to be sorted.
+   */
+  public @Nullable Comparator<? super T> sortComparator() {
+    return null;
+  }
+
+  /** Returns whether the remaining elements are known to be distinct without iterating. */
+  public boolean isDistinct() {
+    return false;
+  }
+
+  /**
+   * Returns whether the remaining elements are known to be sorted by {@code comparator}, null
+   * meaning the natural order. Comparators are compared with {@code equals}.
+   */
+  public boolean isSortedBy(@Nullable Comparator<? super T> comparator) {
+
+    Comparator<? super T> sortComparator = sortComparator();
+
+    if (sortComparator == null) {
+      return false;
+    }
+
+    return isNaturalOrder(sortComparator)
+        ? isNaturalOrder(comparator)
+        : sortComparator.equals(comparator);
+  }
+
+  private static boolean isNaturalOrder(@Nullable Comparator<?> comparator) {
+    return comparator == null || comparator.equals(Comparator.naturalOrder());
+  }
+
+  protected static <T> @Nullable Comparator<? super T> sortComparatorOf(Iterator<T> iterator) {
+    return iterator instanceof LStream<T> lStream ? lStream.sortComparator() : null;
+  }
+
+  protected static boolean isDistinctOf(Iterator<?> iterator) {
+    return iterator instanceof LStream<?> lStream && lStream.isDistinct();
+  }
+
+  protected static long knownSizeOf(Iterator<?> iterator) {
+    return iterator instanceof LStream<?> lStream ? lStream.knownSize() : -1;
+  }
+
+  protected static long sizeUpperBoundOf(Iterator<?> iterator) {
+    return iterator instanceof LStream<?> lStream ? lStream.sizeUpperBound() : Long.MAX_VALUE;
+  }
+
+  /**
+   * Returns the upper bound of an intermediate stage that holds {@code nbBufferedElements} elements
+   * already taken from its base iterator.
+   */
+  protected static long sizeUpperBoundOf(Iterator<?> baseIterator, int nbBufferedElements) {
+    long baseUpperBound = sizeUpperBoundOf(baseIterator);
+    return baseUpperBound > Long.MAX_VALUE - nbBufferedElements
+        ? Long.MAX_VALUE
+        : baseUpperBound + nbBufferedElements;
+  }
+
+  /**
+   * Pushes the remaining elements of {@code iterator} into {@code sink}, using {@link
+   * #forEachWhile(Predicate)} if {@code iterator} is a lstream.
+   */
+  protected static <T> boolean forEachRemainingWhile(
+      Iterator<T> iterator, Predicate<? super T> sink) {
+
+    if (iterator instanceof LStream<T> lStream) {
+      return lStream.forEachWhile(sink);
     }
+
+    while (iterator.hasNext()) {
+      if (!sink.test(iterator.next())) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public Object[] toArray() {
-    // TODO Implement so that there is no 1 copy to create the list and one copy to create the array
-    //  when sized lstream
-    return toList().toArray();
+    return toArray(Object[]::new);
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public <A> A[] toArray(IntFunction<A[]> generator) {
-    // TODO Implement so that there is no 1 copy to create the list and one copy to create the array
-    //  when sized lstream
-    return toList().toArray(generator);
+
+    long knownSize = knownSize();
+
+    if (knownSize >= 0 && knownSize <= Integer.MAX_VALUE) {
+      A[] elements = generator.apply((int) knownSize);
+      HeapInteger nextIndex = new HeapInteger();
+      forEach(
+          value -> {
+            elements[nextIndex.value()] = (A) value;
+            nextIndex.add(1);
+          });
+      return elements;
+    }
+
+    return toChunkedList().toArray(generator);
+  }
+
+  private ChunkedList<T> toChunkedList() {
+    ChunkedList<T> elements = new ChunkedList<>();
+    forEach(elements::add);
+    return elements;
   }
 
   @Override
   public T reduce(T initialValue, BinaryOperator<T> accumulator) {
-    T currentValue = initialValue;
-    while (hasNext()) {
-      currentValue = accumulator.apply(currentValue, next());
-    }
-    return currentValue;
+    return reduce(initialValue, (BiFunction<T, T, T>) accumulator);
   }
 
   @Override
   public <R> R reduce(R initialValue, BiFunction<R, T, R> accumulator) {
-    R currentValue = initialValue;
-    while (hasNext()) {
-      currentValue = accumulator.apply(currentValue, next());
-    }
-    return currentValue;
+    HeapReference<R> currentValue = new HeapReference<>();
+    currentValue.value(initialValue);
+    forEach(value -> currentValue.value(accumulator.apply(currentValue.value(), value)));
+    return currentValue.value();
   }
 
   @Override
@@ -135,13 +677,7 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
       return Optional.empty();
     }
 
-    T accumulation = next();
-
-    while (hasNext()) {
-      accumulation = accumulator.apply(accumulation, next());
-    }
-
-    return Optional.ofNullable(accumulation);
+    return Optional.ofNullable(reduce(next(), accumulator));
   }
 
   @Override
@@ -154,14 +690,35 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
     return collector.collect(this);
   }
 
+  /**
+   * Collects the elements by chunks of {@code chunkSize} elements, each chunk being accumulated
+   * independently and merged into the result with the combiner of {@code collector}. This bounds
+   * the memory used by a chunk accumulation in long aggregations.
+   *
+   * @throws IllegalStateException if {@code collector} has no combiner
+   * @throws IllegalArgumentException if {@code chunkSize} is not positive
+   */
+  public <R> R collectChunked(LCollector<? super T, ?, R> collector, int chunkSize) {
+    return collector.collectChunked(this, chunkSize);
+  }
+
   @Override
   public List<T> toList() {
-    return collect(LCollectors.toUnmodifiableList());
+
+    if (knownSize() >= 0) {
+      return collect(LCollectors.toUnmodifiableList());
+    }
+
+    return Collections.unmodifiableList(toChunkedList());
   }
 
   @Override
   public Optional<T> min(Comparator<? super T> comparator) {
 
+    if (isSortedBy(comparator)) {
+      return findFirst();
+    }
+
     BinaryOperator<T> keepMinimum =
         (previousMin, nextValue) ->
             comparator.compare(previousMin, nextValue) > 0 ? nextValue : previousMin;
@@ -172,6 +729,11 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
   @Override
   public Optional<T> max(Comparator<? super T> comparator) {
 
+    // With equal maxima, the first one is returned, which is not the last element
+    if (isDistinct() && isSortedBy(comparator)) {
+      return findLast();
+    }
+
     BinaryOperator<T> keepMaximum =
         (previousMax, nextValue) ->
             comparator.compare(previousMax, nextValue) < 0 ? nextValue : previousMax;
@@ -181,32 +743,25 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
 
   @Override
   public long count() {
-    long nbElementsIterated = 0;
-    while (hasNext()) {
-      next();
-      nbElementsIterated++;
+
+    long knownSize = knownSize();
+    if (knownSize >= 0) {
+      return knownSize;
     }
-    return nbElementsIterated;
+
+    HeapLong nbElementsIterated = new HeapLong();
+    forEach(value -> nbElementsIterated.add(1));
+    return nbElementsIterated.value();
   }
 
   @Override
   public boolean anyMatch(Predicate<? super T> predicate) {
-    while (hasNext()) {
-      if (predicate.test(next())) {
-        return true;
-      }
-    }
-    return false;
+    return !forEachWhile(predicate.negate());
   }
 
   @Override
   public boolean allMatch(Predicate<? super T> predicate) {
-    while (hasNext()) {
-      if (!predicate.test(next())) {
-        return false;
-      }
-    }
-    return true;
+    return forEachWhile(predicate);
   }
 
   @Override
@@ -250,6 +805,23 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
     return Spliterators.spliteratorUnknownSize(this, 0);
   }
 
+  /**
+   * Opts in parallel execution of the remaining elements on the common fork-join pool.
+   *
+   * @see #parallel(ForkJoinPool)
+   */
+  public ParallelLStream<T> parallel() {
+    return parallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Opts in parallel execution of the remaining elements on {@code pool}. Random-access sources are
+   * split without copy, other LStreams are first collected into a list in the caller thread.
+   */
+  public ParallelLStream<T> parallel(ForkJoinPool pool) {
+    return ParallelLStream.from(toList(), pool);
+  }
+
   public static <T> LStream.Builder<T> builder() {
     return new Builder<>();
   }
@@ -266,6 +838,77 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
     return new SimpleLStream<>(iterator);
   }
 
+  /**
+   * Returns the lines of {@code file} decoded in UTF-8. The file is mapped in memory and split on
+   * raw bytes, see {@link MappedLinesLStream}.
+   */
+  public static MappedLinesLStream<String> lines(Path file) {
+    return lines(file, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code '\n'} is not encoded as a single byte in {@code
+   *     charset}
+   */
+  public static MappedLinesLStream<String> lines(Path file, Charset charset) {
+    return new MappedLinesLStream<>(
+        file, MappedLinesLStream.DEFAULT_SEGMENT_SIZE, MappedLinesLStream.stringDecoder(charset));
+  }
+
+  /**
+   * Returns read-only views of the bytes of the lines of {@code file}, without copying nor decoding
+   * them. Each view is only valid while the file is not modified.
+   */
+  public static MappedLinesLStream<ByteBuffer> lineBuffers(Path file) {
+    return new MappedLinesLStream<>(
+        file, MappedLinesLStream.DEFAULT_SEGMENT_SIZE, MappedLinesLStream.byteBufferDecoder());
+  }
+
+  /**
+   * Returns the records of {@code recordSize} bytes read from {@code channel}, as a reused view of
+   * a direct buffer, see {@link ChannelRecordLStream}.
+   *
+   * @throws IllegalArgumentException if {@code recordSize} is not strictly positive
+   */
+  public static LStream<ByteBuffer> records(ReadableByteChannel channel, int recordSize) {
+    return records(channel, recordSize, ChannelRecordLStream.DEFAULT_READ_AHEAD_SIZE);
+  }
+
+  /**
+   * @param readAheadSize number of bytes read from {@code channel} at once
+   * @throws IllegalArgumentException if {@code recordSize} or {@code readAheadSize} is not strictly
+   *     positive
+   */
+  public static LStream<ByteBuffer> records(
+      ReadableByteChannel channel, int recordSize, int readAheadSize) {
+    return ChannelRecordLStream.ofFixedSize(channel, recordSize, readAheadSize);
+  }
+
+  /**
+   * Returns the records read from {@code channel}, each one prefixed by its size as a big-endian
+   * int, as a reused view of a direct buffer, see {@link ChannelRecordLStream}.
+   */
+  public static LStream<ByteBuffer> lengthPrefixedRecords(ReadableByteChannel channel) {
+    return lengthPrefixedRecords(channel, ChannelRecordLStream.DEFAULT_READ_AHEAD_SIZE);
+  }
+
+  /**
+   * @param readAheadSize number of bytes read from {@code channel} at once
+   * @throws IllegalArgumentException if {@code readAheadSize} is not strictly positive
+   */
+  public static LStream<ByteBuffer> lengthPrefixedRecords(
+      ReadableByteChannel channel, int readAheadSize) {
+    return ChannelRecordLStream.ofLengthPrefixed(channel, readAheadSize);
+  }
+
+  /**
+   * Returns an lstream of the elements of {@code sortedSet}, known to be sorted by its comparator
+   * and distinct, so that sorting them again or making them distinct is free.
+   */
+  public static <T> LStream<T> from(SortedSet<T> sortedSet) {
+    return new SortedSetLStream<>(sortedSet);
+  }
+
   public static <T> LStream<T> from(List<T> iterationObjects) {
     if (iterationObjects instanceof RandomAccess) {
       return new ListRandomAccessLStream<>(iterationObjects);
@@ -303,22 +946,79 @@ public abstract class LStream<T> implements Iterator<T>, LStreamApi<T> {
     return LStream.of(lStreams).flatMap(Function.identity());
   }
 
+  /**
+   * Merges lstreams whose elements are already sorted by {@code comparator}, null meaning the
+   * natural order, such as sorted shards. The merge is lazy and stable : equal elements are
+   * returned in the order of their lstreams. It only holds the next element of each lstream and
+   * needs {@code O(log k)} comparisons per element for {@code k} lstreams, or a single one for two
+   * lstreams.
+   *
+   * <p>The lstreams are not checked to be sorted.
+   */
+  @SafeVarargs
+  public static <T> LStream<T> mergeSorted(
+      @Nullable Comparator<? super T> comparator, LStream<? extends T>... lStreams) {
+    return mergeSorted(comparator, Arrays.asList(lStreams));
+  }
+
+  /**
+   * @see #mergeSorted(Comparator, LStream[])
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> LStream<T> mergeSorted(
+      @Nullable Comparator<? super T> comparator, List<? extends LStream<? extends T>> lStreams) {
+
+    Comparator<? super T> mergeComparator =
+        comparator == null ? (Comparator<? super T>) Comparator.naturalOrder() : comparator;
+
+    return switch (lStreams.size()) {
+      case 0 -> empty();
+      case 1 -> (LStream<T>) lStreams.getFirst();
+      case 2 -> new TwoWayMergeSortedLStream<>(lStreams.get(0), lStreams.get(1), mergeComparator);
+      default -> new MergeSortedLStream<>(lStreams, mergeComparator);
+    };
+  }
+
+  /**
+   * A mutable builder of {@link LStream}. Elements are appended to chunks of growing size, so that
+   * adding an element never copies the previous ones, and the built {@link LStream} reads them by
+   * index : its size is known and skipping or getting the last element is done in constant time.
+   */
   public static class Builder<T> implements Consumer<T> {
 
-    private final List<T> values = new LinkedList<>();
+    private final ChunkedList<T> values = new ChunkedList<>();
+    private boolean built = false;
 
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
     @Override
     public void accept(T t) {
+      checkNotBuilt();
       values.add(t);
     }
 
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
     public LStream.Builder<T> add(T t) {
       accept(t);
       return this;
     }
 
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
     public LStream<T> build() {
-      return LStream.from(values);
+      checkNotBuilt();
+      built = true;
+      return new ListRandomAccessLStream<>(values);
+    }
+
+    private void checkNotBuilt() {
+      if (built) {
+        throw new IllegalStateException("The builder has already been built");
+      }
     }
   }
 }
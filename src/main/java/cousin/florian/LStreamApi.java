@@ -56,9 +56,39 @@ public interface LStreamApi<T> {
    */
   <R> LStreamApi<R> map(Function<? super T, ? extends R> mapper);
 
-  // TODO IntStream mapToInt(ToIntFunction<? super T> mapper);
-  // TODO LongStream mapToLong(ToLongFunction<? super T> mapper);
-  // TODO DoubleStream mapToDouble(ToDoubleFunction<? super T> mapper);
+  /**
+   * Returns an {@code IntLStream} consisting of the results of applying the given function to the
+   * elements of this lstream.
+   *
+   * <p>This is an intermediate operation.
+   *
+   * @param mapper a function to apply to each element
+   * @return the new lstream
+   */
+  IntLStream mapToInt(ToIntFunction<? super T> mapper);
+
+  /**
+   * Returns a {@code LongLStream} consisting of the results of applying the given function to the
+   * elements of this lstream.
+   *
+   * <p>This is an intermediate operation.
+   *
+   * @param mapper a function to apply to each element
+   * @return the new lstream
+   */
+  LongLStream mapToLong(ToLongFunction<? super T> mapper);
+
+  /**
+   * Returns a {@code DoubleLStream} consisting of the results of applying the given function to the
+   * elements of this lstream.
+   *
+   * <p>This is an intermediate operation.
+   *
+   * @param mapper a function to apply to each element
+   * @return the new lstream
+   */
+  DoubleLStream mapToDouble(ToDoubleFunction<? super T> mapper);
+
   // TODO BooleanStream mapToDouble(Predicate<? super T> mapper); ?
 
   /**
@@ -426,7 +456,6 @@ public interface LStreamApi<T> {
    */
   Optional<T> max(Comparator<? super T> comparator);
 
-  // TODO Add examples of peek that is not executed when sized LStream is implemented
   /**
    * Returns the count of elements in this lstream. This is a special case of a reduction.
    *
@@ -436,7 +465,15 @@ public interface LStreamApi<T> {
    *     computing the count directly from the stream source. In such cases no source elements will
    *     be traversed and no intermediate operations will be evaluated. Behavioral parameters with
    *     side effects, which are strongly discouraged except for harmless cases such as debugging,
-   *     may be affected.
+   *     may be affected. For example, consider the following lstream:
+   *     <pre>{@code
+   * LStream<String> l = LStream.of("A", "B", "C", "D");
+   * long count = l.peek(System.out::println).count();
+   * }</pre>
+   *     <p>The number of elements covered by the lstream source is known and the intermediate
+   *     operation, {@code peek}, does not inject into or remove elements from the lstream. Thus the
+   *     count is the size of the array and there is no need to execute the pipeline and, as a side
+   *     effect, print out the elements.
    * @return the count of elements in this stream
    */
   long count();
@@ -0,0 +1,374 @@
+package cousin.florian;
+
+import cousin.florian.iterator.longs.*;
+import cousin.florian.utils.HeapInteger;
+import cousin.florian.utils.HeapLong;
+import cousin.florian.utils.LongChunkedBuffer;
+import cousin.florian.utils.LongHashSet;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A sequence of primitive {@code long} elements supporting sequential operations. This is the
+ * {@code long} primitive specialization of {@link LStream} : elements are never boxed unless {@link
+ * #boxed()} or {@link #mapToObj(LongFunction)} is called.
+ */
+public abstract class LongLStream implements PrimitiveIterator.OfLong {
+
+  public LongLStream filter(LongPredicate predicate) {
+    return new LongFilterLStream(this, predicate);
+  }
+
+  public LongLStream map(LongUnaryOperator mapper) {
+    return new LongMappingLStream(this, mapper);
+  }
+
+  public <R> LStream<R> mapToObj(LongFunction<? extends R> mapper) {
+    return new LongMapToObjLStream<>(this, mapper);
+  }
+
+  public IntLStream mapToInt(LongToIntFunction mapper) {
+    return new LongMapToIntLStream(this, mapper);
+  }
+
+  public DoubleLStream mapToDouble(LongToDoubleFunction mapper) {
+    return new LongMapToDoubleLStream(this, mapper);
+  }
+
+  public LStream<Long> boxed() {
+    return mapToObj(Long::valueOf);
+  }
+
+  public LongLStream flatMap(LongFunction<? extends LongLStream> mapper) {
+    return new LongFlatMappingLStream(this, mapper);
+  }
+
+  /**
+   * Returns this lstream if its elements are known to be distinct. If they are known to be sorted,
+   * equal elements are consecutive and only the previous element is kept in memory.
+   */
+  public LongLStream distinct() {
+
+    if (isDistinct()) {
+      return this;
+    }
+
+    if (isSorted()) {
+      return new LongSortedDistinctLStream(this);
+    }
+
+    LongHashSet alreadyIteratedElements = new LongHashSet();
+    return filter(alreadyIteratedElements::add);
+  }
+
+  /** Returns this lstream if its elements are known to be sorted. */
+  public LongLStream sorted() {
+    return isSorted() ? this : new LongSortedLStream(this);
+  }
+
+  public LongLStream peek(LongConsumer action) {
+    return new LongPeekLStream(this, action);
+  }
+
+  public LongLStream limit(long maxSize) {
+    return new LongLimitLStream(this, maxSize);
+  }
+
+  public LongLStream skip(long nbToSkip) {
+    requirePositive(nbToSkip);
+    return new LongSkipLStream(this, nbToSkip);
+  }
+
+  protected static void requirePositive(long nbToSkip) throws IllegalArgumentException {
+    if (nbToSkip < 0) {
+      throw new IllegalArgumentException(
+          "nbToSkip is %d but it should be positive".formatted(nbToSkip));
+    }
+  }
+
+  public LongLStream takeWhile(LongPredicate predicate) {
+    return new LongTakeWhileLStream(this, predicate);
+  }
+
+  public LongLStream dropWhile(LongPredicate predicate) {
+    return new LongDropWhileLStream(this, predicate);
+  }
+
+  public void forEach(LongConsumer action) {
+    forEachWhile(
+        value -> {
+          action.accept(value);
+          return true;
+        });
+  }
+
+  @Override
+  public void forEachRemaining(LongConsumer action) {
+    forEach(action);
+  }
+
+  /**
+   * Pushes the remaining elements of this lstream into {@code sink} until the sink returns {@code
+   * false} or there is no more element.
+   *
+   * @see LStream#forEachWhile(Predicate)
+   */
+  public boolean forEachWhile(LongPredicate sink) {
+    while (hasNext()) {
+      if (!sink.test(nextLong())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Pushes the remaining elements of {@code iterator} into {@code sink}, using {@link
+   * #forEachWhile(LongPredicate)} if {@code iterator} is a lstream.
+   */
+  protected static boolean forEachRemainingWhile(
+      PrimitiveIterator.OfLong iterator, LongPredicate sink) {
+
+    if (iterator instanceof LongLStream lStream) {
+      return lStream.forEachWhile(sink);
+    }
+
+    while (iterator.hasNext()) {
+      if (!sink.test(iterator.nextLong())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the exact number of remaining elements of this lstream if it is known without
+   * iterating, or -1 otherwise.
+   */
+  public long knownSize() {
+    return -1;
+  }
+
+  /**
+   * Returns an upper bound of the number of remaining elements of this lstream that is known
+   * without iterating, or {@link Long#MAX_VALUE} if there is none.
+   */
+  public long sizeUpperBound() {
+    long knownSize = knownSize();
+    return knownSize < 0 ? Long.MAX_VALUE : knownSize;
+  }
+
+  /** Returns whether the remaining elements are known to be sorted without iterating. */
+  public boolean isSorted() {
+    return false;
+  }
+
+  /** Returns whether the remaining elements are known to be distinct without iterating. */
+  public boolean isDistinct() {
+    return false;
+  }
+
+  protected static boolean isSortedOf(PrimitiveIterator.OfLong iterator) {
+    return iterator instanceof LongLStream lStream && lStream.isSorted();
+  }
+
+  protected static boolean isDistinctOf(PrimitiveIterator.OfLong iterator) {
+    return iterator instanceof LongLStream lStream && lStream.isDistinct();
+  }
+
+  protected static long knownSizeOf(PrimitiveIterator.OfLong iterator) {
+    return iterator instanceof LongLStream lStream ? lStream.knownSize() : -1;
+  }
+
+  protected static long sizeUpperBoundOf(PrimitiveIterator.OfLong iterator) {
+    return iterator instanceof LongLStream lStream ? lStream.sizeUpperBound() : Long.MAX_VALUE;
+  }
+
+  protected static long sizeUpperBoundOf(
+      PrimitiveIterator.OfLong baseIterator, int nbBufferedElements) {
+    long baseUpperBound = sizeUpperBoundOf(baseIterator);
+    return baseUpperBound > Long.MAX_VALUE - nbBufferedElements
+        ? Long.MAX_VALUE
+        : baseUpperBound + nbBufferedElements;
+  }
+
+  public long[] toArray() {
+
+    long knownSize = knownSize();
+
+    if (knownSize >= 0 && knownSize <= Integer.MAX_VALUE) {
+      long[] elements = new long[(int) knownSize];
+      HeapInteger nextIndex = new HeapInteger();
+      forEach(
+          value -> {
+            elements[nextIndex.value()] = value;
+            nextIndex.add(1);
+          });
+      return elements;
+    }
+
+    LongChunkedBuffer elements = new LongChunkedBuffer();
+    forEach(elements::add);
+    return elements.toArray();
+  }
+
+  public long reduce(long initialValue, LongBinaryOperator accumulator) {
+    long[] currentValue = {initialValue};
+    forEach(value -> currentValue[0] = accumulator.applyAsLong(currentValue[0], value));
+    return currentValue[0];
+  }
+
+  public OptionalLong reduce(LongBinaryOperator accumulator) {
+
+    if (!hasNext()) {
+      return OptionalLong.empty();
+    }
+
+    return OptionalLong.of(reduce(nextLong(), accumulator));
+  }
+
+  public long sum() {
+    return reduce(0, Long::sum);
+  }
+
+  public OptionalLong min() {
+    return isSorted() ? findFirst() : reduce(Math::min);
+  }
+
+  public OptionalLong max() {
+    return isSorted() ? findLast() : reduce(Math::max);
+  }
+
+  public long count() {
+
+    long knownSize = knownSize();
+    if (knownSize >= 0) {
+      return knownSize;
+    }
+
+    HeapLong nbElementsIterated = new HeapLong();
+    forEach(value -> nbElementsIterated.add(1));
+    return nbElementsIterated.value();
+  }
+
+  public OptionalDouble average() {
+    LongSummaryStatistics statistics = summaryStatistics();
+    return statistics.getCount() == 0
+        ? OptionalDouble.empty()
+        : OptionalDouble.of(statistics.getAverage());
+  }
+
+  public LongSummaryStatistics summaryStatistics() {
+    LongSummaryStatistics statistics = new LongSummaryStatistics();
+    forEach(statistics);
+    return statistics;
+  }
+
+  public boolean anyMatch(LongPredicate predicate) {
+    return !forEachWhile(predicate.negate());
+  }
+
+  public boolean allMatch(LongPredicate predicate) {
+    return forEachWhile(predicate);
+  }
+
+  public boolean noneMatch(LongPredicate predicate) {
+    return !anyMatch(predicate);
+  }
+
+  public OptionalLong findFirst() {
+    return hasNext() ? OptionalLong.of(nextLong()) : OptionalLong.empty();
+  }
+
+  public OptionalLong findLast() {
+    return reduce((first, second) -> second);
+  }
+
+  public static LongLStream empty() {
+    return new LongArrayLStream(new long[0]);
+  }
+
+  public static LongLStream of(long... iterationValues) {
+    return new LongArrayLStream(iterationValues);
+  }
+
+  /**
+   * Returns the long elements from {@code start} (inclusive) to {@code endExclusive} by steps of 1.
+   * The range is computed on the fly : skip, limit, count, findLast, toArray, sum and sorted do not
+   * iterate over its elements.
+   */
+  public static LongLStream range(long start, long endExclusive) {
+    return range(start, endExclusive, 1);
+  }
+
+  /**
+   * Returns the long elements {@code start, start + step, ...} strictly before {@code
+   * endExclusive}. A negative step gives a decreasing range.
+   *
+   * @throws IllegalArgumentException if {@code step} is 0 or if the range has more than {@code
+   *     Long.MAX_VALUE} elements
+   */
+  public static LongLStream range(long start, long endExclusive, long step) {
+    return LongRangeLStream.of(start, endExclusive, step, false);
+  }
+
+  public static LongLStream rangeClosed(long start, long endInclusive) {
+    return rangeClosed(start, endInclusive, 1);
+  }
+
+  public static LongLStream rangeClosed(long start, long endInclusive, long step) {
+    return LongRangeLStream.of(start, endInclusive, step, true);
+  }
+
+  public static LongLStream from(PrimitiveIterator.OfLong iterator) {
+    return new LongSimpleLStream(iterator);
+  }
+
+  public static LongLStream.Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * A mutable builder of {@link LongLStream}, storing long elements in chunks of growing size so
+   * that adding an element never copies the previous ones.
+   *
+   * @see LStream.Builder
+   */
+  public static class Builder implements LongConsumer {
+
+    private final LongChunkedBuffer values = new LongChunkedBuffer();
+    private boolean built = false;
+
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
+    @Override
+    public void accept(long t) {
+      checkNotBuilt();
+      values.add(t);
+    }
+
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
+    public LongLStream.Builder add(long t) {
+      accept(t);
+      return this;
+    }
+
+    /**
+     * @throws IllegalStateException if the builder has already been built
+     */
+    public LongLStream build() {
+      checkNotBuilt();
+      built = true;
+      return new LongBufferLStream(values);
+    }
+
+    private void checkNotBuilt() {
+      if (built) {
+        throw new IllegalStateException("The builder has already been built");
+      }
+    }
+  }
+}
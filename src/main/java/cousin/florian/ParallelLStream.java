@@ -0,0 +1,165 @@
+package cousin.florian;
+
+import cousin.florian.collector.LCollector;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.*;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An opt-in parallel view of a random-access source, created by {@link LStream#parallel()}.
+ *
+ * <p>The source is split into index ranges, each range goes through the stateless stages ({@link
+ * #filter}, {@link #map}, {@link #flatMap}, {@link #peek}) on its own {@link LStream}, and the
+ * chunk results are merged back in encounter order. Stateful operations such as sorting or limiting
+ * are not available : call {@link #sequential()} to continue sequentially.
+ *
+ * <p>Unlike {@link LStream}, reductions need a combiner since chunk results have to be merged : an
+ * {@link LCollector} can only be used if it has one.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParallelLStream<T> {
+
+  /** Number of chunks per thread of the pool, so that uneven chunks are balanced. */
+  private static final int NB_CHUNKS_PER_THREAD = 4;
+
+  private final int size;
+  private final ChunkSource<T> chunkSource;
+  private final ForkJoinPool pool;
+
+  @FunctionalInterface
+  private interface ChunkSource<T> {
+    LStream<T> open(int fromIndex, int toIndex);
+  }
+
+  public static <T> ParallelLStream<T> from(List<T> source, ForkJoinPool pool) {
+    List<T> randomAccessSource = source instanceof RandomAccess ? source : new ArrayList<>(source);
+    return new ParallelLStream<>(
+        randomAccessSource.size(),
+        (fromIndex, toIndex) -> LStream.from(randomAccessSource.subList(fromIndex, toIndex)),
+        pool);
+  }
+
+  public ParallelLStream<T> filter(Predicate<? super T> predicate) {
+    return withStage(lStream -> lStream.filter(predicate));
+  }
+
+  public <R> ParallelLStream<R> map(Function<? super T, ? extends R> mapper) {
+    return withStage(lStream -> lStream.map(mapper));
+  }
+
+  public <R> ParallelLStream<R> flatMap(
+      Function<? super T, ? extends LStreamApi<? extends R>> mapper) {
+    return withStage(lStream -> lStream.flatMap(mapper));
+  }
+
+  /** The action may be called concurrently from several threads. */
+  public ParallelLStream<T> peek(Consumer<? super T> action) {
+    return withStage(lStream -> lStream.peek(action));
+  }
+
+  private <R> ParallelLStream<R> withStage(Function<LStream<T>, LStream<R>> stage) {
+    return new ParallelLStream<>(
+        size, (fromIndex, toIndex) -> stage.apply(chunkSource.open(fromIndex, toIndex)), pool);
+  }
+
+  /** Returns the elements as a sequential {@link LStream}, computed lazily in the caller thread. */
+  public LStream<T> sequential() {
+    return chunkSource.open(0, size);
+  }
+
+  /** The action may be called concurrently from several threads and in any order. */
+  public void forEach(Consumer<? super T> action) {
+    evaluateChunks(
+        lStream -> {
+          lStream.forEach(action);
+          return null;
+        });
+  }
+
+  public List<T> toList() {
+
+    List<List<T>> chunkLists = evaluateChunks(LStream::toList);
+
+    int nbElements = 0;
+    for (List<T> chunkList : chunkLists) {
+      nbElements += chunkList.size();
+    }
+
+    List<T> elements = new ArrayList<>(nbElements);
+    chunkLists.forEach(elements::addAll);
+    return Collections.unmodifiableList(elements);
+  }
+
+  public long count() {
+
+    long count = 0;
+    for (long chunkCount : evaluateChunks(LStream::count)) {
+      count += chunkCount;
+    }
+    return count;
+  }
+
+  /**
+   * Reduces each chunk from {@code identity} with {@code accumulator}, then merges the chunk
+   * results in encounter order with {@code combiner}.
+   */
+  public <R> R reduce(
+      R identity, BiFunction<R, ? super T, R> accumulator, BinaryOperator<R> combiner) {
+
+    List<R> chunkResults = evaluateChunks(lStream -> lStream.reduce(identity, accumulator::apply));
+
+    return LStream.from(chunkResults).reduce(identity, combiner);
+  }
+
+  /** The accumulator must be associative. */
+  public Optional<T> reduce(BinaryOperator<T> accumulator) {
+    return LStream.from(evaluateChunks(lStream -> lStream.reduce(accumulator)))
+        .filter(Optional::isPresent)
+        .map(Optional::get)
+        .reduce(accumulator);
+  }
+
+  /**
+   * Accumulates each chunk in its own container, then merges the containers in encounter order into
+   * the first one with {@code combiner}.
+   */
+  public <R> R collect(
+      Supplier<R> supplier, BiConsumer<R, ? super T> accumulator, BiConsumer<R, R> combiner) {
+
+    List<R> chunkResults = evaluateChunks(lStream -> lStream.collect(supplier, accumulator));
+
+    if (chunkResults.isEmpty()) {
+      return supplier.get();
+    }
+
+    R result = chunkResults.getFirst();
+    LStream.from(chunkResults).skip(1).forEach(chunkResult -> combiner.accept(result, chunkResult));
+    return result;
+  }
+
+  /**
+   * @throws IllegalStateException if {@code collector} has no combiner
+   */
+  public <R> R collect(LCollector<? super T, ?, R> collector) {
+    return collector.collect(this);
+  }
+
+  private <R> List<R> evaluateChunks(Function<LStream<T>, R> chunkEvaluation) {
+
+    int nbChunks = (int) Math.min(size, (long) pool.getParallelism() * NB_CHUNKS_PER_THREAD);
+
+    List<ForkJoinTask<R>> tasks = new ArrayList<>(nbChunks);
+    for (int chunkIndex = 0; chunkIndex < nbChunks; chunkIndex++) {
+      int fromIndex = (int) ((long) size * chunkIndex / nbChunks);
+      int toIndex = (int) ((long) size * (chunkIndex + 1) / nbChunks);
+      tasks.add(pool.submit(() -> chunkEvaluation.apply(chunkSource.open(fromIndex, toIndex))));
+    }
+
+    List<R> chunkResults = new ArrayList<>(nbChunks);
+    tasks.forEach(task -> chunkResults.add(task.join()));
+    return chunkResults;
+  }
+}
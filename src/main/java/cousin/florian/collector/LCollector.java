@@ -2,29 +2,124 @@ package cousin.florian.collector;
 
 import static lombok.AccessLevel.PACKAGE;
 
+import cousin.florian.LStream;
 import cousin.florian.LStreamApi;
+import cousin.florian.ParallelLStream;
+import cousin.florian.utils.HeapInteger;
+import cousin.florian.utils.HeapReference;
 import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 
 // TODO Add a LCollectorApi ?
 @Getter(PACKAGE)
-@RequiredArgsConstructor(access = PACKAGE)
+@AllArgsConstructor(access = PACKAGE)
 public class LCollector<T, A, R> {
 
   private final Supplier<A> supplier;
   // TODO Use BiFunction<A, ? super T, A> ?
   private final BiConsumer<A, ? super T> accumulator;
   private final Function<A, R> finisher;
+  private final @Nullable IntFunction<A> sizedSupplier;
+  private final @Nullable BinaryOperator<A> combiner;
+
+  LCollector(Supplier<A> supplier, BiConsumer<A, ? super T> accumulator, Function<A, R> finisher) {
+    this(supplier, accumulator, finisher, null, null);
+  }
 
   public R collect(LStreamApi<? extends T> lStream) {
-    A currentValue = supplier.get();
+    A currentValue = supply(lStream);
     lStream.forEach(iteratedValue -> accumulator.accept(currentValue, iteratedValue));
     return finisher.apply(currentValue);
   }
 
+  private A supply(LStreamApi<? extends T> lStream) {
+
+    if (sizedSupplier != null && lStream instanceof LStream<? extends T> sizedLStream) {
+      long knownSize = sizedLStream.knownSize();
+      if (knownSize >= 0 && knownSize <= Integer.MAX_VALUE) {
+        return sizedSupplier.apply((int) knownSize);
+      }
+    }
+
+    return supplier.get();
+  }
+
+  /**
+   * Collects the elements of {@code parallelLStream}, accumulating each of its chunks in its own
+   * container and merging the containers in encounter order.
+   *
+   * @throws IllegalStateException if this collector has no combiner
+   */
+  public R collect(ParallelLStream<? extends T> parallelLStream) {
+
+    BinaryOperator<A> requiredCombiner = requireCombiner();
+
+    HeapReference<A> container =
+        parallelLStream.collect(
+            () -> {
+              HeapReference<A> chunkContainer = new HeapReference<>();
+              chunkContainer.value(supplier.get());
+              return chunkContainer;
+            },
+            (chunkContainer, newValue) -> accumulator.accept(chunkContainer.value(), newValue),
+            (container1, container2) ->
+                container1.value(requiredCombiner.apply(container1.value(), container2.value())));
+
+    return finisher.apply(container.value());
+  }
+
+  /**
+   * Collects the elements of {@code lStream} by chunks of {@code chunkSize} elements : each chunk
+   * is accumulated in a new container which is then merged into the result with the combiner, so
+   * that at most one chunk container is alive beside the result.
+   *
+   * @throws IllegalStateException if this collector has no combiner
+   * @throws IllegalArgumentException if {@code chunkSize} is not positive
+   */
+  public R collectChunked(LStream<? extends T> lStream, int chunkSize) {
+
+    BinaryOperator<A> requiredCombiner = requireCombiner();
+
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException(
+          "chunkSize is %d but it should be strictly positive".formatted(chunkSize));
+    }
+
+    A result = null;
+    boolean allPushed = false;
+
+    while (!allPushed && lStream.hasNext()) {
+      A chunkContainer = supplier.get();
+      HeapInteger chunkNbElements = new HeapInteger();
+      allPushed =
+          lStream.forEachWhile(
+              newValue -> {
+                accumulator.accept(chunkContainer, newValue);
+                chunkNbElements.add(1);
+                return chunkNbElements.value() < chunkSize;
+              });
+      result = result == null ? chunkContainer : requiredCombiner.apply(result, chunkContainer);
+    }
+
+    return finisher.apply(result == null ? supplier.get() : result);
+  }
+
+  private BinaryOperator<A> requireCombiner() {
+
+    if (combiner == null) {
+      throw new IllegalStateException(
+          "This collector has no combiner, add one with withCombiner to collect by chunks");
+    }
+
+    return combiner;
+  }
+
   public static <T, R> SimpleLCollector<T, R> of(
       Supplier<R> supplier, BiConsumer<R, ? super T> accumulator) {
     return new SimpleLCollector<>(supplier, accumulator);
@@ -35,12 +130,30 @@ public class LCollector<T, A, R> {
     return new LCollector<>(supplier, accumulator, finisher);
   }
 
+  /**
+   * Returns a collector that creates its accumulation with {@code sizedSupplier} when the number of
+   * elements to collect is known in advance, for example to create a presized collection.
+   */
+  public LCollector<T, A, R> withSizedSupplier(@Nullable IntFunction<A> sizedSupplier) {
+    return new LCollector<>(supplier, accumulator, finisher, sizedSupplier, combiner);
+  }
+
+  /**
+   * Returns a collector that can merge two accumulations with {@code combiner}, which is needed to
+   * collect a {@link ParallelLStream} or to collect by chunks. The combiner may return one of its
+   * arguments after merging the other one into it.
+   */
+  public LCollector<T, A, R> withCombiner(@Nullable BinaryOperator<A> combiner) {
+    return new LCollector<>(supplier, accumulator, finisher, sizedSupplier, combiner);
+  }
+
   protected <U> LCollector<U, A, R> withAccumulator(
       BiConsumer<A, ? super U> overridingAccumulator) {
-    return new LCollector<>(supplier, overridingAccumulator, finisher);
+    return new LCollector<>(supplier, overridingAccumulator, finisher, sizedSupplier, combiner);
   }
 
   protected <S> LCollector<T, A, S> collectingAndThen(Function<R, S> afterFinisher) {
-    return new LCollector<>(supplier, accumulator, finisher.andThen(afterFinisher));
+    return new LCollector<>(
+        supplier, accumulator, finisher.andThen(afterFinisher), sizedSupplier, combiner);
   }
 }
@@ -6,7 +6,6 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.*;
-import org.jetbrains.annotations.Contract;
 
 public final class LCollectors {
 
@@ -16,27 +15,44 @@ public final class LCollectors {
 
   public static <T, C extends Collection<T>> LCollector<T, C, C> toCollection(
       Supplier<C> collectionFactory) {
-    return LCollector.of(collectionFactory, Collection::add);
+    return LCollector.<T, C>of(collectionFactory, Collection::add)
+        .withCombiner(LCollectors::addAllCombiner);
+  }
+
+  private static <T, C extends Collection<T>> C addAllCombiner(C collection1, C collection2) {
+    collection1.addAll(collection2);
+    return collection1;
   }
 
   public static <T> LCollector<T, List<T>, List<T>> toList() {
-    return LCollector.of(ArrayList::new, List::add);
+    return LCollector.<T, List<T>>of(ArrayList::new, List::add)
+        .withSizedSupplier(ArrayList::new)
+        .withCombiner(LCollectors::addAllCombiner);
   }
 
   public static <T> LCollector<T, List<T>, List<T>> toUnmodifiableList() {
-    return LCollector.of(ArrayList::new, List::add, Collections::unmodifiableList);
+    return LCollector.<T, List<T>, List<T>>of(
+            ArrayList::new, List::add, Collections::unmodifiableList)
+        .withSizedSupplier(ArrayList::new)
+        .withCombiner(LCollectors::addAllCombiner);
   }
 
   public static <T> LCollector<T, Set<T>, Set<T>> toSet() {
-    return LCollector.of(HashSet::new, Set::add);
+    return LCollector.<T, Set<T>>of(HashSet::new, Set::add)
+        .withSizedSupplier(HashSet::newHashSet)
+        .withCombiner(LCollectors::addAllCombiner);
   }
 
   public static <T> LCollector<T, Set<T>, Set<T>> toUnmodifiableSet() {
-    return LCollector.of(HashSet::new, Set::add, Collections::unmodifiableSet);
+    return LCollector.<T, Set<T>, Set<T>>of(HashSet::new, Set::add, Collections::unmodifiableSet)
+        .withSizedSupplier(HashSet::newHashSet)
+        .withCombiner(LCollectors::addAllCombiner);
   }
 
   public static LCollector<CharSequence, StringBuilder, String> joining() {
-    return LCollector.of(StringBuilder::new, StringBuilder::append, StringBuilder::toString);
+    return LCollector.<CharSequence, StringBuilder, String>of(
+            StringBuilder::new, StringBuilder::append, StringBuilder::toString)
+        .withCombiner(StringBuilder::append);
   }
 
   public static LCollector<CharSequence, StringJoiner, String> joining(CharSequence delimiter) {
@@ -45,10 +61,11 @@ public final class LCollectors {
 
   public static LCollector<CharSequence, StringJoiner, String> joining(
       CharSequence delimiter, CharSequence prefix, CharSequence suffix) {
-    return LCollector.of(
-        () -> new StringJoiner(delimiter, prefix, suffix),
-        StringJoiner::add,
-        StringJoiner::toString);
+    return LCollector.<CharSequence, StringJoiner, String>of(
+            () -> new StringJoiner(delimiter, prefix, suffix),
+            StringJoiner::add,
+            StringJoiner::toString)
+        .withCombiner(StringJoiner::merge);
   }
 
   public static <T, U, A, R> LCollector<T, A, R> mapping(
@@ -67,7 +84,8 @@ public final class LCollectors {
           LStream<? extends U> flatValues = mapper.apply(newValue);
           flatValues.forEach(flatValue -> downstreamAccumulator.accept(accumulation, flatValue));
         };
-    return downstream.withAccumulator(newAccumulator);
+    // The number of collected values is not the number of elements anymore
+    return downstream.<T>withAccumulator(newAccumulator).withSizedSupplier(null);
   }
 
   public static <T, A, R> LCollector<T, A, R> filtering(
@@ -79,7 +97,8 @@ public final class LCollectors {
             downstreamAccumulator.accept(accumulation, newValue);
           }
         };
-    return downstream.withAccumulator(newAccumulator);
+    // Presizing with the number of elements would allocate for the filtered out ones too
+    return downstream.<T>withAccumulator(newAccumulator).withSizedSupplier(null);
   }
 
   public static <T, A, R, S> LCollector<T, A, S> collectingAndThen(
@@ -89,15 +108,28 @@ public final class LCollectors {
 
   public static <T> LCollector<T, HeapLong, Long> counting() {
     BiConsumer<HeapLong, ? super T> accumulator = (accumulation, newValue) -> accumulation.add(1);
-    return LCollector.of(HeapLong::new, accumulator, HeapLong::value);
+    return LCollector.<T, HeapLong, Long>of(HeapLong::new, accumulator, HeapLong::value)
+        .withCombiner(LCollectors::addHeapLongs);
+  }
+
+  private static HeapLong addHeapLongs(HeapLong heapLong1, HeapLong heapLong2) {
+    heapLong1.add(heapLong2.value());
+    return heapLong1;
   }
 
   public static <T> LCollector<T, HeapReference<T>, Optional<T>> minBy(
       Comparator<? super T> comparator) {
+    BiConsumer<HeapReference<T>, T> accumulator =
+        (previousMin, newValue) -> accumulateMin(comparator, previousMin, newValue);
     return LCollector.of(
-        HeapReference::new,
-        (previousMin, newValue) -> accumulateMin(comparator, previousMin, newValue),
-        atomicMin -> Optional.ofNullable(atomicMin.value()));
+            HeapReference<T>::new, accumulator, atomicMin -> Optional.ofNullable(atomicMin.value()))
+        .withCombiner(
+            (previousMin, otherMin) -> {
+              if (otherMin.value() != null) {
+                accumulator.accept(previousMin, otherMin.value());
+              }
+              return previousMin;
+            });
   }
 
   private static <T> void accumulateMin(
@@ -111,10 +143,17 @@ public final class LCollectors {
 
   public static <T> LCollector<T, HeapReference<T>, Optional<T>> maxBy(
       Comparator<? super T> comparator) {
+    BiConsumer<HeapReference<T>, T> accumulator =
+        (currentMax, newValue) -> accumulateMax(comparator, currentMax, newValue);
     return LCollector.of(
-        HeapReference::new,
-        (currentMax, newValue) -> accumulateMax(comparator, currentMax, newValue),
-        atomicMax -> Optional.ofNullable(atomicMax.value()));
+            HeapReference<T>::new, accumulator, atomicMax -> Optional.ofNullable(atomicMax.value()))
+        .withCombiner(
+            (currentMax, otherMax) -> {
+              if (otherMax.value() != null) {
+                accumulator.accept(currentMax, otherMax.value());
+              }
+              return currentMax;
+            });
   }
 
   private static <T> void accumulateMax(
@@ -128,17 +167,23 @@ public final class LCollectors {
 
   public static <T> LCollector<T, HeapInteger, Integer> summingInt(
       ToIntFunction<? super T> mapper) {
-    return LCollector.of(
-        HeapInteger::new,
-        (currentSum, newValue) -> currentSum.add(mapper.applyAsInt(newValue)),
-        HeapInteger::value);
+    return LCollector.<T, HeapInteger, Integer>of(
+            HeapInteger::new,
+            (currentSum, newValue) -> currentSum.add(mapper.applyAsInt(newValue)),
+            HeapInteger::value)
+        .withCombiner(
+            (currentSum, otherSum) -> {
+              currentSum.add(otherSum.value());
+              return currentSum;
+            });
   }
 
   public static <T> LCollector<T, HeapLong, Long> summingLong(ToLongFunction<? super T> mapper) {
-    return LCollector.of(
-        HeapLong::new,
-        (currentSum, newValue) -> currentSum.add(mapper.applyAsLong(newValue)),
-        HeapLong::value);
+    return LCollector.<T, HeapLong, Long>of(
+            HeapLong::new,
+            (currentSum, newValue) -> currentSum.add(mapper.applyAsLong(newValue)),
+            HeapLong::value)
+        .withCombiner(LCollectors::addHeapLongs);
   }
 
   /**
@@ -149,10 +194,15 @@ public final class LCollectors {
    */
   public static <T> LCollector<T, double[], Double> summingDouble(
       ToDoubleFunction<? super T> mapper) {
-    return LCollector.of(
-        () -> new double[1],
-        (currentSum, newValue) -> currentSum[0] += mapper.applyAsDouble(newValue),
-        sum -> sum[0]);
+    return LCollector.<T, double[], Double>of(
+            () -> new double[1],
+            (currentSum, newValue) -> currentSum[0] += mapper.applyAsDouble(newValue),
+            sum -> sum[0])
+        .withCombiner(
+            (currentSum, otherSum) -> {
+              currentSum[0] += otherSum[0];
+              return currentSum;
+            });
   }
 
   /**
@@ -170,10 +220,11 @@ public final class LCollectors {
    */
   public static <T> LCollector<T, AverageLong, Double> averagingLong(
       ToLongFunction<? super T> mapper) {
-    return LCollector.of(
-        AverageLong::new,
-        (averageLong, newValue) -> averageLong.addValue(mapper.applyAsLong(newValue)),
-        AverageLong::getAverage);
+    return LCollector.<T, AverageLong, Double>of(
+            AverageLong::new,
+            (averageLong, newValue) -> averageLong.addValue(mapper.applyAsLong(newValue)),
+            AverageLong::getAverage)
+        .withCombiner(AverageLong::combine);
   }
 
   /**
@@ -187,24 +238,27 @@ public final class LCollectors {
    */
   public static <T> LCollector<T, AverageDouble, Double> averagingDouble(
       ToDoubleFunction<? super T> mapper) {
-    return LCollector.of(
-        AverageDouble::new,
-        (averageDouble, newValue) -> averageDouble.addValue(mapper.applyAsDouble(newValue)),
-        AverageDouble::getAverage);
+    return LCollector.<T, AverageDouble, Double>of(
+            AverageDouble::new,
+            (averageDouble, newValue) -> averageDouble.addValue(mapper.applyAsDouble(newValue)),
+            AverageDouble::getAverage)
+        .withCombiner(AverageDouble::combine);
   }
 
   public static <T, K, U> LCollector<T, Map<K, U>, Map<K, U>> toMap(
       Function<? super T, ? extends K> keyMapper, Function<? super T, ? extends U> valueMapper) {
-    return LCollector.of(
-        HashMap::new,
-        (currentMap, newValue) -> {
-          K key = keyMapper.apply(newValue);
-          U value = valueMapper.apply(newValue);
-          if (currentMap.containsKey(key)) {
-            throw duplicateKeyException(key, currentMap.get(key), value);
-          }
-          currentMap.put(key, value);
-        });
+    return LCollector.<T, Map<K, U>>of(
+            HashMap::new,
+            (currentMap, newValue) -> {
+              K key = keyMapper.apply(newValue);
+              U value = valueMapper.apply(newValue);
+              if (currentMap.containsKey(key)) {
+                throw duplicateKeyException(key, currentMap.get(key), value);
+              }
+              currentMap.put(key, value);
+            })
+        .withSizedSupplier(HashMap::newHashMap)
+        .withCombiner(LCollectors::putAllWithoutDuplicate);
   }
 
   public static <T, K, U> LCollector<T, Map<K, U>, Map<K, U>> toMap(
@@ -229,7 +283,7 @@ public final class LCollectors {
           currentMap.put(key, value);
         };
 
-    return LCollector.of(mapFactory, accumulator);
+    return LCollector.of(mapFactory, accumulator).withCombiner(LCollectors::putAllWithoutDuplicate);
   }
 
   public static <T, K, U, M extends Map<K, U>> LCollector<T, M, M> toMap(
@@ -245,7 +299,23 @@ public final class LCollectors {
           currentMap.merge(key, value, mergeFunction);
         };
 
-    return LCollector.of(mapFactory, accumulator);
+    return LCollector.of(mapFactory, accumulator)
+        .withCombiner(
+            (currentMap, otherMap) -> {
+              otherMap.forEach((key, value) -> currentMap.merge(key, value, mergeFunction));
+              return currentMap;
+            });
+  }
+
+  private static <K, U, M extends Map<K, U>> M putAllWithoutDuplicate(M currentMap, M otherMap) {
+    otherMap.forEach(
+        (key, value) -> {
+          if (currentMap.containsKey(key)) {
+            throw duplicateKeyException(key, currentMap.get(key), value);
+          }
+          currentMap.put(key, value);
+        });
+    return currentMap;
   }
 
   private static <K, U> IllegalStateException duplicateKeyException(
@@ -280,109 +350,218 @@ public final class LCollectors {
     return toMap(keyMapper, valueMapper, mergeFunction, ConcurrentHashMap::new);
   }
 
-  public static <T, K> LCollector<T, Map<K, LStream.Builder<T>>, Map<K, List<T>>> groupingBy(
+  public static <T, K> LCollector<T, ?, Map<K, List<T>>> groupingBy(
       Function<? super T, ? extends K> classifier) {
     return groupingBy(classifier, toList());
   }
 
-  public static <T, K, A, D> LCollector<T, Map<K, LStream.Builder<T>>, Map<K, D>> groupingBy(
+  public static <T, K, A, D> LCollector<T, ?, Map<K, D>> groupingBy(
       Function<? super T, ? extends K> classifier, LCollector<? super T, A, D> downstream) {
     return groupingBy(classifier, HashMap::new, downstream);
   }
 
-  public static <T, K, D, M extends Map<K, D>>
-      LCollector<T, Map<K, LStream.Builder<T>>, M> groupingBy(
-          Function<? super T, ? extends K> classifier,
-          Supplier<M> mapFactory,
-          LCollector<? super T, ?, D> downstream) {
-
-    Map<K, LStream.Builder<T>> accumulator = new HashMap<>();
-
-    return LCollector.of(
-        () -> accumulator,
-        (accumulation, newValue) -> {
-          K newValueKey = classifier.apply(newValue);
-          mergeNewValue(accumulation, newValueKey, newValue);
-        },
-        accumulation -> finish(mapFactory, downstream, accumulation));
-  }
-
-  private static <T, K> void mergeNewValue(
-      Map<K, LStream.Builder<T>> accumulation, K newValueKey, T newValue) {
-    if (accumulation.containsKey(newValueKey)) {
-      accumulation.get(newValueKey).accept(newValue);
-    } else {
-      accumulation.put(newValueKey, LStream.<T>builder().add(newValue));
-    }
-  }
-
-  private static <T, K, D, M extends Map<K, D>> M finish(
+  public static <T, K, D, M extends Map<K, D>> LCollector<T, ?, M> groupingBy(
+      Function<? super T, ? extends K> classifier,
       Supplier<M> mapFactory,
-      LCollector<? super T, ?, D> downstream,
-      Map<K, LStream.Builder<T>> accumulation) {
-
-    return LStream.from(accumulation.entrySet())
-        .collect(
-            LCollectors.toMap(
-                Map.Entry::getKey,
-                entry -> entry.getValue().build().collect(downstream),
-                mapFactory));
+      LCollector<? super T, ?, D> downstream) {
+    return groupingByWithContainers(classifier, mapFactory, downstream);
   }
 
-  public static <T>
-      LCollector<T, Map<Boolean, LStream.Builder<T>>, Map<Boolean, List<T>>> partitioningBy(
-          Predicate<? super T> predicate) {
+  /**
+   * Accumulates each element directly in the downstream container of its key, so that only one
+   * container per key is kept in memory.
+   *
+   * <p>The map from {@code mapFactory} holds the containers during accumulation, so that keys are
+   * compared the way the final map compares them, and the finished values replace the containers at
+   * the end.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T, K, A, D, M extends Map<K, D>>
+      LCollector<T, Map<K, A>, M> groupingByWithContainers(
+          Function<? super T, ? extends K> classifier,
+          Supplier<M> mapFactory,
+          LCollector<? super T, A, D> downstream) {
+
+    Supplier<A> downstreamSupplier = downstream.supplier();
+    BiConsumer<A, ? super T> downstreamAccumulator = downstream.accumulator();
+    Function<A, D> downstreamFinisher = downstream.finisher();
+    BinaryOperator<A> downstreamCombiner = downstream.combiner();
+
+    BinaryOperator<Map<K, A>> combiner =
+        downstreamCombiner == null
+            ? null
+            : (accumulation, otherAccumulation) -> {
+              otherAccumulation.forEach(
+                  (key, container) -> accumulation.merge(key, container, downstreamCombiner));
+              return accumulation;
+            };
+
+    return LCollector.<T, Map<K, A>, M>of(
+            () -> (Map<K, A>) mapFactory.get(),
+            (accumulation, newValue) -> {
+              K key = classifier.apply(newValue);
+              A container = accumulation.computeIfAbsent(key, newKey -> downstreamSupplier.get());
+              downstreamAccumulator.accept(container, newValue);
+            },
+            accumulation -> {
+              accumulation.replaceAll((key, container) -> (A) downstreamFinisher.apply(container));
+              return (M) accumulation;
+            })
+        .withCombiner(combiner);
+  }
+
+  public static <T> LCollector<T, ?, Map<Boolean, List<T>>> partitioningBy(
+      Predicate<? super T> predicate) {
     return groupingBy(predicate::test);
   }
 
-  public static <T, D, A>
-      LCollector<T, Map<Boolean, LStream.Builder<T>>, Map<Boolean, D>> partitioningBy(
-          Predicate<? super T> predicate, LCollector<? super T, A, D> downstream) {
+  public static <T, D, A> LCollector<T, ?, Map<Boolean, D>> partitioningBy(
+      Predicate<? super T> predicate, LCollector<? super T, A, D> downstream) {
     return groupingBy(predicate::test, downstream);
   }
 
   public static <T> LCollector<T, IntSummaryStatistics, IntSummaryStatistics> summarizingInt(
       ToIntFunction<? super T> mapper) {
-    return LCollector.of(
-        IntSummaryStatistics::new,
-        (statistics, newValue) -> statistics.accept(mapper.applyAsInt(newValue)));
+    return LCollector.<T, IntSummaryStatistics>of(
+            IntSummaryStatistics::new,
+            (statistics, newValue) -> statistics.accept(mapper.applyAsInt(newValue)))
+        .withCombiner(
+            (statistics, otherStatistics) -> {
+              statistics.combine(otherStatistics);
+              return statistics;
+            });
   }
 
   public static <T> LCollector<T, LongSummaryStatistics, LongSummaryStatistics> summarizingLong(
       ToLongFunction<? super T> mapper) {
-    return LCollector.of(
-        LongSummaryStatistics::new,
-        (statistics, newValue) -> statistics.accept(mapper.applyAsLong(newValue)));
+    return LCollector.<T, LongSummaryStatistics>of(
+            LongSummaryStatistics::new,
+            (statistics, newValue) -> statistics.accept(mapper.applyAsLong(newValue)))
+        .withCombiner(
+            (statistics, otherStatistics) -> {
+              statistics.combine(otherStatistics);
+              return statistics;
+            });
   }
 
   public static <T>
       LCollector<T, DoubleSummaryStatistics, DoubleSummaryStatistics> summarizingDouble(
           ToDoubleFunction<? super T> mapper) {
-    return LCollector.of(
-        DoubleSummaryStatistics::new,
-        (statistics, newValue) -> statistics.accept(mapper.applyAsDouble(newValue)));
+    return LCollector.<T, DoubleSummaryStatistics>of(
+            DoubleSummaryStatistics::new,
+            (statistics, newValue) -> statistics.accept(mapper.applyAsDouble(newValue)))
+        .withCombiner(
+            (statistics, otherStatistics) -> {
+              statistics.combine(otherStatistics);
+              return statistics;
+            });
   }
 
-  public static <T, A1, R1, R2, R> LCollector<T, A1, R> teeing(
-      LCollector<? super T, A1, R1> downstream1,
+  public static <T, R1, R2, R> LCollector<T, ?, R> teeing(
+      LCollector<? super T, ?, R1> downstream1,
       LCollector<? super T, ?, R2> downstream2,
       BiFunction<? super R1, ? super R2, R> merger) {
+    return teeingWithContainers(downstream1, downstream2, merger);
+  }
 
-    LStream.Builder<T> builderForLStream2 = LStream.builder();
-
-    UnaryOperator<T> acceptValueInBuilder = t -> acceptValueInBuilder(t, builderForLStream2);
+  /** Accumulates each element in both downstream containers, in a single pass. */
+  private static <T, A1, A2, R1, R2, R> LCollector<T, Teeing<A1, A2>, R> teeingWithContainers(
+      LCollector<? super T, A1, R1> downstream1,
+      LCollector<? super T, A2, R2> downstream2,
+      BiFunction<? super R1, ? super R2, R> merger) {
 
-    return mapping(acceptValueInBuilder, downstream1)
-        .collectingAndThen(
-            r1 -> {
-              R2 r2 = builderForLStream2.build().collect(downstream2);
-              return merger.apply(r1, r2);
-            });
-  }
+    BiConsumer<A1, ? super T> accumulator1 = downstream1.accumulator();
+    BiConsumer<A2, ? super T> accumulator2 = downstream2.accumulator();
+    BinaryOperator<A1> combiner1 = downstream1.combiner();
+    BinaryOperator<A2> combiner2 = downstream2.combiner();
+
+    BinaryOperator<Teeing<A1, A2>> combiner =
+        combiner1 == null || combiner2 == null
+            ? null
+            : (teeing, otherTeeing) ->
+                new Teeing<>(
+                    combiner1.apply(teeing.container1(), otherTeeing.container1()),
+                    combiner2.apply(teeing.container2(), otherTeeing.container2()));
+
+    return LCollector.<T, Teeing<A1, A2>, R>of(
+            () -> new Teeing<>(downstream1.supplier().get(), downstream2.supplier().get()),
+            (teeing, newValue) -> {
+              accumulator1.accept(teeing.container1(), newValue);
+              accumulator2.accept(teeing.container2(), newValue);
+            },
+            teeing ->
+                merger.apply(
+                    downstream1.finisher().apply(teeing.container1()),
+                    downstream2.finisher().apply(teeing.container2())))
+        .withCombiner(combiner);
+  }
+
+  private record Teeing<A1, A2>(A1 container1, A2 container2) {}
 
-  @Contract("_, _ -> param1")
-  private static <T> T acceptValueInBuilder(T t, LStream.Builder<T> builder) {
-    builder.accept(t);
-    return t;
+  /**
+   * Returns a collector that feeds each element to all {@code downstreams} in a single pass, then
+   * merges their results, in the order of {@code downstreams}, with {@code merger}.
+   *
+   * <p>For example, the following computes the minimum, maximum and count of an {@link LStream} in
+   * one traversal :
+   *
+   * <pre>{@code
+   * lStream.collect(
+   *     LCollectors.teeing(
+   *         List.of(minBy(comparator), maxBy(comparator), counting()), results -> ...));
+   * }</pre>
+   */
+  @SuppressWarnings("unchecked")
+  public static <T, R, U> LCollector<T, ?, U> teeing(
+      List<? extends LCollector<? super T, ?, ? extends R>> downstreams,
+      Function<? super List<R>, ? extends U> merger) {
+
+    // Downstream containers have different types, they are stored in an Object array
+    List<LCollector<? super T, Object, ? extends R>> collectors =
+        List.copyOf((List<LCollector<? super T, Object, ? extends R>>) (List<?>) downstreams);
+    int nbCollectors = collectors.size();
+
+    List<Supplier<Object>> suppliers = LStream.from(collectors).map(LCollector::supplier).toList();
+    List<BiConsumer<Object, ? super T>> accumulators =
+        LStream.from(collectors)
+            .<BiConsumer<Object, ? super T>>map(LCollector::accumulator)
+            .toList();
+    List<Function<Object, ? extends R>> finishers =
+        LStream.from(collectors).<Function<Object, ? extends R>>map(LCollector::finisher).toList();
+    List<BinaryOperator<Object>> combiners =
+        LStream.from(collectors).map(LCollector::combiner).toList();
+
+    BinaryOperator<Object[]> combiner =
+        combiners.contains(null)
+            ? null
+            : (containers, otherContainers) -> {
+              for (int index = 0; index < nbCollectors; index++) {
+                containers[index] =
+                    combiners.get(index).apply(containers[index], otherContainers[index]);
+              }
+              return containers;
+            };
+
+    return LCollector.<T, Object[], U>of(
+            () -> {
+              Object[] containers = new Object[nbCollectors];
+              for (int index = 0; index < nbCollectors; index++) {
+                containers[index] = suppliers.get(index).get();
+              }
+              return containers;
+            },
+            (containers, newValue) -> {
+              for (int index = 0; index < nbCollectors; index++) {
+                accumulators.get(index).accept(containers[index], newValue);
+              }
+            },
+            containers -> {
+              List<R> results = new ArrayList<>(nbCollectors);
+              for (int index = 0; index < nbCollectors; index++) {
+                results.add(finishers.get(index).apply(containers[index]));
+              }
+              return merger.apply(Collections.unmodifiableList(results));
+            })
+        .withCombiner(combiner);
   }
 }
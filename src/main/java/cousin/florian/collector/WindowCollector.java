@@ -0,0 +1,50 @@
+package cousin.florian.collector;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+
+/**
+ * An incremental aggregation over a sliding window : elements entering the window are added to the
+ * accumulation and elements leaving it are removed, so that each window is not aggregated from
+ * scratch.
+ *
+ * <p>The finisher is called for each window and must not modify the accumulation.
+ *
+ * @see cousin.florian.LStream#windowAggregate(int, WindowCollector)
+ */
+@AllArgsConstructor(access = PRIVATE)
+public class WindowCollector<T, A, R> {
+
+  private final Supplier<A> supplier;
+  private final BiConsumer<A, ? super T> adder;
+  private final BiConsumer<A, ? super T> remover;
+  private final Function<A, R> finisher;
+
+  public static <T, A, R> WindowCollector<T, A, R> of(
+      Supplier<A> supplier,
+      BiConsumer<A, ? super T> adder,
+      BiConsumer<A, ? super T> remover,
+      Function<A, R> finisher) {
+    return new WindowCollector<>(supplier, adder, remover, finisher);
+  }
+
+  public A supply() {
+    return supplier.get();
+  }
+
+  public void add(A accumulation, T element) {
+    adder.accept(accumulation, element);
+  }
+
+  public void remove(A accumulation, T element) {
+    remover.accept(accumulation, element);
+  }
+
+  public R finish(A accumulation) {
+    return finisher.apply(accumulation);
+  }
+}
@@ -0,0 +1,80 @@
+package cousin.florian.collector;
+
+import cousin.florian.utils.AverageLong;
+import cousin.florian.utils.CompensatedSum;
+import cousin.florian.utils.HeapLong;
+import cousin.florian.utils.MonotonicDeque;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/** Common {@link WindowCollector}s, each one updated in amortized constant time per element. */
+public final class WindowCollectors {
+
+  private WindowCollectors() {
+    throw new IllegalStateException("This is a utility class.");
+  }
+
+  public static <T> WindowCollector<T, HeapLong, Long> counting() {
+    return WindowCollector.of(
+        HeapLong::new,
+        (count, element) -> count.add(1),
+        (count, element) -> count.add(-1),
+        HeapLong::value);
+  }
+
+  public static <T> WindowCollector<T, HeapLong, Long> summingLong(
+      ToLongFunction<? super T> mapper) {
+    return WindowCollector.of(
+        HeapLong::new,
+        (sum, element) -> sum.add(mapper.applyAsLong(element)),
+        (sum, element) -> sum.add(-mapper.applyAsLong(element)),
+        HeapLong::value);
+  }
+
+  /** The sum is compensated, so that rounding errors do not accumulate as the window slides. */
+  public static <T> WindowCollector<T, CompensatedSum, Double> summingDouble(
+      ToDoubleFunction<? super T> mapper) {
+    return WindowCollector.of(
+        CompensatedSum::new,
+        (sum, element) -> sum.add(mapper.applyAsDouble(element)),
+        (sum, element) -> sum.remove(mapper.applyAsDouble(element)),
+        CompensatedSum::sum);
+  }
+
+  public static <T> WindowCollector<T, AverageLong, Double> averagingLong(
+      ToLongFunction<? super T> mapper) {
+    return WindowCollector.of(
+        AverageLong::new,
+        (average, element) -> average.addValue(mapper.applyAsLong(element)),
+        (average, element) -> average.removeValue(mapper.applyAsLong(element)),
+        AverageLong::getAverage);
+  }
+
+  /** The sum is compensated, so that rounding errors do not accumulate as the window slides. */
+  public static <T> WindowCollector<T, CompensatedSum, Double> averagingDouble(
+      ToDoubleFunction<? super T> mapper) {
+    return WindowCollector.of(
+        CompensatedSum::new,
+        (sum, element) -> sum.add(mapper.applyAsDouble(element)),
+        (sum, element) -> sum.remove(mapper.applyAsDouble(element)),
+        CompensatedSum::average);
+  }
+
+  /** Elements must not be null. */
+  public static <T> WindowCollector<T, MonotonicDeque<T>, Optional<T>> minBy(
+      Comparator<? super T> comparator) {
+    return WindowCollector.of(
+        () -> new MonotonicDeque<>(comparator),
+        MonotonicDeque::add,
+        MonotonicDeque::remove,
+        deque -> Optional.ofNullable(deque.min()));
+  }
+
+  /** Elements must not be null. */
+  public static <T> WindowCollector<T, MonotonicDeque<T>, Optional<T>> maxBy(
+      Comparator<? super T> comparator) {
+    return minBy(comparator.reversed());
+  }
+}
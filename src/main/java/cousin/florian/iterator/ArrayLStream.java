@@ -1,7 +1,11 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
+import cousin.florian.ParallelLStream;
+import cousin.florian.sort.ParallelSort;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.Nullable;
 
@@ -13,6 +17,7 @@ public class ArrayLStream<T> extends LStream<T> {
 
   private final T[] iterationObjects;
   private int nextIndex = 0;
+  private @Nullable Comparator<? super T> sortComparator = null;
 
   @Override
   public boolean hasNext() {
@@ -29,6 +34,16 @@ public class ArrayLStream<T> extends LStream<T> {
     return iterationObjects[nextIndex++];
   }
 
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+    while (nextIndex < iterationObjects.length) {
+      if (!sink.test(iterationObjects[nextIndex++])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public ArrayLStream<T> skip(long nbToSkip) {
     requirePositive(nbToSkip);
@@ -57,10 +72,48 @@ public class ArrayLStream<T> extends LStream<T> {
       return LStream.empty();
     }
 
+    if (isSortedBy(comparator)) {
+      return this;
+    }
+
     Arrays.sort(iterationObjects, nextIndex, iterationObjects.length, comparator);
+    sortComparator = naturalOrderIfNull(comparator);
     return this;
   }
 
+  @Override
+  public LStream<T> sortedInParallel(
+      @Nullable Comparator<? super T> comparator, ParallelSort parallelSort) {
+
+    if (!hasNext()) {
+      return LStream.empty();
+    }
+
+    if (isSortedBy(comparator)) {
+      return this;
+    }
+
+    parallelSort.sort(iterationObjects, nextIndex, iterationObjects.length, comparator);
+    sortComparator = naturalOrderIfNull(comparator);
+    return this;
+  }
+
+  /** Returns views of the remaining elements, which are consumed. */
+  @Override
+  public LStream<List<T>> chunk(int size) {
+
+    requireChunkSize(size);
+
+    if (!hasNext()) {
+      return LStream.empty();
+    }
+
+    List<T> remainingElements =
+        Arrays.asList(iterationObjects).subList(nextIndex, iterationObjects.length);
+    nextIndex = iterationObjects.length;
+    return new ListRandomAccessLStream<>(remainingElements).chunk(size);
+  }
+
   @Override
   public List<T> toList() {
 
@@ -73,11 +126,29 @@ public class ArrayLStream<T> extends LStream<T> {
     return Collections.unmodifiableList(remainingElements);
   }
 
+  @Override
+  public ParallelLStream<T> parallel(ForkJoinPool pool) {
+
+    if (!hasNext()) {
+      return LStream.<T>empty().parallel(pool);
+    }
+
+    List<T> remainingElements =
+        Arrays.asList(iterationObjects).subList(nextIndex, iterationObjects.length);
+    nextIndex = iterationObjects.length;
+    return ParallelLStream.from(remainingElements, pool);
+  }
+
   @Override
   public long count() {
     return Math.max(0, iterationObjects.length - nextIndex);
   }
 
+  @Override
+  public long knownSize() {
+    return count();
+  }
+
   @Override
   public Optional<T> findLast() {
 
@@ -89,4 +160,15 @@ public class ArrayLStream<T> extends LStream<T> {
 
     return Optional.empty();
   }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return sortComparator;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Comparator<? super T> naturalOrderIfNull(
+      @Nullable Comparator<? super T> comparator) {
+    return comparator == null ? (Comparator<? super T>) Comparator.naturalOrder() : comparator;
+  }
 }
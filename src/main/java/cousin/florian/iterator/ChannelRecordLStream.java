@@ -0,0 +1,209 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads binary records from a blocking channel into a reused direct buffer of {@code readAheadSize}
+ * bytes, grown if a record does not fit in it. Records either have a fixed size, or are prefixed by
+ * their size as a big-endian int.
+ *
+ * <p>The same {@link ByteBuffer} is returned for all records, as a flyweight view of the buffer :
+ * its position is at the start of the current record and its limit at its end. It is only valid
+ * until the next call to {@link #hasNext()} or {@link #next()}, so that it must be mapped to a
+ * value before reaching a stage that buffers elements.
+ *
+ * <p>The channel is not closed. I/O errors and truncated records are thrown as {@link
+ * UncheckedIOException}.
+ */
+public class ChannelRecordLStream extends LStream<ByteBuffer> {
+
+  public static final int DEFAULT_READ_AHEAD_SIZE = 1 << 16;
+
+  private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+  private final ReadableByteChannel channel;
+
+  /** Size of every record, or -1 if records are prefixed by their size */
+  private final int recordSize;
+
+  private ByteBuffer buffer;
+  private ByteBuffer recordView;
+  private int readIndex = 0;
+  private int writeIndex = 0;
+  private boolean channelIsEnded = false;
+
+  private boolean recordIsFound = false;
+  private int recordStart;
+  private int recordLength;
+
+  private ChannelRecordLStream(ReadableByteChannel channel, int recordSize, int readAheadSize) {
+
+    if (readAheadSize <= 0) {
+      throw new IllegalArgumentException(
+          "readAheadSize is %d but it should be strictly positive".formatted(readAheadSize));
+    }
+
+    this.channel = channel;
+    this.recordSize = recordSize;
+    this.buffer = ByteBuffer.allocateDirect(Math.max(readAheadSize, recordSize));
+    this.recordView = buffer.duplicate();
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code recordSize} or {@code readAheadSize} is not strictly
+   *     positive
+   */
+  public static ChannelRecordLStream ofFixedSize(
+      ReadableByteChannel channel, int recordSize, int readAheadSize) {
+
+    if (recordSize <= 0) {
+      throw new IllegalArgumentException(
+          "recordSize is %d but it should be strictly positive".formatted(recordSize));
+    }
+
+    return new ChannelRecordLStream(channel, recordSize, readAheadSize);
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code readAheadSize} is not strictly positive
+   */
+  public static ChannelRecordLStream ofLengthPrefixed(
+      ReadableByteChannel channel, int readAheadSize) {
+    return new ChannelRecordLStream(channel, -1, readAheadSize);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return recordIsFound || findRecord();
+  }
+
+  @Override
+  public ByteBuffer next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more records in the channel.");
+    }
+
+    recordIsFound = false;
+    readIndex = recordStart + recordLength;
+    recordView.clear();
+    recordView.limit(recordStart + recordLength).position(recordStart);
+    return recordView;
+  }
+
+  /** For a file channel of fixed size records, the remaining records are computed from its size. */
+  @Override
+  public long sizeUpperBound() {
+
+    if (recordSize < 0 || !(channel instanceof FileChannel fileChannel)) {
+      return Long.MAX_VALUE;
+    }
+
+    try {
+      long nbRemainingBytes =
+          Math.max(0, fileChannel.size() - fileChannel.position()) + writeIndex - readIndex;
+      return nbRemainingBytes / recordSize;
+    } catch (IOException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private boolean findRecord() {
+
+    int headerSize = recordSize < 0 ? LENGTH_PREFIX_SIZE : recordSize;
+    if (!fill(headerSize)) {
+      return false;
+    }
+
+    if (recordSize >= 0) {
+      recordStart = readIndex;
+      recordLength = recordSize;
+      recordIsFound = true;
+      return true;
+    }
+
+    int length = buffer.getInt(readIndex);
+    if (length < 0 || length > Integer.MAX_VALUE - LENGTH_PREFIX_SIZE) {
+      throw new UncheckedIOException(
+          new IOException("Invalid record length %d in the channel".formatted(length)));
+    }
+
+    if (!fill(LENGTH_PREFIX_SIZE + length)) {
+      throw truncatedRecord();
+    }
+
+    // Filling may have moved the record to the beginning of the buffer
+    recordStart = readIndex + LENGTH_PREFIX_SIZE;
+    recordLength = length;
+    recordIsFound = true;
+    return true;
+  }
+
+  /**
+   * Reads from the channel until at least {@code nbBytes} bytes are available from {@code
+   * readIndex}.
+   *
+   * @return false if the channel ended before any byte is available
+   */
+  private boolean fill(int nbBytes) {
+
+    if (writeIndex - readIndex >= nbBytes) {
+      return true;
+    }
+
+    makeRoom(nbBytes);
+
+    try {
+      while (!channelIsEnded && writeIndex - readIndex < nbBytes) {
+        buffer.limit(buffer.capacity()).position(writeIndex);
+        channelIsEnded = channel.read(buffer) < 0;
+        writeIndex = buffer.position();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read records from the channel", e);
+    }
+
+    if (writeIndex - readIndex >= nbBytes) {
+      return true;
+    }
+
+    if (writeIndex > readIndex) {
+      throw truncatedRecord();
+    }
+
+    return false;
+  }
+
+  /** Moves available bytes to the beginning of the buffer, or grows it if it is too small. */
+  private void makeRoom(int nbBytes) {
+
+    if (buffer.capacity() - readIndex >= nbBytes) {
+      return;
+    }
+
+    buffer.limit(writeIndex).position(readIndex);
+    if (buffer.capacity() >= nbBytes) {
+      buffer.compact();
+    } else {
+      ByteBuffer grownBuffer = ByteBuffer.allocateDirect(Math.max(nbBytes, 2 * buffer.capacity()));
+      grownBuffer.put(buffer);
+      buffer = grownBuffer;
+      recordView = buffer.duplicate();
+    }
+
+    writeIndex -= readIndex;
+    readIndex = 0;
+  }
+
+  private static UncheckedIOException truncatedRecord() {
+    return new UncheckedIOException(
+        new EOFException("The channel ended in the middle of a record"));
+  }
+}
@@ -0,0 +1,110 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongSupplier;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Groups consecutive elements of {@code baseIterator} into lists of {@code size} elements, the last
+ * one possibly smaller.
+ *
+ * <p>If {@code nanoClock} is not null, a list is also ended once {@code maxNanos} nanoseconds have
+ * passed since its first element. Time is checked when an element is added : an element that takes
+ * long to come delays the end of the list.
+ *
+ * <p>If {@code reuseList}, the same list is cleared and returned for every chunk, so that it is
+ * only valid until the next call to {@link #next()}.
+ */
+public class ChunkingLStream<T> extends LStream<List<T>> {
+
+  private final Iterator<T> baseIterator;
+  private final int size;
+  private final @Nullable LongSupplier nanoClock;
+  private final long maxNanos;
+  private final @Nullable ArrayList<T> reusedList;
+
+  public ChunkingLStream(
+      Iterator<T> baseIterator,
+      int size,
+      @Nullable LongSupplier nanoClock,
+      long maxNanos,
+      boolean reuseList) {
+    requireChunkSize(size);
+    this.baseIterator = baseIterator;
+    this.size = size;
+    this.nanoClock = nanoClock;
+    this.maxNanos = maxNanos;
+    this.reusedList = reuseList ? new ArrayList<>(chunkCapacity()) : null;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public List<T> next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements to chunk.");
+    }
+
+    List<T> chunk;
+    if (reusedList == null) {
+      chunk = new ArrayList<>(chunkCapacity());
+    } else {
+      reusedList.clear();
+      chunk = reusedList;
+    }
+
+    if (nanoClock == null) {
+      forEachRemainingWhile(baseIterator, element -> chunk.add(element) && chunk.size() < size);
+    } else {
+      long start = nanoClock.getAsLong();
+      forEachRemainingWhile(
+          baseIterator,
+          element ->
+              chunk.add(element)
+                  && chunk.size() < size
+                  && nanoClock.getAsLong() - start < maxNanos);
+    }
+
+    return chunk;
+  }
+
+  @Override
+  public long knownSize() {
+
+    if (nanoClock != null) {
+      return -1;
+    }
+
+    long baseKnownSize = knownSizeOf(baseIterator);
+    return baseKnownSize < 0 ? -1 : ceilDivide(baseKnownSize);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+
+    long baseSizeUpperBound = sizeUpperBoundOf(baseIterator);
+
+    // A chunk ended by time can contain a single element
+    if (nanoClock != null || baseSizeUpperBound == Long.MAX_VALUE) {
+      return baseSizeUpperBound;
+    }
+
+    return ceilDivide(baseSizeUpperBound);
+  }
+
+  private long ceilDivide(long nbElements) {
+    return Math.ceilDiv(nbElements, size);
+  }
+
+  private int chunkCapacity() {
+    return (int) Math.min(size, sizeUpperBoundOf(baseIterator));
+  }
+}
@@ -0,0 +1,199 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import cousin.florian.exception.SeveralElementsException;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Applies {@code mapper} on virtual threads, to at most {@code maxInFlight} elements at the same
+ * time. The elements of {@code baseIterator} are pulled by the consumer thread as results are
+ * consumed.
+ *
+ * <p>If {@code ordered}, results are returned in encounter order, otherwise as soon as they are
+ * computed. The first failure of {@code mapper} is thrown by the consumer, even if results before
+ * it are not computed yet, and cancels the other computations. They are also cancelled by {@link
+ * #cancel()}, and once {@link #findFirst()} or {@link #findOne()} returns.
+ */
+public class ConcurrentMappingLStream<T, R> extends LStream<R> {
+
+  private final Iterator<T> baseIterator;
+  private final Function<? super T, ? extends R> mapper;
+  private final int maxInFlight;
+  private final boolean ordered;
+
+  /** Computations in encounter order */
+  private final Deque<MappingTask> inFlight;
+
+  private final BlockingQueue<MappingTask> completions = new LinkedBlockingQueue<>();
+  private boolean isCancelled = false;
+
+  public ConcurrentMappingLStream(
+      Iterator<T> baseIterator,
+      Function<? super T, ? extends R> mapper,
+      int maxInFlight,
+      boolean ordered) {
+
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException(
+          "maxInFlight is %d but it should be strictly positive".formatted(maxInFlight));
+    }
+
+    this.baseIterator = baseIterator;
+    this.mapper = mapper;
+    this.maxInFlight = maxInFlight;
+    this.ordered = ordered;
+    this.inFlight = new ArrayDeque<>(maxInFlight);
+  }
+
+  private class MappingTask extends FutureTask<R> {
+
+    private MappingTask(T element) {
+      super(() -> mapper.apply(element));
+    }
+
+    @Override
+    protected void done() {
+      completions.add(this);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    if (isCancelled) {
+      return false;
+    }
+
+    startComputations();
+    return !inFlight.isEmpty();
+  }
+
+  @Override
+  public R next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements to map.");
+    }
+
+    MappingTask nextTask = ordered ? awaitFirst() : awaitAny();
+    inFlight.remove(nextTask);
+    if (ordered) {
+      completions.remove(nextTask);
+    }
+    return nextTask.resultNow();
+  }
+
+  /** Cancels the other computations once the first result is taken. */
+  @Override
+  public Optional<R> findFirst() {
+    Optional<R> first = super.findFirst();
+    cancel();
+    return first;
+  }
+
+  /** Cancels the other computations once the first two results are taken. */
+  @Override
+  public Optional<R> findOne() throws SeveralElementsException {
+    try {
+      Optional<R> first = hasNext() ? Optional.ofNullable(next()) : Optional.empty();
+      if (hasNext()) {
+        throw new SeveralElementsException(
+            "Call to \"findOne\" but there were several elements left in the stream");
+      }
+      return first;
+    } finally {
+      cancel();
+    }
+  }
+
+  /** Cancels the computations in flight, and interrupts their threads. */
+  public void cancel() {
+    isCancelled = true;
+    inFlight.forEach(task -> task.cancel(true));
+    inFlight.clear();
+    completions.clear();
+  }
+
+  @Override
+  public long knownSize() {
+    if (isCancelled) {
+      return 0;
+    }
+    long baseKnownSize = knownSizeOf(baseIterator);
+    return baseKnownSize < 0 ? -1 : baseKnownSize + inFlight.size();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    if (isCancelled) {
+      return 0;
+    }
+    long baseSizeUpperBound = sizeUpperBoundOf(baseIterator);
+    return baseSizeUpperBound == Long.MAX_VALUE
+        ? Long.MAX_VALUE
+        : baseSizeUpperBound + inFlight.size();
+  }
+
+  private void startComputations() {
+    try {
+      while (inFlight.size() < maxInFlight && baseIterator.hasNext()) {
+        MappingTask task = new MappingTask(baseIterator.next());
+        inFlight.add(task);
+        Thread.ofVirtual().name("lstream-map-concurrent").start(task);
+      }
+    } catch (RuntimeException | Error e) {
+      cancel();
+      throw e;
+    }
+  }
+
+  /** Waits for the first computation in encounter order, failing as soon as any one fails. */
+  private MappingTask awaitFirst() {
+
+    MappingTask firstTask = inFlight.getFirst();
+    while (!firstTask.isDone()) {
+      failIfFailed(takeCompletion());
+    }
+
+    failIfFailed(firstTask);
+    return firstTask;
+  }
+
+  private MappingTask awaitAny() {
+    MappingTask completedTask = takeCompletion();
+    failIfFailed(completedTask);
+    return completedTask;
+  }
+
+  private MappingTask takeCompletion() {
+    try {
+      return completions.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancel();
+      throw new IllegalStateException("Interrupted while waiting for a mapped element", e);
+    }
+  }
+
+  private void failIfFailed(MappingTask task) {
+
+    if (task.state() != Future.State.FAILED) {
+      return;
+    }
+
+    Throwable failure = task.exceptionNow();
+    cancel();
+    if (failure instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    }
+    if (failure instanceof Error error) {
+      throw error;
+    }
+    throw new IllegalStateException("Concurrent mapping failed", failure);
+  }
+}
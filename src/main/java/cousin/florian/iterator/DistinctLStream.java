@@ -0,0 +1,58 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.util.Comparator;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps the elements of {@code baseIterator} that {@code isFirstOccurrence} accepts, the predicate
+ * remembering the already seen elements in its own way.
+ */
+public class DistinctLStream<T> extends LStream<T> {
+
+  private final LStream<T> baseIterator;
+  private final FilterLStream<T> distinctIterator;
+  private final boolean distinct;
+
+  /**
+   * @param distinct whether {@code isFirstOccurrence} never accepts an element equal to a
+   *     previously accepted one
+   */
+  public DistinctLStream(
+      LStream<T> baseIterator, Predicate<? super T> isFirstOccurrence, boolean distinct) {
+    this.baseIterator = baseIterator;
+    this.distinctIterator = new FilterLStream<>(baseIterator, isFirstOccurrence);
+    this.distinct = distinct;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return distinctIterator.hasNext();
+  }
+
+  @Override
+  public T next() {
+    return distinctIterator.next();
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+    return distinctIterator.forEachWhile(sink);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return distinctIterator.sizeUpperBound();
+  }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return baseIterator.sortComparator();
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return distinct || baseIterator.isDistinct();
+  }
+}
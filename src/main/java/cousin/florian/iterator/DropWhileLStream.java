@@ -1,9 +1,11 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 
 @RequiredArgsConstructor
 public class DropWhileLStream<T> extends LStream<T> {
@@ -38,6 +40,39 @@ public class DropWhileLStream<T> extends LStream<T> {
     return firstNotDroppedValue;
   }
 
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator, firstIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+
+    if (!firstIsConsumed) {
+      firstIsConsumed = true;
+      started = true;
+      if (!sink.test(firstNotDroppedValue)) {
+        return false;
+      }
+    }
+
+    if (started) {
+      return forEachRemainingWhile(baseIterator, sink);
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (!started) {
+            if (predicate.test(value)) {
+              return true;
+            }
+            started = true;
+          }
+          return sink.test(value);
+        });
+  }
+
   private void dropUntilNext() {
 
     while (!started && firstIsConsumed && baseIterator.hasNext()) {
@@ -48,4 +83,14 @@ public class DropWhileLStream<T> extends LStream<T> {
       }
     }
   }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return sortComparatorOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
 }
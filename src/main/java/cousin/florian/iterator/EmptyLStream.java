@@ -74,6 +74,11 @@ public class EmptyLStream<T> extends LStream<T> {
     // action is to be applied on each element but there is no element in an empty lstream
   }
 
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+    return true;
+  }
+
   @Override
   public Object[] toArray() {
     return new Object[0];
@@ -124,6 +129,11 @@ public class EmptyLStream<T> extends LStream<T> {
     return 0;
   }
 
+  @Override
+  public long knownSize() {
+    return 0;
+  }
+
   @Override
   public boolean anyMatch(Predicate<? super T> predicate) {
     return false;
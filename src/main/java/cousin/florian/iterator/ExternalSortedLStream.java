@@ -0,0 +1,321 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import cousin.florian.exception.SeveralElementsException;
+import cousin.florian.sort.ElementSerializer;
+import cousin.florian.sort.ExternalSort;
+import java.io.*;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sorts the elements of {@code baseIterator} with an external merge sort. Nothing is done before
+ * the first element is asked : then sorted runs are written to temporary files and the returned
+ * elements are merged lazily from these files.
+ *
+ * <p>When all elements fit in a single run, they are sorted in memory without any file.
+ *
+ * <p>Run files are deleted once merged. The remaining runs are closed and deleted by {@link
+ * #close()}, once {@link #findFirst()} or {@link #findOne()} returns, or shortly after this lstream
+ * is not referenced any more.
+ */
+public class ExternalSortedLStream<T> extends LStream<T> {
+
+  private static final Cleaner RUN_CLEANER = Cleaner.create();
+
+  private final LStream<T> baseIterator;
+  private final Comparator<? super T> comparator;
+  private final ExternalSort<T> externalSort;
+  private @Nullable LStream<T> sortedIterator = null;
+
+  @SuppressWarnings("unchecked")
+  public ExternalSortedLStream(
+      LStream<T> baseIterator,
+      @Nullable Comparator<? super T> comparator,
+      ExternalSort<T> externalSort) {
+    this.baseIterator = baseIterator;
+    this.comparator =
+        comparator == null ? (Comparator<? super T>) Comparator.naturalOrder() : comparator;
+    this.externalSort = externalSort;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return sortedIterator().hasNext();
+  }
+
+  @Override
+  public T next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements to merge.");
+    }
+
+    return sortedIterator().next();
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+    return sortedIterator().forEachWhile(sink);
+  }
+
+  /** Closes and deletes the runs once the first element is taken. */
+  @Override
+  public Optional<T> findFirst() {
+    Optional<T> first = super.findFirst();
+    close();
+    return first;
+  }
+
+  /** Closes and deletes the runs once the first two elements are taken. */
+  @Override
+  public Optional<T> findOne() throws SeveralElementsException {
+    try {
+      Optional<T> first = hasNext() ? Optional.ofNullable(next()) : Optional.empty();
+      if (hasNext()) {
+        throw new SeveralElementsException(
+            "Call to \"findOne\" but there were several elements left in the stream");
+      }
+      return first;
+    } finally {
+      close();
+    }
+  }
+
+  /** Closes and deletes the runs that are not fully merged, their elements will not be returned. */
+  public void close() {
+    if (sortedIterator instanceof RunMerger<T> runMerger) {
+      runMerger.close();
+    }
+  }
+
+  @Override
+  public Comparator<? super T> sortComparator() {
+    return comparator;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return baseIterator.isDistinct();
+  }
+
+  @Override
+  public long knownSize() {
+    return sortedIterator == null ? baseIterator.knownSize() : sortedIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sortedIterator == null ? baseIterator.sizeUpperBound() : sortedIterator.sizeUpperBound();
+  }
+
+  private LStream<T> sortedIterator() {
+
+    if (sortedIterator == null) {
+      sortedIterator = sort();
+    }
+
+    return sortedIterator;
+  }
+
+  private LStream<T> sort() {
+
+    List<T> firstRun = readSortedRun();
+
+    if (!baseIterator.hasNext()) {
+      return LStream.from(firstRun);
+    }
+
+    List<Path> runFiles = new ArrayList<>();
+    long nbElements = firstRun.size();
+    try {
+      runFiles.add(writeRun(firstRun));
+      // Lets the first run be garbage collected while the next ones are read
+      firstRun = null;
+      while (baseIterator.hasNext()) {
+        List<T> run = readSortedRun();
+        nbElements += run.size();
+        runFiles.add(writeRun(run));
+      }
+      return new RunMerger<>(openRuns(runFiles), comparator, nbElements);
+    } catch (IOException e) {
+      deleteQuietly(runFiles);
+      throw new UncheckedIOException("Could not sort elements on disk", e);
+    }
+  }
+
+  private List<T> readSortedRun() {
+
+    int runSize = externalSort.runSize();
+    List<T> run = new ArrayList<>((int) Math.min(runSize, baseIterator.sizeUpperBound()));
+    baseIterator.forEachWhile(element -> run.add(element) && run.size() < runSize);
+
+    // List.sort is stable, so that equal elements of a run stay in encounter order
+    run.sort(comparator);
+    return run;
+  }
+
+  private Path writeRun(List<T> run) throws IOException {
+
+    Path runFile = Files.createTempFile(externalSort.temporaryDirectory(), "lstream-sort-", ".run");
+
+    ElementSerializer<T> serializer = externalSort.serializer();
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile)))) {
+      output.writeInt(run.size());
+      for (T element : run) {
+        serializer.write(element, output);
+      }
+    }
+
+    return runFile;
+  }
+
+  private List<RunReader<T>> openRuns(List<Path> runFiles) throws IOException {
+
+    List<RunReader<T>> runReaders = new ArrayList<>(runFiles.size());
+    try {
+      for (int runIndex = 0; runIndex < runFiles.size(); runIndex++) {
+        runReaders.add(
+            new RunReader<>(runFiles.get(runIndex), runIndex, externalSort.serializer()));
+      }
+    } catch (IOException e) {
+      runReaders.forEach(RunReader::close);
+      throw e;
+    }
+
+    return runReaders;
+  }
+
+  private static void deleteQuietly(List<Path> runFiles) {
+    for (Path runFile : runFiles) {
+      try {
+        Files.deleteIfExists(runFile);
+      } catch (IOException e) {
+        // The file stays in the temporary directory
+      }
+    }
+  }
+
+  /** Merges sorted runs with a heap ordered by the current element of each run. */
+  private static class RunMerger<T> extends LStream<T> {
+
+    private final PriorityQueue<RunReader<T>> runHeap;
+    private final Cleaner.Cleanable cleanable;
+    private long nbRemainingElements;
+
+    private RunMerger(
+        List<RunReader<T>> runReaders, Comparator<? super T> comparator, long nbElements) {
+
+      this.nbRemainingElements = nbElements;
+
+      // Equal elements of a former run were encountered first
+      Comparator<RunReader<T>> runComparator =
+          Comparator.<RunReader<T>, T>comparing(RunReader::currentElement, comparator)
+              .thenComparingInt(RunReader::runIndex);
+
+      this.runHeap = new PriorityQueue<>(Math.max(1, runReaders.size()), runComparator);
+      // The cleaning action only references the readers, so that the merger can be collected
+      this.cleanable = RUN_CLEANER.register(this, () -> runReaders.forEach(RunReader::close));
+      runReaders.forEach(
+          runReader -> {
+            if (runReader.advance()) {
+              runHeap.add(runReader);
+            }
+          });
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !runHeap.isEmpty();
+    }
+
+    @Override
+    public T next() {
+
+      RunReader<T> smallestRun = runHeap.poll();
+
+      if (smallestRun == null) {
+        throw new NoSuchElementException("No more elements to merge.");
+      }
+
+      T smallestElement = smallestRun.currentElement();
+      nbRemainingElements--;
+      if (smallestRun.advance()) {
+        runHeap.add(smallestRun);
+      }
+      return smallestElement;
+    }
+
+    @Override
+    public long knownSize() {
+      return nbRemainingElements;
+    }
+
+    private void close() {
+      runHeap.clear();
+      nbRemainingElements = 0;
+      cleanable.clean();
+    }
+  }
+
+  private static class RunReader<T> {
+
+    private final Path runFile;
+    private final int runIndex;
+    private final ElementSerializer<T> serializer;
+    private final DataInputStream input;
+    private int nbRemainingElements;
+    private T currentElement;
+
+    private RunReader(Path runFile, int runIndex, ElementSerializer<T> serializer)
+        throws IOException {
+      this.runFile = runFile;
+      this.runIndex = runIndex;
+      this.serializer = serializer;
+      this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(runFile)));
+      this.nbRemainingElements = input.readInt();
+    }
+
+    private T currentElement() {
+      return currentElement;
+    }
+
+    private int runIndex() {
+      return runIndex;
+    }
+
+    /** Reads the next element of the run, or closes the run and returns false if there is none. */
+    private boolean advance() {
+
+      if (nbRemainingElements == 0) {
+        close();
+        return false;
+      }
+
+      try {
+        currentElement = serializer.read(input);
+      } catch (IOException e) {
+        close();
+        throw new UncheckedIOException("Could not read sorted run " + runFile, e);
+      }
+
+      nbRemainingElements--;
+      return true;
+    }
+
+    private void close() {
+      currentElement = null;
+      try {
+        input.close();
+        Files.deleteIfExists(runFile);
+      } catch (IOException e) {
+        // The file stays in the temporary directory
+      }
+    }
+  }
+}
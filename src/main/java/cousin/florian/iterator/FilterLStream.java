@@ -1,10 +1,12 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 
 @RequiredArgsConstructor
 public class FilterLStream<T> extends LStream<T> {
@@ -34,6 +36,24 @@ public class FilterLStream<T> extends LStream<T> {
     }
   }
 
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(iterator, nextIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+
+    if (!nextIsConsumed) {
+      nextIsConsumed = true;
+      if (!sink.test(next)) {
+        return false;
+      }
+    }
+
+    return forEachRemainingWhile(iterator, value -> !predicate.test(value) || sink.test(value));
+  }
+
   private void dropUntilValue() {
     while (nextIsConsumed && iterator.hasNext()) {
       T currentNext = iterator.next();
@@ -43,4 +63,14 @@ public class FilterLStream<T> extends LStream<T> {
       }
     }
   }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return sortComparatorOf(iterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(iterator);
+  }
 }
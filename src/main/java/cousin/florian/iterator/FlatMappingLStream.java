@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -31,12 +32,30 @@ public class FlatMappingLStream<T, R> extends LStream<R> {
     return currentMappingIterator.next();
   }
 
+  @Override
+  public boolean forEachWhile(Predicate<? super R> sink) {
+
+    if (!forEachRemainingWhile(currentMappingIterator, sink)) {
+      return false;
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          currentMappingIterator = mapToIterator(value);
+          return forEachRemainingWhile(currentMappingIterator, sink);
+        });
+  }
+
   private void dropBaseIteratorUntilValue() {
     while (!currentMappingIterator.hasNext() && baseIterator.hasNext()) {
-      currentMappingIterator =
-          Optional.ofNullable(mapper.apply(baseIterator.next()))
-              .map(LStreamApi::iterator)
-              .orElse(Collections.emptyIterator());
+      currentMappingIterator = mapToIterator(baseIterator.next());
     }
   }
+
+  private Iterator<? extends R> mapToIterator(T value) {
+    return Optional.ofNullable(mapper.apply(value))
+        .<Iterator<? extends R>>map(LStreamApi::iterator)
+        .orElse(Collections.emptyIterator());
+  }
 }
@@ -0,0 +1,177 @@
+package cousin.florian.iterator;
+
+import cousin.florian.JoinType;
+import cousin.florian.LStream;
+import cousin.florian.utils.HashJoinTable;
+import cousin.florian.utils.HashJoinTable.Bucket;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Joins the elements of {@code baseIterator} with those of {@code other}, which are all put in
+ * {@code table} when the first result is asked. Results are in the order of {@code baseIterator}.
+ */
+public class HashJoinLStream<T, U, R> extends LStream<R> {
+
+  private final Iterator<T> baseIterator;
+  private final Iterator<U> other;
+  private final HashJoinTable<U, T> table;
+  private final JoinType joinType;
+  private final BiFunction<? super T, ? super U, ? extends R> combiner;
+
+  private boolean tableIsBuilt = false;
+
+  /** Matches of {@code currentElement} that are not combined yet, from {@code matchIndex} */
+  private @Nullable Bucket<U> currentMatches = null;
+
+  private T currentElement;
+  private int matchIndex;
+
+  private boolean resultIsFound = false;
+  private R result;
+
+  public HashJoinLStream(
+      Iterator<T> baseIterator,
+      Iterator<U> other,
+      HashJoinTable<U, T> table,
+      JoinType joinType,
+      BiFunction<? super T, ? super U, ? extends R> combiner) {
+    this.baseIterator = baseIterator;
+    this.other = other;
+    this.table = table;
+    this.joinType = joinType;
+    this.combiner = combiner;
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    if (resultIsFound) {
+      return true;
+    }
+
+    buildTable();
+
+    while (true) {
+
+      if (currentMatches != null && matchIndex < currentMatches.size()) {
+        return found(combiner.apply(currentElement, currentMatches.get(matchIndex++)));
+      }
+
+      if (!baseIterator.hasNext()) {
+        currentMatches = null;
+        return false;
+      }
+
+      T element = baseIterator.next();
+      Bucket<U> matches = table.find(element);
+
+      switch (joinType) {
+        case INNER -> startMatches(element, matches);
+        case LEFT -> {
+          if (matches == null) {
+            return found(combiner.apply(element, null));
+          }
+          startMatches(element, matches);
+        }
+        case SEMI -> {
+          if (matches != null) {
+            return found(combiner.apply(element, matches.get(0)));
+          }
+        }
+        case ANTI -> {
+          if (matches == null) {
+            return found(combiner.apply(element, null));
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public R next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more joined elements.");
+    }
+
+    resultIsFound = false;
+    R nextResult = result;
+    result = null;
+    return nextResult;
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super R> sink) {
+
+    // Results started by pulling are pushed first
+    while (resultIsFound || (currentMatches != null && matchIndex < currentMatches.size())) {
+      if (!sink.test(next())) {
+        return false;
+      }
+    }
+
+    buildTable();
+    return forEachRemainingWhile(
+        baseIterator, element -> pushResults(element, table.find(element), sink));
+  }
+
+  @Override
+  public long sizeUpperBound() {
+
+    if (joinType == JoinType.INNER || joinType == JoinType.LEFT) {
+      return Long.MAX_VALUE;
+    }
+
+    // Semi and anti joins return at most one result per element
+    long baseSizeUpperBound = sizeUpperBoundOf(baseIterator);
+    return baseSizeUpperBound == Long.MAX_VALUE
+        ? Long.MAX_VALUE
+        : baseSizeUpperBound + (resultIsFound ? 1 : 0);
+  }
+
+  private void buildTable() {
+    if (!tableIsBuilt) {
+      other.forEachRemaining(table::add);
+      tableIsBuilt = true;
+    }
+  }
+
+  private boolean found(R foundResult) {
+    result = foundResult;
+    resultIsFound = true;
+    return true;
+  }
+
+  private void startMatches(T element, @Nullable Bucket<U> matches) {
+    currentElement = element;
+    currentMatches = matches;
+    matchIndex = 0;
+  }
+
+  /**
+   * @return false if the sink stopped, in which case the matches that are not pushed are kept
+   */
+  private boolean pushResults(T element, @Nullable Bucket<U> matches, Predicate<? super R> sink) {
+    return switch (joinType) {
+      case INNER, LEFT -> {
+        if (matches == null) {
+          yield joinType == JoinType.INNER || sink.test(combiner.apply(element, null));
+        }
+        for (int index = 0; index < matches.size(); index++) {
+          if (!sink.test(combiner.apply(element, matches.get(index)))) {
+            startMatches(element, matches);
+            matchIndex = index + 1;
+            yield false;
+          }
+        }
+        yield true;
+      }
+      case SEMI -> matches == null || sink.test(combiner.apply(element, matches.get(0)));
+      case ANTI -> matches != null || sink.test(combiner.apply(element, null));
+    };
+  }
+}
@@ -0,0 +1,119 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sorts the elements of {@code baseIterator} incrementally : on the first access, the elements are
+ * arranged in a binary heap in linear time, then each returned element is popped from the heap in
+ * logarithmic time. Reading the first {@code k} of {@code n} elements costs {@code O(n + k log n)}
+ * instead of {@code O(n log n)}.
+ *
+ * <p>The heap holds the indexes of the elements, equal elements being ordered by index so that the
+ * sort is stable.
+ */
+public class IncrementalSortedLStream<T> extends LStream<T> {
+
+  private final LStream<T> baseIterator;
+  private final Comparator<? super T> comparator;
+  private T[] elements;
+  private int[] heap;
+  private int heapSize = -1;
+
+  @SuppressWarnings("unchecked")
+  public IncrementalSortedLStream(
+      LStream<T> baseIterator, @Nullable Comparator<? super T> comparator) {
+    this.baseIterator = baseIterator;
+    this.comparator =
+        comparator == null ? (Comparator<? super T>) Comparator.naturalOrder() : comparator;
+  }
+
+  @Override
+  public boolean hasNext() {
+    heapify();
+    return heapSize > 0;
+  }
+
+  @Override
+  public T next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements to sort.");
+    }
+
+    int smallestIndex = heap[0];
+    heap[0] = heap[--heapSize];
+    siftDown(0);
+
+    // The returned element is not kept, so that it can be garbage collected
+    T smallestElement = elements[smallestIndex];
+    elements[smallestIndex] = null;
+    return smallestElement;
+  }
+
+  @Override
+  public Comparator<? super T> sortComparator() {
+    return comparator;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return baseIterator.isDistinct();
+  }
+
+  @Override
+  public long knownSize() {
+    return heapSize < 0 ? baseIterator.knownSize() : heapSize;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return heapSize < 0 ? baseIterator.sizeUpperBound() : heapSize;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void heapify() {
+
+    if (heapSize >= 0) {
+      return;
+    }
+
+    elements = (T[]) baseIterator.toArray();
+    heap = new int[elements.length];
+    for (int index = 0; index < heap.length; index++) {
+      heap[index] = index;
+    }
+    heapSize = heap.length;
+
+    for (int parent = heapSize / 2 - 1; parent >= 0; parent--) {
+      siftDown(parent);
+    }
+  }
+
+  private void siftDown(int position) {
+
+    int elementIndex = heap[position];
+
+    int child = 2 * position + 1;
+    while (child < heapSize) {
+      if (child + 1 < heapSize && isBefore(heap[child + 1], heap[child])) {
+        child++;
+      }
+      if (!isBefore(heap[child], elementIndex)) {
+        break;
+      }
+      heap[position] = heap[child];
+      position = child;
+      child = 2 * position + 1;
+    }
+
+    heap[position] = elementIndex;
+  }
+
+  private boolean isBefore(int elementIndex1, int elementIndex2) {
+    int comparison = comparator.compare(elements[elementIndex1], elements[elementIndex2]);
+    return comparison < 0 || (comparison == 0 && elementIndex1 < elementIndex2);
+  }
+}
@@ -0,0 +1,66 @@
+package cousin.florian.iterator;
+
+import cousin.florian.IndexedFunction;
+import cousin.florian.LStream;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/** Maps each element with its index, counted from {@code firstIndex}. */
+public class IndexedMappingLStream<T, R> extends LStream<R> {
+
+  private final LStream<T> baseIterator;
+  private final IndexedFunction<? super T, ? extends R> mapper;
+  private long index;
+
+  public IndexedMappingLStream(
+      LStream<T> baseIterator, IndexedFunction<? super T, ? extends R> mapper, long firstIndex) {
+    this.baseIterator = baseIterator;
+    this.mapper = mapper;
+    this.index = firstIndex;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public R next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements to index.");
+    }
+
+    return mapper.apply(index++, baseIterator.next());
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super R> sink) {
+    return baseIterator.forEachWhile(element -> sink.test(mapper.apply(index++, element)));
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  /** If the size is known, skipped elements are neither iterated nor mapped. */
+  @Override
+  public LStream<R> skip(long nbToSkip) {
+
+    requirePositive(nbToSkip);
+    long knownSize = knownSize();
+
+    if (knownSize < 0) {
+      return super.skip(nbToSkip);
+    }
+
+    return new IndexedMappingLStream<>(
+        baseIterator.skip(nbToSkip), mapper, index + Math.min(nbToSkip, knownSize));
+  }
+}
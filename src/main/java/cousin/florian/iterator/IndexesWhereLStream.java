@@ -0,0 +1,82 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import cousin.florian.LongLStream;
+import java.util.NoSuchElementException;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/** Returns the indexes of the elements matching {@code predicate}, sorted and distinct. */
+public class IndexesWhereLStream<T> extends LongLStream {
+
+  private final LStream<T> baseIterator;
+  private final Predicate<? super T> predicate;
+  private long index = 0;
+  private long nextMatchingIndex = -1;
+
+  public IndexesWhereLStream(LStream<T> baseIterator, Predicate<? super T> predicate) {
+    this.baseIterator = baseIterator;
+    this.predicate = predicate;
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    while (nextMatchingIndex < 0 && baseIterator.hasNext()) {
+      if (predicate.test(baseIterator.next())) {
+        nextMatchingIndex = index;
+      }
+      index++;
+    }
+
+    return nextMatchingIndex >= 0;
+  }
+
+  @Override
+  public long nextLong() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more matching elements.");
+    }
+
+    long matchingIndex = nextMatchingIndex;
+    nextMatchingIndex = -1;
+    return matchingIndex;
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+
+    if (nextMatchingIndex >= 0) {
+      long matchingIndex = nextMatchingIndex;
+      nextMatchingIndex = -1;
+      if (!sink.test(matchingIndex)) {
+        return false;
+      }
+    }
+
+    return baseIterator.forEachWhile(
+        element -> {
+          long elementIndex = index++;
+          return !predicate.test(element) || sink.test(elementIndex);
+        });
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    long baseSizeUpperBound = baseIterator.sizeUpperBound();
+    return baseSizeUpperBound == Long.MAX_VALUE || nextMatchingIndex < 0
+        ? baseSizeUpperBound
+        : baseSizeUpperBound + 1;
+  }
+
+  @Override
+  public boolean isSorted() {
+    return true;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return true;
+  }
+}
@@ -1,9 +1,12 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 
 @RequiredArgsConstructor
 public class LimitLStream<T> extends LStream<T> {
@@ -28,4 +31,52 @@ public class LimitLStream<T> extends LStream<T> {
 
     return baseIterator.next();
   }
+
+  @Override
+  public long knownSize() {
+    long baseKnownSize = knownSizeOf(baseIterator);
+    return baseKnownSize < 0 ? -1 : Math.min(baseKnownSize, remainingSize());
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return Math.min(sizeUpperBoundOf(baseIterator), remainingSize());
+  }
+
+  private long remainingSize() {
+    return Math.max(0, maxSize - iteration);
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+
+    if (iteration >= maxSize) {
+      return true;
+    }
+
+    boolean[] stoppedBySink = {false};
+
+    forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          iteration++;
+          if (!sink.test(value)) {
+            stoppedBySink[0] = true;
+            return false;
+          }
+          return iteration < maxSize;
+        });
+
+    return !stoppedBySink[0];
+  }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return sortComparatorOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
 }
@@ -1,9 +1,12 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
+import cousin.florian.ParallelLStream;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.Nullable;
 
@@ -17,7 +20,7 @@ public class ListRandomAccessLStream<T> extends LStream<T> {
   //  LStream function.
 
   private final List<T> iterationObjects;
-  private int nextIndex = 0;
+  protected int nextIndex = 0;
 
   @Override
   public boolean hasNext() {
@@ -34,6 +37,17 @@ public class ListRandomAccessLStream<T> extends LStream<T> {
     return iterationObjects.get(nextIndex++);
   }
 
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+    int size = iterationObjects.size();
+    while (nextIndex < size) {
+      if (!sink.test(iterationObjects.get(nextIndex++))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   @Override
   public <R> LStream<R> map(Function<? super T, ? extends R> mapper) {
 
@@ -60,6 +74,10 @@ public class ListRandomAccessLStream<T> extends LStream<T> {
       return LStream.empty();
     }
 
+    if (isSortedBy(comparator)) {
+      return this;
+    }
+
     return new SortedLStream<>(this, comparator);
   }
 
@@ -73,7 +91,44 @@ public class ListRandomAccessLStream<T> extends LStream<T> {
     int lastIndexExclusive = Math.toIntExact(nextIndex + maxSize);
     List<T> newIterationObjects = iterationObjects.subList(nextIndex, lastIndexExclusive);
 
-    return LStream.from(newIterationObjects);
+    Comparator<? super T> sortComparator = sortComparator();
+    return sortComparator == null
+        ? LStream.from(newIterationObjects)
+        : new SortedListLStream<>(newIterationObjects, sortComparator, isDistinct());
+  }
+
+  /** Returns views of the remaining elements, which are consumed. */
+  @Override
+  public LStream<List<T>> chunk(int size) {
+
+    requireChunkSize(size);
+
+    if (!hasNext()) {
+      return LStream.empty();
+    }
+
+    List<T> remainingElements = iterationObjects.subList(nextIndex, iterationObjects.size());
+    nextIndex = iterationObjects.size();
+    int nbRemaining = remainingElements.size();
+    int nbChunks = (int) Math.ceilDiv((long) nbRemaining, size);
+
+    List<List<T>> chunks =
+        new AbstractList<>() {
+          @Override
+          public List<T> get(int index) {
+            Objects.checkIndex(index, nbChunks);
+            int fromIndex = index * size;
+            int toIndex = (int) Math.min(nbRemaining, (long) fromIndex + size);
+            return Collections.unmodifiableList(remainingElements.subList(fromIndex, toIndex));
+          }
+
+          @Override
+          public int size() {
+            return nbChunks;
+          }
+        };
+
+    return new ListRandomAccessLStream<>(chunks);
   }
 
   @Override
@@ -114,11 +169,28 @@ public class ListRandomAccessLStream<T> extends LStream<T> {
     return Collections.unmodifiableList(remainingElements);
   }
 
+  @Override
+  public ParallelLStream<T> parallel(ForkJoinPool pool) {
+
+    if (!hasNext()) {
+      return LStream.<T>empty().parallel(pool);
+    }
+
+    List<T> remainingElements = iterationObjects.subList(nextIndex, iterationObjects.size());
+    nextIndex = iterationObjects.size();
+    return ParallelLStream.from(remainingElements, pool);
+  }
+
   @Override
   public long count() {
     return Math.max(0, iterationObjects.size() - nextIndex);
   }
 
+  @Override
+  public long knownSize() {
+    return count();
+  }
+
   @Override
   public Optional<T> findLast() {
 
@@ -0,0 +1,39 @@
+package cousin.florian.iterator;
+
+import cousin.florian.DoubleLStream;
+import cousin.florian.LStream;
+import java.util.function.DoublePredicate;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class MapToDoubleLStream<T> extends DoubleLStream {
+
+  private final LStream<T> baseIterator;
+  private final ToDoubleFunction<? super T> mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public double nextDouble() {
+    return mapper.applyAsDouble(baseIterator.next());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.applyAsDouble(value)));
+  }
+}
@@ -0,0 +1,39 @@
+package cousin.florian.iterator;
+
+import cousin.florian.IntLStream;
+import cousin.florian.LStream;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class MapToIntLStream<T> extends IntLStream {
+
+  private final LStream<T> baseIterator;
+  private final ToIntFunction<? super T> mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public int nextInt() {
+    return mapper.applyAsInt(baseIterator.next());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.applyAsInt(value)));
+  }
+}
@@ -0,0 +1,39 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import cousin.florian.LongLStream;
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class MapToLongLStream<T> extends LongLStream {
+
+  private final LStream<T> baseIterator;
+  private final ToLongFunction<? super T> mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+    return mapper.applyAsLong(baseIterator.next());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.applyAsLong(value)));
+  }
+}
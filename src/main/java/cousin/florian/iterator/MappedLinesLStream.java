@@ -0,0 +1,243 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Iterates over the lines of a file mapped in memory, split on raw {@code '\n'} bytes. A trailing
+ * {@code '\r'} is removed from each line and there is no empty line after a final line terminator.
+ *
+ * <p>The file is mapped lazily in segments of at most {@code segmentSize} bytes, each segment
+ * starting at the beginning of a line, so that files bigger than 2GB can be read and every line is
+ * contained in a single segment. A line cannot be longer than a segment.
+ *
+ * <p>I/O errors are thrown as {@link UncheckedIOException}.
+ */
+public class MappedLinesLStream<T> extends LStream<T> {
+
+  public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+  private static final byte NEW_LINE = '\n';
+  private static final byte CARRIAGE_RETURN = '\r';
+  private static final long NEW_LINES = 0x0a0a0a0a0a0a0a0aL;
+  private static final long LOW_BITS = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+
+  private final Path file;
+  private final long fileSize;
+  private final int segmentSize;
+  private final LineDecoder<T> lineDecoder;
+
+  private @Nullable MappedByteBuffer segment = null;
+  private long segmentStart = 0;
+  private long segmentEnd = 0;
+
+  /** Byte offset of the next line that has not been returned yet */
+  private long position = 0;
+
+  private boolean lineIsFound = false;
+  private int lineOffset;
+  private int lineLength;
+  private long nextLinePosition;
+
+  /** Creates a line from its bytes in {@code segment}, which must not be modified. */
+  @FunctionalInterface
+  public interface LineDecoder<T> {
+    T decode(ByteBuffer segment, int offset, int length);
+  }
+
+  public MappedLinesLStream(Path file, int segmentSize, LineDecoder<T> lineDecoder) {
+
+    if (segmentSize <= 0) {
+      throw new IllegalArgumentException(
+          "segmentSize is %d but it should be strictly positive".formatted(segmentSize));
+    }
+
+    this.file = file;
+    this.segmentSize = segmentSize;
+    this.lineDecoder = lineDecoder;
+    try {
+      this.fileSize = Files.size(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read the size of " + file, e);
+    }
+  }
+
+  /**
+   * Decodes lines into strings, with a reused byte array as intermediate copy.
+   *
+   * @throws IllegalArgumentException if {@code '\n'} is not encoded as a single byte in {@code
+   *     charset}, such as in UTF-16
+   */
+  public static LineDecoder<String> stringDecoder(Charset charset) {
+
+    if (!Arrays.equals("\n".getBytes(charset), new byte[] {NEW_LINE})) {
+      throw new IllegalArgumentException(
+          "Lines cannot be split on raw bytes in charset " + charset.name());
+    }
+
+    byte[][] lineBytes = {new byte[128]};
+    return (segment, offset, length) -> {
+      if (lineBytes[0].length < length) {
+        lineBytes[0] = new byte[Math.max(length, 2 * lineBytes[0].length)];
+      }
+      segment.get(offset, lineBytes[0], 0, length);
+      return new String(lineBytes[0], 0, length, charset);
+    };
+  }
+
+  /** Returns read-only views of the mapped bytes of each line, without copy. */
+  public static LineDecoder<ByteBuffer> byteBufferDecoder() {
+    return (segment, offset, length) -> segment.slice(offset, length).order(ByteOrder.BIG_ENDIAN);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return lineIsFound || findLine();
+  }
+
+  @Override
+  public T next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more lines in " + file);
+    }
+
+    lineIsFound = false;
+    position = nextLinePosition;
+    return lineDecoder.decode(segment, lineOffset, lineLength);
+  }
+
+  /** Returns the byte offset in the file of the next line. */
+  public long bytePosition() {
+    return position;
+  }
+
+  /**
+   * Moves forward of {@code nbBytes} bytes without reading them, then to the beginning of the next
+   * line if it is in the middle of one. Only the bytes of that line are read.
+   *
+   * @throws IllegalArgumentException if {@code nbBytes} is negative
+   */
+  public MappedLinesLStream<T> skipBytes(long nbBytes) {
+
+    requirePositive(nbBytes);
+
+    lineIsFound = false;
+    long target = nbBytes >= fileSize - position ? fileSize : position + nbBytes;
+    if (target == 0 || target == fileSize) {
+      position = target;
+      return this;
+    }
+
+    // The line starts after the first line terminator from the previous byte
+    position = target - 1;
+    while (position < fileSize) {
+      mapIfOutside(position);
+      int newLineIndex = indexOfNewLine(segment, (int) (position - segmentStart), segment.limit());
+      position = newLineIndex < 0 ? segmentEnd : segmentStart + newLineIndex + 1;
+      if (newLineIndex >= 0) {
+        break;
+      }
+    }
+
+    return this;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    // Each line has at least one byte : its terminator or, for the last line, one character
+    return fileSize - position;
+  }
+
+  private boolean findLine() {
+
+    if (position >= fileSize) {
+      return false;
+    }
+
+    mapIfOutside(position);
+    int lineStart = (int) (position - segmentStart);
+    int newLineIndex = indexOfNewLine(segment, lineStart, segment.limit());
+
+    if (newLineIndex < 0 && segmentEnd < fileSize) {
+      if (position == segmentStart) {
+        throw new IllegalStateException(
+            "The line starting at byte %d of %s is longer than the segment size %d"
+                .formatted(position, file, segmentSize));
+      }
+      // The line is cut by the end of the segment
+      map(position);
+      return findLine();
+    }
+
+    int lineEnd = newLineIndex < 0 ? segment.limit() : newLineIndex;
+    nextLinePosition = newLineIndex < 0 ? fileSize : segmentStart + newLineIndex + 1;
+    if (lineEnd > lineStart && segment.get(lineEnd - 1) == CARRIAGE_RETURN) {
+      lineEnd--;
+    }
+
+    lineOffset = lineStart;
+    lineLength = lineEnd - lineStart;
+    lineIsFound = true;
+    return true;
+  }
+
+  private void mapIfOutside(long bytePosition) {
+    if (segment == null || bytePosition < segmentStart || bytePosition >= segmentEnd) {
+      map(bytePosition);
+    }
+  }
+
+  private void map(long start) {
+
+    long size = Math.min(segmentSize, fileSize - start);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed
+      segment = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not map " + file, e);
+    }
+
+    segment.order(ByteOrder.LITTLE_ENDIAN);
+    segmentStart = start;
+    segmentEnd = start + size;
+  }
+
+  /**
+   * Returns the index of the first {@code '\n'} between {@code from} and {@code to}, or -1. Eight
+   * bytes are compared at once : a byte of {@code word} is zero where there is a line feed.
+   */
+  private static int indexOfNewLine(ByteBuffer buffer, int from, int to) {
+
+    int index = from;
+    for (; index <= to - Long.BYTES; index += Long.BYTES) {
+      long word = buffer.getLong(index) ^ NEW_LINES;
+      long zeroBytes = (word - LOW_BITS) & ~word & HIGH_BITS;
+      if (zeroBytes != 0) {
+        // The buffer is little endian, so that the lowest zero byte is the first one
+        return index + (Long.numberOfTrailingZeros(zeroBytes) >>> 3);
+      }
+    }
+
+    for (; index < to; index++) {
+      if (buffer.get(index) == NEW_LINE) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+}
@@ -3,6 +3,7 @@ package cousin.florian.iterator;
 import cousin.florian.LStream;
 import java.util.Iterator;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -20,4 +21,19 @@ public class MappingLstream<T, R> extends LStream<R> {
   public R next() {
     return mapper.apply(previousIterator.next());
   }
+
+  @Override
+  public long knownSize() {
+    return knownSizeOf(previousIterator);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(previousIterator);
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super R> sink) {
+    return forEachRemainingWhile(previousIterator, value -> sink.test(mapper.apply(value)));
+  }
 }
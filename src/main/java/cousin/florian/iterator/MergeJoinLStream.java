@@ -0,0 +1,215 @@
+package cousin.florian.iterator;
+
+import cousin.florian.JoinType;
+import cousin.florian.LStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Joins the elements of {@code baseIterator} with those of {@code other} in a single pass, both
+ * being sorted by their key according to {@code keyComparator}. Results are in the order of {@code
+ * baseIterator}.
+ *
+ * <p>Only the elements of {@code other} having the current key are kept in memory, and only the
+ * first one of them for semi and anti joins. Inner and semi joins stop once {@code other} has no
+ * more key to match.
+ *
+ * @throws IllegalStateException while iterating, if keys are found not to be sorted
+ */
+public class MergeJoinLStream<T, U, K, R> extends LStream<R> {
+
+  private final Iterator<T> baseIterator;
+  private final Iterator<U> other;
+  private final Function<? super T, ? extends K> keyExtractor;
+  private final Function<? super U, ? extends K> otherKeyExtractor;
+  private final Comparator<? super K> keyComparator;
+  private final JoinType joinType;
+  private final BiFunction<? super T, ? super U, ? extends R> combiner;
+
+  /** Elements of {@code other} whose key is {@code matchesKey} */
+  private final List<U> matches = new ArrayList<>();
+
+  private K matchesKey;
+
+  private boolean otherIsStarted = false;
+  private boolean otherHasNext = false;
+  private U nextOtherElement;
+  private K nextOtherKey;
+
+  private boolean hasPreviousKey = false;
+  private K previousKey;
+
+  private T currentElement;
+  private int matchIndex;
+
+  private boolean resultIsFound = false;
+  private R result;
+
+  public MergeJoinLStream(
+      Iterator<T> baseIterator,
+      Iterator<U> other,
+      Function<? super T, ? extends K> keyExtractor,
+      Function<? super U, ? extends K> otherKeyExtractor,
+      Comparator<? super K> keyComparator,
+      JoinType joinType,
+      BiFunction<? super T, ? super U, ? extends R> combiner) {
+    this.baseIterator = baseIterator;
+    this.other = other;
+    this.keyExtractor = keyExtractor;
+    this.otherKeyExtractor = otherKeyExtractor;
+    this.keyComparator = keyComparator;
+    this.joinType = joinType;
+    this.combiner = combiner;
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    if (resultIsFound) {
+      return true;
+    }
+
+    if (!otherIsStarted) {
+      advanceOther();
+      otherIsStarted = true;
+    }
+
+    while (true) {
+
+      if (matchIndex < matches.size() && isCombiningAllMatches()) {
+        return found(combiner.apply(currentElement, matches.get(matchIndex++)));
+      }
+
+      boolean noMoreMatch = !otherHasNext && matches.isEmpty();
+      if ((noMoreMatch && !keepsElementsWithoutMatch()) || !baseIterator.hasNext()) {
+        return false;
+      }
+
+      T element = baseIterator.next();
+      findMatches(element);
+      matchIndex = matches.size();
+
+      switch (joinType) {
+        case INNER, LEFT -> {
+          if (matches.isEmpty() && joinType == JoinType.LEFT) {
+            return found(combiner.apply(element, null));
+          }
+          currentElement = element;
+          matchIndex = 0;
+        }
+        case SEMI -> {
+          if (!matches.isEmpty()) {
+            return found(combiner.apply(element, matches.getFirst()));
+          }
+        }
+        case ANTI -> {
+          if (matches.isEmpty()) {
+            return found(combiner.apply(element, null));
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public R next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more joined elements.");
+    }
+
+    resultIsFound = false;
+    R nextResult = result;
+    result = null;
+    return nextResult;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+
+    if (isCombiningAllMatches()) {
+      return Long.MAX_VALUE;
+    }
+
+    // Semi and anti joins return at most one result per element
+    long baseSizeUpperBound = sizeUpperBoundOf(baseIterator);
+    return baseSizeUpperBound == Long.MAX_VALUE
+        ? Long.MAX_VALUE
+        : baseSizeUpperBound + (resultIsFound ? 1 : 0);
+  }
+
+  private boolean isCombiningAllMatches() {
+    return joinType == JoinType.INNER || joinType == JoinType.LEFT;
+  }
+
+  private boolean keepsElementsWithoutMatch() {
+    return joinType == JoinType.LEFT || joinType == JoinType.ANTI;
+  }
+
+  private boolean found(R foundResult) {
+    result = foundResult;
+    resultIsFound = true;
+    return true;
+  }
+
+  /** Puts in {@code matches} the elements of {@code other} having the key of {@code element}. */
+  private void findMatches(T element) {
+
+    K key = keyExtractor.apply(element);
+    if (hasPreviousKey && keyComparator.compare(key, previousKey) < 0) {
+      throw new IllegalStateException(
+          "The elements are not sorted by key : %s is after %s".formatted(key, previousKey));
+    }
+    hasPreviousKey = true;
+    previousKey = key;
+
+    // Consecutive elements with the same key have the same matches
+    if (!matches.isEmpty() && keyComparator.compare(key, matchesKey) == 0) {
+      return;
+    }
+
+    matches.clear();
+    while (otherHasNext && keyComparator.compare(nextOtherKey, key) < 0) {
+      advanceOther();
+    }
+
+    if (!otherHasNext || keyComparator.compare(nextOtherKey, key) > 0) {
+      return;
+    }
+
+    matchesKey = nextOtherKey;
+    matches.add(nextOtherElement);
+    advanceOther();
+    while (otherHasNext && keyComparator.compare(nextOtherKey, matchesKey) == 0) {
+      if (isCombiningAllMatches()) {
+        matches.add(nextOtherElement);
+      }
+      advanceOther();
+    }
+  }
+
+  private void advanceOther() {
+
+    otherHasNext = other.hasNext();
+    if (!otherHasNext) {
+      nextOtherElement = null;
+      return;
+    }
+
+    U otherElement = other.next();
+    K otherKey = otherKeyExtractor.apply(otherElement);
+    if (otherIsStarted && keyComparator.compare(otherKey, nextOtherKey) < 0) {
+      throw new IllegalStateException(
+          "The other elements are not sorted by key : %s is after %s"
+              .formatted(otherKey, nextOtherKey));
+    }
+
+    nextOtherElement = otherElement;
+    nextOtherKey = otherKey;
+  }
+}
@@ -0,0 +1,182 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges lstreams sorted by {@code comparator} with a binary heap of their next elements, in {@code
+ * O(log k)} comparisons per element for {@code k} lstreams. Equal elements are returned in the
+ * order of their lstreams, so that the merge is stable.
+ */
+public class MergeSortedLStream<T> extends LStream<T> {
+
+  private final List<? extends LStream<? extends T>> lStreams;
+  private final Comparator<? super T> comparator;
+  private final Cursor<T>[] heap;
+  private int heapSize = 0;
+  private boolean isStarted = false;
+
+  private static class Cursor<T> {
+
+    private final LStream<? extends T> lStream;
+    private final int lStreamIndex;
+    private T head;
+
+    private Cursor(LStream<? extends T> lStream, int lStreamIndex) {
+      this.lStream = lStream;
+      this.lStreamIndex = lStreamIndex;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public MergeSortedLStream(
+      List<? extends LStream<? extends T>> lStreams, Comparator<? super T> comparator) {
+    this.lStreams = lStreams;
+    this.comparator = comparator;
+    this.heap = (Cursor<T>[]) new Cursor<?>[lStreams.size()];
+  }
+
+  @Override
+  public boolean hasNext() {
+    start();
+    return heapSize > 0;
+  }
+
+  @Override
+  public T next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements to merge.");
+    }
+
+    Cursor<T> smallestCursor = heap[0];
+    T smallestElement = smallestCursor.head;
+
+    // The cursor stays at the top with its next element, so that it is sifted down only once
+    if (smallestCursor.lStream.hasNext()) {
+      smallestCursor.head = smallestCursor.lStream.next();
+    } else {
+      smallestCursor.head = null;
+      heap[0] = heap[--heapSize];
+      heap[heapSize] = null;
+    }
+
+    if (heapSize > 0) {
+      siftDown(0);
+    }
+
+    return smallestElement;
+  }
+
+  @Override
+  public long knownSize() {
+
+    if (!isStarted) {
+      return sumOfKnownSizes(lStreams);
+    }
+
+    long knownSize = heapSize;
+    for (int cursorIndex = 0; cursorIndex < heapSize; cursorIndex++) {
+      long lStreamKnownSize = heap[cursorIndex].lStream.knownSize();
+      if (lStreamKnownSize < 0) {
+        return -1;
+      }
+      knownSize += lStreamKnownSize;
+    }
+
+    return knownSize;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+
+    if (!isStarted) {
+      return sumOfSizeUpperBounds(lStreams);
+    }
+
+    long sizeUpperBound = heapSize;
+    for (int cursorIndex = 0; cursorIndex < heapSize; cursorIndex++) {
+      long lStreamSizeUpperBound = heap[cursorIndex].lStream.sizeUpperBound();
+      if (lStreamSizeUpperBound > Long.MAX_VALUE - sizeUpperBound) {
+        return Long.MAX_VALUE;
+      }
+      sizeUpperBound += lStreamSizeUpperBound;
+    }
+
+    return sizeUpperBound;
+  }
+
+  @Override
+  public Comparator<? super T> sortComparator() {
+    return comparator;
+  }
+
+  /** Takes the head of each lstream, when the first element is asked. */
+  private void start() {
+
+    if (isStarted) {
+      return;
+    }
+    isStarted = true;
+
+    for (int lStreamIndex = 0; lStreamIndex < lStreams.size(); lStreamIndex++) {
+      Cursor<T> cursor = new Cursor<>(lStreams.get(lStreamIndex), lStreamIndex);
+      if (cursor.lStream.hasNext()) {
+        cursor.head = cursor.lStream.next();
+        heap[heapSize++] = cursor;
+      }
+    }
+
+    for (int parentIndex = heapSize / 2 - 1; parentIndex >= 0; parentIndex--) {
+      siftDown(parentIndex);
+    }
+  }
+
+  private static long sumOfKnownSizes(List<? extends LStream<?>> lStreams) {
+    long knownSize = 0;
+    for (LStream<?> lStream : lStreams) {
+      long lStreamKnownSize = lStream.knownSize();
+      if (lStreamKnownSize < 0) {
+        return -1;
+      }
+      knownSize += lStreamKnownSize;
+    }
+    return knownSize;
+  }
+
+  private static long sumOfSizeUpperBounds(List<? extends LStream<?>> lStreams) {
+    long sizeUpperBound = 0;
+    for (LStream<?> lStream : lStreams) {
+      long lStreamSizeUpperBound = lStream.sizeUpperBound();
+      if (lStreamSizeUpperBound > Long.MAX_VALUE - sizeUpperBound) {
+        return Long.MAX_VALUE;
+      }
+      sizeUpperBound += lStreamSizeUpperBound;
+    }
+    return sizeUpperBound;
+  }
+
+  private void siftDown(int index) {
+
+    Cursor<T> cursor = heap[index];
+    int childIndex;
+    while ((childIndex = 2 * index + 1) < heapSize) {
+      if (childIndex + 1 < heapSize && isBefore(heap[childIndex + 1], heap[childIndex])) {
+        childIndex++;
+      }
+      if (!isBefore(heap[childIndex], cursor)) {
+        break;
+      }
+      heap[index] = heap[childIndex];
+      index = childIndex;
+    }
+    heap[index] = cursor;
+  }
+
+  private boolean isBefore(Cursor<T> cursor, Cursor<T> otherCursor) {
+    int comparison = comparator.compare(cursor.head, otherCursor.head);
+    return comparison < 0 || (comparison == 0 && cursor.lStreamIndex < otherCursor.lStreamIndex);
+  }
+}
@@ -1,9 +1,12 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 
 @RequiredArgsConstructor
 public class PeekLStream<T> extends LStream<T> {
@@ -22,4 +25,34 @@ public class PeekLStream<T> extends LStream<T> {
     action.accept(next);
     return next;
   }
+
+  @Override
+  public long knownSize() {
+    return knownSizeOf(baseIterator);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator);
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          action.accept(value);
+          return sink.test(value);
+        });
+  }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return sortComparatorOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
 }
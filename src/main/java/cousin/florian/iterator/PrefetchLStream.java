@@ -0,0 +1,238 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import cousin.florian.exception.SeveralElementsException;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Iterates over {@code baseIterator} on a virtual thread, started when the first element is asked,
+ * which stores up to {@code bufferSize} elements in advance while the consumer drains them.
+ *
+ * <p>An exception thrown by {@code baseIterator} is thrown again by the consumer once the elements
+ * computed before it are consumed. The background thread stops when {@link #cancel()} is called,
+ * once {@link #findFirst()} or {@link #findOne()} returns, or shortly after this lstream is not
+ * referenced any more. A consumer stopping a {@link #forEachWhile(Predicate)} early does not stop
+ * it, so that the remaining elements can still be pulled.
+ */
+public class PrefetchLStream<T> extends LStream<T> {
+
+  private static final long OFFER_TIMEOUT_MILLISECONDS = 100;
+  private static final Object END = new Object();
+  private static final Object NULL = new Object();
+
+  private record Failure(Throwable throwable) {}
+
+  private final Iterator<T> baseIterator;
+  private final int bufferSize;
+  private final BlockingQueue<Object> buffer;
+  private final Deque<Object> drainedElements;
+  private final long baseKnownSize;
+  private final long baseSizeUpperBound;
+  private final @Nullable Comparator<? super T> sortComparator;
+  private final boolean distinct;
+
+  private @Nullable Producer producer = null;
+  private long nbReturned = 0;
+  private boolean isEnded = false;
+
+  public PrefetchLStream(Iterator<T> baseIterator, int bufferSize) {
+
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException(
+          "bufferSize is %d but it should be strictly positive".formatted(bufferSize));
+    }
+
+    this.baseIterator = baseIterator;
+    this.bufferSize = bufferSize;
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.drainedElements = new ArrayDeque<>(bufferSize);
+    // The base iterator is only used by the background thread once started
+    this.baseKnownSize = knownSizeOf(baseIterator);
+    this.baseSizeUpperBound = sizeUpperBoundOf(baseIterator);
+    this.sortComparator = sortComparatorOf(baseIterator);
+    this.distinct = isDistinctOf(baseIterator);
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    if (isEnded) {
+      return false;
+    }
+
+    if (drainedElements.isEmpty()) {
+      drainedElements.add(take());
+      // Takes the other available elements with a single lock acquisition
+      buffer.drainTo(drainedElements, bufferSize);
+    }
+
+    Object element = drainedElements.peekFirst();
+    if (element == END) {
+      isEnded = true;
+      return false;
+    }
+
+    if (element instanceof Failure failure) {
+      isEnded = true;
+      throw rethrown(failure.throwable());
+    }
+
+    return true;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more prefetched elements.");
+    }
+
+    nbReturned++;
+    Object element = drainedElements.removeFirst();
+    return element == NULL ? null : (T) element;
+  }
+
+  /** Stops the background thread once the first element is taken. */
+  @Override
+  public Optional<T> findFirst() {
+    Optional<T> first = super.findFirst();
+    cancel();
+    return first;
+  }
+
+  /** Stops the background thread once the first two elements are taken. */
+  @Override
+  public Optional<T> findOne() throws SeveralElementsException {
+    try {
+      Optional<T> first = hasNext() ? Optional.ofNullable(next()) : Optional.empty();
+      if (hasNext()) {
+        throw new SeveralElementsException(
+            "Call to \"findOne\" but there were several elements left in the stream");
+      }
+      return first;
+    } finally {
+      cancel();
+    }
+  }
+
+  /** Stops the background thread, the remaining elements will not be computed. */
+  public void cancel() {
+    isEnded = true;
+    drainedElements.clear();
+    if (producer != null) {
+      producer.isCancelled = true;
+    }
+  }
+
+  @Override
+  public long knownSize() {
+    if (isEnded) {
+      return 0;
+    }
+    return baseKnownSize < 0 ? -1 : baseKnownSize - nbReturned;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    if (isEnded) {
+      return 0;
+    }
+    return baseSizeUpperBound == Long.MAX_VALUE
+        ? Long.MAX_VALUE
+        : Math.max(0, baseSizeUpperBound - nbReturned);
+  }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return sortComparator;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return distinct;
+  }
+
+  private Object take() {
+
+    if (producer == null) {
+      producer = new Producer(baseIterator, buffer, new WeakReference<>(this));
+      Thread.ofVirtual().name("lstream-prefetch").start(producer);
+    }
+
+    try {
+      return buffer.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancel();
+      throw new IllegalStateException("Interrupted while waiting for a prefetched element", e);
+    }
+  }
+
+  private static RuntimeException rethrown(Throwable throwable) {
+    if (throwable instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (throwable instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException("Prefetching failed", throwable);
+  }
+
+  /**
+   * Pushes the elements of the base iterator in the buffer. It only weakly references the consumer,
+   * so that it notices when the consumer is garbage collected.
+   */
+  private static class Producer implements Runnable {
+
+    private final Iterator<?> baseIterator;
+    private final BlockingQueue<Object> buffer;
+    private final WeakReference<PrefetchLStream<?>> consumer;
+    private volatile boolean isCancelled = false;
+
+    private Producer(
+        Iterator<?> baseIterator,
+        BlockingQueue<Object> buffer,
+        WeakReference<PrefetchLStream<?>> consumer) {
+      this.baseIterator = baseIterator;
+      this.buffer = buffer;
+      this.consumer = consumer;
+    }
+
+    @Override
+    public void run() {
+      try {
+        boolean isComplete =
+            forEachRemainingWhile(baseIterator, element -> offer(element == null ? NULL : element));
+        if (isComplete) {
+          offer(END);
+        }
+      } catch (Throwable throwable) {
+        offer(new Failure(throwable));
+      }
+    }
+
+    /**
+     * @return false if the consumer stopped
+     */
+    private boolean offer(Object element) {
+      try {
+        while (!buffer.offer(element, OFFER_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+          if (isCancelled || consumer.get() == null) {
+            return false;
+          }
+        }
+        return !isCancelled;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+  }
+}
@@ -1,9 +1,12 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 
 @RequiredArgsConstructor
 public class SkipLStream<T> extends LStream<T> {
@@ -31,6 +34,38 @@ public class SkipLStream<T> extends LStream<T> {
     }
   }
 
+  @Override
+  public long knownSize() {
+    long baseKnownSize = knownSizeOf(baseIterator);
+    return baseKnownSize < 0 ? -1 : Math.max(0, baseKnownSize - (nbToSkip - nbSkipped));
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    long baseUpperBound = sizeUpperBoundOf(baseIterator);
+    return baseUpperBound == Long.MAX_VALUE
+        ? Long.MAX_VALUE
+        : Math.max(0, baseUpperBound - (nbToSkip - nbSkipped));
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+
+    if (nbSkipped >= nbToSkip) {
+      return forEachRemainingWhile(baseIterator, sink);
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (nbSkipped < nbToSkip) {
+            nbSkipped++;
+            return true;
+          }
+          return sink.test(value);
+        });
+  }
+
   private void skipNeeded() {
 
     while (nbSkipped < nbToSkip && baseIterator.hasNext()) {
@@ -38,4 +73,14 @@ public class SkipLStream<T> extends LStream<T> {
       nbSkipped++;
     }
   }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return sortComparatorOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
 }
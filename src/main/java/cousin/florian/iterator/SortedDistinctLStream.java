@@ -0,0 +1,65 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.util.*;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Removes duplicates of an lstream sorted in natural order : equal elements are consecutive, so
+ * that only the previous element is kept in memory. The natural order is supposed to be consistent
+ * with {@code equals}.
+ */
+public class SortedDistinctLStream<T> extends LStream<T> {
+
+  private final LStream<T> baseIterator;
+  private final FilterLStream<T> distinctIterator;
+  private boolean hasPrevious = false;
+  private @Nullable T previous;
+
+  public SortedDistinctLStream(LStream<T> baseIterator) {
+    this.baseIterator = baseIterator;
+    this.distinctIterator = new FilterLStream<>(baseIterator, this::isNotPrevious);
+  }
+
+  private boolean isNotPrevious(T value) {
+
+    if (hasPrevious && Objects.equals(previous, value)) {
+      return false;
+    }
+
+    hasPrevious = true;
+    previous = value;
+    return true;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return distinctIterator.hasNext();
+  }
+
+  @Override
+  public T next() {
+    return distinctIterator.next();
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+    return distinctIterator.forEachWhile(sink);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return distinctIterator.sizeUpperBound();
+  }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return baseIterator.sortComparator();
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return true;
+  }
+}
@@ -2,6 +2,7 @@ package cousin.florian.iterator;
 
 import cousin.florian.LStream;
 import cousin.florian.exception.SeveralElementsException;
+import cousin.florian.sort.ParallelSort;
 import cousin.florian.utils.SuppliedAccessList;
 import java.util.*;
 import org.jetbrains.annotations.Nullable;
@@ -9,15 +10,72 @@ import org.jetbrains.annotations.Nullable;
 public class SortedLStream<T> extends ListRandomAccessLStream<T> {
 
   private final LStream<T> baseIterator;
+  private final Comparator<? super T> comparator;
+  private final SuppliedAccessList<T> sortedElements;
+  private final boolean sizeIsKnown;
+  private final long baseSizeUpperBound;
 
   public SortedLStream(LStream<T> baseIterator, @Nullable Comparator<? super T> comparator) {
-    super(new SuppliedAccessList<>(() -> supplySortedList(baseIterator, comparator)));
+    this(baseIterator, comparator, (ParallelSort) null);
+  }
+
+  /**
+   * @param parallelSort if not null, the sort of all elements is done with it
+   */
+  public SortedLStream(
+      LStream<T> baseIterator,
+      @Nullable Comparator<? super T> comparator,
+      @Nullable ParallelSort parallelSort) {
+    this(
+        baseIterator,
+        comparator,
+        new SuppliedAccessList<>(
+            () -> supplySortedList(baseIterator, comparator, parallelSort),
+            knownListSize(baseIterator)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private SortedLStream(
+      LStream<T> baseIterator,
+      @Nullable Comparator<? super T> comparator,
+      SuppliedAccessList<T> sortedElements) {
+    super(sortedElements);
     this.baseIterator = baseIterator;
+    this.comparator =
+        comparator == null ? (Comparator<? super T>) Comparator.naturalOrder() : comparator;
+    this.sortedElements = sortedElements;
+    this.sizeIsKnown = knownListSize(baseIterator) >= 0;
+    this.baseSizeUpperBound = baseIterator.sizeUpperBound();
   }
 
+  /** Counts the elements of the base iterator without sorting them if they are not sorted yet. */
   @Override
   public long count() {
-    return baseIterator.count();
+    if (sizeIsKnown || sortedElements.isSupplied()) {
+      return super.count();
+    }
+    return Math.max(0, baseIterator.count() - nextIndex);
+  }
+
+  @Override
+  public Comparator<? super T> sortComparator() {
+    return comparator;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return baseIterator.isDistinct();
+  }
+
+  @Override
+  public long knownSize() {
+    // Asking the size of the sorted list when it is not known in advance would sort it
+    return sizeIsKnown || sortedElements.isSupplied() ? super.knownSize() : -1;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeIsKnown || sortedElements.isSupplied() ? super.sizeUpperBound() : baseSizeUpperBound;
   }
 
   @Override
@@ -25,10 +83,95 @@ public class SortedLStream<T> extends ListRandomAccessLStream<T> {
     return baseIterator.findOne();
   }
 
+  /**
+   * If the elements are not sorted yet, only the {@code maxSize} smallest elements after the
+   * skipped ones are selected, in {@code O(n log k)} time and {@code O(k)} memory where {@code k}
+   * is the number of skipped elements plus {@code maxSize}. The order is the same as a full sort.
+   */
+  @Override
+  public LStream<T> limit(long maxSize) {
+
+    long nbSmallest = nextIndex + maxSize;
+
+    if (sortedElements.isSupplied()
+        || maxSize < 0
+        || nbSmallest > Integer.MAX_VALUE
+        || nbSmallest >= baseIterator.sizeUpperBound()) {
+      return super.limit(maxSize);
+    }
+
+    List<T> smallestElements = selectSmallest(baseIterator, comparator, (int) nbSmallest);
+    int nbSkipped = Math.min(nextIndex, smallestElements.size());
+    return new SortedListLStream<>(
+        smallestElements.subList(nbSkipped, smallestElements.size()), comparator, isDistinct());
+  }
+
+  @Override
+  public Optional<T> findFirst() {
+    return sortedElements.isSupplied() ? super.findFirst() : limit(1).findFirst();
+  }
+
+  /**
+   * Returns the {@code nbSmallest} smallest elements of {@code baseIterator}, sorted. Equal
+   * elements keep their encounter order, like a stable sort.
+   */
+  private static <Element> List<Element> selectSmallest(
+      LStream<Element> baseIterator, Comparator<? super Element> comparator, int nbSmallest) {
+
+    if (nbSmallest == 0) {
+      return Collections.emptyList();
+    }
+
+    // An element encountered later is greater than an equal element encountered before
+    Comparator<RankedElement<Element>> rankedComparator =
+        Comparator.<RankedElement<Element>, Element>comparing(RankedElement::element, comparator)
+            .thenComparingLong(RankedElement::rank);
+
+    // The head of the queue is the greatest selected element, the first one to be evicted
+    PriorityQueue<RankedElement<Element>> greatestFirst =
+        new PriorityQueue<>(nbSmallest, rankedComparator.reversed());
+    long[] nextRank = {0};
+
+    baseIterator.forEach(
+        element -> {
+          RankedElement<Element> rankedElement = new RankedElement<>(element, nextRank[0]++);
+          if (greatestFirst.size() < nbSmallest) {
+            greatestFirst.add(rankedElement);
+          } else if (rankedComparator.compare(rankedElement, greatestFirst.peek()) < 0) {
+            greatestFirst.poll();
+            greatestFirst.add(rankedElement);
+          }
+        });
+
+    List<Element> smallestElements = new ArrayList<>(greatestFirst.size());
+    while (!greatestFirst.isEmpty()) {
+      smallestElements.add(greatestFirst.poll().element());
+    }
+    Collections.reverse(smallestElements);
+    return smallestElements;
+  }
+
+  private record RankedElement<Element>(Element element, long rank) {}
+
+  private static int knownListSize(LStream<?> baseIterator) {
+    long knownSize = baseIterator.knownSize();
+    return knownSize > Integer.MAX_VALUE ? -1 : (int) knownSize;
+  }
+
   private static <Element> List<Element> supplySortedList(
-      LStream<Element> baseIterator, @Nullable Comparator<? super Element> comparator) {
-    List<Element> values = new ArrayList<>(baseIterator.toList());
-    values.sort(comparator);
-    return values;
+      LStream<Element> baseIterator,
+      @Nullable Comparator<? super Element> comparator,
+      @Nullable ParallelSort parallelSort) {
+
+    @SuppressWarnings("unchecked")
+    Element[] values = (Element[]) baseIterator.toArray();
+
+    if (parallelSort == null) {
+      Arrays.sort(values, comparator);
+    } else {
+      parallelSort.sort(values, 0, values.length, comparator);
+    }
+
+    return Arrays.asList(values);
   }
 }
@@ -0,0 +1,28 @@
+package cousin.florian.iterator;
+
+import java.util.Comparator;
+import java.util.List;
+
+/** A random-access list whose elements are known to be sorted by {@code comparator}. */
+public class SortedListLStream<T> extends ListRandomAccessLStream<T> {
+
+  private final Comparator<? super T> comparator;
+  private final boolean distinct;
+
+  public SortedListLStream(
+      List<T> iterationObjects, Comparator<? super T> comparator, boolean distinct) {
+    super(iterationObjects);
+    this.comparator = comparator;
+    this.distinct = distinct;
+  }
+
+  @Override
+  public Comparator<? super T> sortComparator() {
+    return comparator;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return distinct;
+  }
+}
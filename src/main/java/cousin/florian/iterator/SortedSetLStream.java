@@ -0,0 +1,74 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Iterates over a {@link SortedSet}, whose elements are known to be sorted by its comparator and
+ * distinct. The comparator of the set is supposed to be consistent with {@code equals}.
+ */
+public class SortedSetLStream<T> extends LStream<T> {
+
+  private final SortedSet<T> sortedSet;
+  private final Comparator<? super T> comparator;
+  private final Iterator<T> baseIterator;
+  private long nbIterated = 0;
+
+  @SuppressWarnings("unchecked")
+  public SortedSetLStream(SortedSet<T> sortedSet) {
+    this.sortedSet = sortedSet;
+    this.comparator =
+        sortedSet.comparator() == null
+            ? (Comparator<? super T>) Comparator.naturalOrder()
+            : sortedSet.comparator();
+    this.baseIterator = sortedSet.iterator();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public T next() {
+    T next = baseIterator.next();
+    nbIterated++;
+    return next;
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          nbIterated++;
+          return sink.test(value);
+        });
+  }
+
+  @Override
+  public long knownSize() {
+    return Math.max(0, sortedSet.size() - nbIterated);
+  }
+
+  @Override
+  public long count() {
+    return knownSize();
+  }
+
+  @Override
+  public Optional<T> findLast() {
+    return hasNext() ? Optional.ofNullable(sortedSet.last()) : Optional.empty();
+  }
+
+  @Override
+  public Comparator<? super T> sortComparator() {
+    return comparator;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return true;
+  }
+}
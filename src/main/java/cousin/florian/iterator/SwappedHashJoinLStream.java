@@ -0,0 +1,133 @@
+package cousin.florian.iterator;
+
+import cousin.florian.JoinType;
+import cousin.florian.LStream;
+import cousin.florian.utils.HashJoinTable;
+import cousin.florian.utils.HashJoinTable.Bucket;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Joins the elements of {@code baseIterator} with those of {@code other}, like {@link
+ * HashJoinLStream}, but it is {@code baseIterator} that is put in {@code table}, because it is the
+ * smaller one. Results are in the order of {@code other}. Only inner and semi joins are supported,
+ * since the elements without match could only be returned at the end.
+ *
+ * <p>Semi joins stop reading {@code other} as soon as all the keys are matched.
+ */
+public class SwappedHashJoinLStream<T, U, R> extends LStream<R> {
+
+  private final Iterator<T> baseIterator;
+  private final Iterator<U> other;
+  private final HashJoinTable<T, U> table;
+  private final JoinType joinType;
+  private final BiFunction<? super T, ? super U, ? extends R> combiner;
+
+  private boolean tableIsBuilt = false;
+  private int nbMatchedBuckets = 0;
+
+  /** Elements of {@code currentMatches} not combined yet with {@code currentOtherElement} */
+  private @Nullable Bucket<T> currentMatches = null;
+
+  private U currentOtherElement;
+  private int matchIndex;
+
+  private boolean resultIsFound = false;
+  private R result;
+
+  public SwappedHashJoinLStream(
+      Iterator<T> baseIterator,
+      Iterator<U> other,
+      HashJoinTable<T, U> table,
+      JoinType joinType,
+      BiFunction<? super T, ? super U, ? extends R> combiner) {
+
+    if (joinType != JoinType.INNER && joinType != JoinType.SEMI) {
+      throw new IllegalArgumentException(
+          "joinType is %s but it should be INNER or SEMI".formatted(joinType));
+    }
+
+    this.baseIterator = baseIterator;
+    this.other = other;
+    this.table = table;
+    this.joinType = joinType;
+    this.combiner = combiner;
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    if (resultIsFound) {
+      return true;
+    }
+
+    if (!tableIsBuilt) {
+      baseIterator.forEachRemaining(table::add);
+      tableIsBuilt = true;
+    }
+
+    while (true) {
+
+      if (currentMatches != null && matchIndex < currentMatches.size()) {
+        result = combiner.apply(currentMatches.get(matchIndex++), currentOtherElement);
+        resultIsFound = true;
+        return true;
+      }
+
+      if (!isProbing()) {
+        return false;
+      }
+      probe(other.next());
+    }
+  }
+
+  @Override
+  public R next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more joined elements.");
+    }
+
+    resultIsFound = false;
+    R nextResult = result;
+    result = null;
+    return nextResult;
+  }
+
+  private boolean isProbing() {
+
+    List<Bucket<T>> buckets = table.buckets();
+    if (buckets.isEmpty()) {
+      return false;
+    }
+
+    return (joinType == JoinType.INNER || nbMatchedBuckets < buckets.size()) && other.hasNext();
+  }
+
+  private void probe(U otherElement) {
+
+    Bucket<T> matches = table.find(otherElement);
+    if (matches == null) {
+      return;
+    }
+
+    boolean isFirstMatch = !matches.isMatched();
+    if (isFirstMatch) {
+      matches.markMatched();
+      nbMatchedBuckets++;
+    }
+
+    if (joinType == JoinType.INNER || isFirstMatch) {
+      startMatches(matches, otherElement);
+    }
+  }
+
+  private void startMatches(Bucket<T> matches, U otherElement) {
+    currentMatches = matches;
+    currentOtherElement = otherElement;
+    matchIndex = 0;
+  }
+}
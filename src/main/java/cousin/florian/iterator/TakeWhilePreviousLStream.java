@@ -1,9 +1,11 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 
 @RequiredArgsConstructor
 public class TakeWhilePreviousLStream<T> extends LStream<T> {
@@ -24,4 +26,43 @@ public class TakeWhilePreviousLStream<T> extends LStream<T> {
     started = true;
     return previous = baseIterator.next();
   }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator);
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+
+    if (started && !previousPredicate.test(previous)) {
+      return true;
+    }
+
+    boolean[] stoppedBySink = {false};
+
+    forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          started = true;
+          previous = value;
+          if (!sink.test(value)) {
+            stoppedBySink[0] = true;
+            return false;
+          }
+          return previousPredicate.test(value);
+        });
+
+    return !stoppedBySink[0];
+  }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return sortComparatorOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
 }
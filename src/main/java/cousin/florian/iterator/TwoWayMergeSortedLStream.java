@@ -0,0 +1,103 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges two lstreams sorted by {@code comparator} with a single comparison per element. Equal
+ * elements of the first lstream are returned before those of the second one.
+ */
+public class TwoWayMergeSortedLStream<T> extends LStream<T> {
+
+  private final LStream<? extends T> first;
+  private final LStream<? extends T> second;
+  private final Comparator<? super T> comparator;
+
+  private T firstHead;
+  private T secondHead;
+  private boolean firstHasHead;
+  private boolean secondHasHead;
+  private boolean isStarted = false;
+
+  public TwoWayMergeSortedLStream(
+      LStream<? extends T> first, LStream<? extends T> second, Comparator<? super T> comparator) {
+    this.first = first;
+    this.second = second;
+    this.comparator = comparator;
+  }
+
+  @Override
+  public boolean hasNext() {
+
+    // The heads are only taken when the first element is asked
+    if (!isStarted) {
+      isStarted = true;
+      advanceFirst();
+      advanceSecond();
+    }
+
+    return firstHasHead || secondHasHead;
+  }
+
+  @Override
+  public T next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements to merge.");
+    }
+
+    if (firstHasHead && (!secondHasHead || comparator.compare(firstHead, secondHead) <= 0)) {
+      T nextElement = firstHead;
+      advanceFirst();
+      return nextElement;
+    }
+
+    T nextElement = secondHead;
+    advanceSecond();
+    return nextElement;
+  }
+
+  @Override
+  public long knownSize() {
+
+    long firstKnownSize = first.knownSize();
+    long secondKnownSize = second.knownSize();
+
+    if (firstKnownSize < 0 || secondKnownSize < 0) {
+      return -1;
+    }
+
+    return firstKnownSize + secondKnownSize + (firstHasHead ? 1 : 0) + (secondHasHead ? 1 : 0);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+
+    long firstSizeUpperBound = first.sizeUpperBound();
+    long secondSizeUpperBound = second.sizeUpperBound();
+    long nbHeads = (firstHasHead ? 1 : 0) + (secondHasHead ? 1 : 0);
+
+    if (firstSizeUpperBound > Long.MAX_VALUE - nbHeads - secondSizeUpperBound
+        || secondSizeUpperBound > Long.MAX_VALUE - nbHeads) {
+      return Long.MAX_VALUE;
+    }
+
+    return firstSizeUpperBound + secondSizeUpperBound + nbHeads;
+  }
+
+  @Override
+  public Comparator<? super T> sortComparator() {
+    return comparator;
+  }
+
+  private void advanceFirst() {
+    firstHasHead = first.hasNext();
+    firstHead = firstHasHead ? first.next() : null;
+  }
+
+  private void advanceSecond() {
+    secondHasHead = second.hasNext();
+    secondHead = secondHasHead ? second.next() : null;
+  }
+}
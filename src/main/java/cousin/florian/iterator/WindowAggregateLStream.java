@@ -0,0 +1,91 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import cousin.florian.collector.WindowCollector;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Returns the aggregation of each window of {@code size} consecutive elements of {@code
+ * baseIterator}, sliding of one element at a time. The elements of the window are kept in a ring
+ * buffer : the element leaving the window is removed from the accumulation and the entering one is
+ * added.
+ */
+public class WindowAggregateLStream<T, A, R> extends LStream<R> {
+
+  private final Iterator<T> baseIterator;
+  private final WindowCollector<? super T, A, R> collector;
+  private final Object[] window;
+  private final A accumulation;
+  private int oldestIndex = 0;
+  private int nbInWindow = 0;
+  private boolean isInitialised = false;
+  private boolean firstWindowIsPending = false;
+
+  public WindowAggregateLStream(
+      Iterator<T> baseIterator, int size, WindowCollector<? super T, A, R> collector) {
+    requireWindowSize(size, 1);
+    this.baseIterator = baseIterator;
+    this.collector = collector;
+    this.window = new Object[size];
+    this.accumulation = collector.supply();
+  }
+
+  @Override
+  public boolean hasNext() {
+    initialise();
+    return firstWindowIsPending || (nbInWindow == window.length && baseIterator.hasNext());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public R next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more windows.");
+    }
+
+    if (firstWindowIsPending) {
+      firstWindowIsPending = false;
+    } else {
+      T enteringElement = baseIterator.next();
+      collector.remove(accumulation, (T) window[oldestIndex]);
+      collector.add(accumulation, enteringElement);
+      window[oldestIndex] = enteringElement;
+      oldestIndex = oldestIndex == window.length - 1 ? 0 : oldestIndex + 1;
+    }
+
+    return collector.finish(accumulation);
+  }
+
+  @Override
+  public long knownSize() {
+
+    long baseKnownSize = knownSizeOf(baseIterator);
+    if (baseKnownSize < 0) {
+      return -1;
+    }
+
+    if (!isInitialised) {
+      return Math.max(0, baseKnownSize - window.length + 1);
+    }
+
+    return nbInWindow < window.length ? 0 : baseKnownSize + (firstWindowIsPending ? 1 : 0);
+  }
+
+  private void initialise() {
+
+    if (isInitialised) {
+      return;
+    }
+
+    while (nbInWindow < window.length && baseIterator.hasNext()) {
+      T element = baseIterator.next();
+      window[nbInWindow++] = element;
+      collector.add(accumulation, element);
+    }
+
+    isInitialised = true;
+    firstWindowIsPending = nbInWindow == window.length;
+  }
+}
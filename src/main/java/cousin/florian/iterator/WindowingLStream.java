@@ -0,0 +1,83 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Returns the windows of {@code size} consecutive elements of {@code baseIterator}, each window
+ * starting {@code step} elements after the previous one. Windows overlap if {@code step} is smaller
+ * than {@code size}, and elements between windows are skipped if it is greater. Last elements that
+ * do not fill a window are dropped.
+ */
+public class WindowingLStream<T> extends LStream<List<T>> {
+
+  private final Iterator<T> baseIterator;
+  private final int size;
+  private final int step;
+  private final List<T> window;
+  private long nbToSkip = 0;
+  private boolean windowIsFilled = false;
+
+  public WindowingLStream(Iterator<T> baseIterator, int size, int step) {
+    requireWindowSize(size, step);
+    this.baseIterator = baseIterator;
+    this.size = size;
+    this.step = step;
+    this.window = new ArrayList<>(size);
+  }
+
+  @Override
+  public boolean hasNext() {
+    fillWindow();
+    return window.size() == size;
+  }
+
+  @Override
+  public List<T> next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more windows.");
+    }
+
+    List<T> nextWindow = new ArrayList<>(window);
+
+    window.subList(0, Math.min(step, size)).clear();
+    nbToSkip = Math.max(0, step - size);
+    windowIsFilled = false;
+
+    return nextWindow;
+  }
+
+  @Override
+  public long knownSize() {
+
+    long baseKnownSize = knownSizeOf(baseIterator);
+    if (baseKnownSize < 0) {
+      return -1;
+    }
+
+    long nbElements = window.size() + Math.max(0, baseKnownSize - nbToSkip);
+    return nbElements < size ? 0 : (nbElements - size) / step + 1;
+  }
+
+  private void fillWindow() {
+
+    if (windowIsFilled) {
+      return;
+    }
+
+    while (nbToSkip > 0 && baseIterator.hasNext()) {
+      baseIterator.next();
+      nbToSkip--;
+    }
+
+    while (window.size() < size && baseIterator.hasNext()) {
+      window.add(baseIterator.next());
+    }
+
+    windowIsFilled = true;
+  }
+}
@@ -0,0 +1,56 @@
+package cousin.florian.iterator;
+
+import cousin.florian.LStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import lombok.RequiredArgsConstructor;
+
+/** Combines elements of both iterators with the same index, until one of them ends. */
+@RequiredArgsConstructor
+public class ZipLStream<T, U, R> extends LStream<R> {
+
+  private final LStream<T> baseIterator;
+  private final Iterator<U> otherIterator;
+  private final BiFunction<? super T, ? super U, ? extends R> combiner;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext() && otherIterator.hasNext();
+  }
+
+  @Override
+  public R next() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("One of the zipped lstreams has no more elements.");
+    }
+
+    return combiner.apply(baseIterator.next(), otherIterator.next());
+  }
+
+  @Override
+  public long knownSize() {
+
+    long baseKnownSize = baseIterator.knownSize();
+    long otherKnownSize = knownSizeOf(otherIterator);
+
+    return baseKnownSize < 0 || otherKnownSize < 0 ? -1 : Math.min(baseKnownSize, otherKnownSize);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return Math.min(baseIterator.sizeUpperBound(), sizeUpperBoundOf(otherIterator));
+  }
+
+  /** Skips on both sides, without combining skipped elements. */
+  @Override
+  public LStream<R> skip(long nbToSkip) {
+
+    if (!(otherIterator instanceof LStream<U> otherLStream)) {
+      return super.skip(nbToSkip);
+    }
+
+    return new ZipLStream<>(baseIterator.skip(nbToSkip), otherLStream.skip(nbToSkip), combiner);
+  }
+}
@@ -0,0 +1,77 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.DoublePredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleArrayLStream extends DoubleLStream {
+
+  private final double[] iterationValues;
+  private int nextIndex = 0;
+
+  @Override
+  public boolean hasNext() {
+    return iterationValues.length > nextIndex;
+  }
+
+  @Override
+  public double nextDouble() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the array.");
+    }
+
+    return iterationValues[nextIndex++];
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+    while (nextIndex < iterationValues.length) {
+      if (!sink.test(iterationValues[nextIndex++])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public DoubleArrayLStream skip(long nbToSkip) {
+    requirePositive(nbToSkip);
+    nextIndex = (int) Math.min(Integer.MAX_VALUE, nextIndex + nbToSkip);
+    return this;
+  }
+
+  @Override
+  public double[] toArray() {
+
+    if (!hasNext()) {
+      return new double[0];
+    }
+
+    return Arrays.copyOfRange(iterationValues, nextIndex, iterationValues.length);
+  }
+
+  @Override
+  public long count() {
+    return Math.max(0, iterationValues.length - nextIndex);
+  }
+
+  @Override
+  public long knownSize() {
+    return count();
+  }
+
+  @Override
+  public OptionalDouble findLast() {
+
+    if (hasNext()) {
+      return OptionalDouble.of(iterationValues[iterationValues.length - 1]);
+    }
+
+    return OptionalDouble.empty();
+  }
+}
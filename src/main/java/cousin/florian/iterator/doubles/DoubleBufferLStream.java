@@ -0,0 +1,80 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import cousin.florian.utils.DoubleChunkedBuffer;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.DoublePredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleBufferLStream extends DoubleLStream {
+
+  private final DoubleChunkedBuffer iterationValues;
+  private int nextIndex = 0;
+
+  @Override
+  public boolean hasNext() {
+    return iterationValues.size() > nextIndex;
+  }
+
+  @Override
+  public double nextDouble() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the buffer.");
+    }
+
+    return iterationValues.get(nextIndex++);
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+    int size = iterationValues.size();
+    while (nextIndex < size) {
+      if (!sink.test(iterationValues.get(nextIndex++))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public DoubleBufferLStream skip(long nbToSkip) {
+    requirePositive(nbToSkip);
+    nextIndex = (int) Math.min(Integer.MAX_VALUE, nextIndex + nbToSkip);
+    return this;
+  }
+
+  @Override
+  public double[] toArray() {
+
+    if (nextIndex == 0) {
+      nextIndex = iterationValues.size();
+      return iterationValues.toArray();
+    }
+
+    return super.toArray();
+  }
+
+  @Override
+  public long count() {
+    return Math.max(0, iterationValues.size() - nextIndex);
+  }
+
+  @Override
+  public long knownSize() {
+    return count();
+  }
+
+  @Override
+  public OptionalDouble findLast() {
+
+    if (hasNext()) {
+      nextIndex = iterationValues.size();
+      return OptionalDouble.of(iterationValues.get(nextIndex - 1));
+    }
+
+    return OptionalDouble.empty();
+  }
+}
@@ -0,0 +1,94 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleDropWhileLStream extends DoubleLStream {
+
+  private final PrimitiveIterator.OfDouble baseIterator;
+  private final DoublePredicate predicate;
+
+  private double firstNotDroppedValue;
+  private boolean firstIsConsumed = true;
+  private boolean started = false;
+
+  @Override
+  public boolean hasNext() {
+
+    dropUntilNext();
+
+    return !firstIsConsumed || baseIterator.hasNext();
+  }
+
+  @Override
+  public double nextDouble() {
+
+    dropUntilNext();
+
+    started = true;
+
+    if (firstIsConsumed) {
+      return baseIterator.nextDouble();
+    }
+
+    firstIsConsumed = true;
+    return firstNotDroppedValue;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator, firstIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+
+    if (!firstIsConsumed) {
+      firstIsConsumed = true;
+      started = true;
+      if (!sink.test(firstNotDroppedValue)) {
+        return false;
+      }
+    }
+
+    if (started) {
+      return forEachRemainingWhile(baseIterator, sink);
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (!started) {
+            if (predicate.test(value)) {
+              return true;
+            }
+            started = true;
+          }
+          return sink.test(value);
+        });
+  }
+
+  private void dropUntilNext() {
+
+    while (!started && firstIsConsumed && baseIterator.hasNext()) {
+      double currentNext = baseIterator.nextDouble();
+      if (predicate.negate().test(currentNext)) {
+        firstIsConsumed = false;
+        firstNotDroppedValue = currentNext;
+      }
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
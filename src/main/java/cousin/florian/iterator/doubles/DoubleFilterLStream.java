@@ -0,0 +1,74 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleFilterLStream extends DoubleLStream {
+
+  private final PrimitiveIterator.OfDouble iterator;
+  private final DoublePredicate predicate;
+
+  private double next;
+  private boolean nextIsConsumed = true;
+
+  @Override
+  public boolean hasNext() {
+
+    dropUntilValue();
+
+    return !nextIsConsumed;
+  }
+
+  @Override
+  public double nextDouble() {
+
+    if (hasNext()) {
+      nextIsConsumed = true;
+      return next;
+    } else {
+      throw new NoSuchElementException("No more elements in filter iterator.");
+    }
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(iterator, nextIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+
+    if (!nextIsConsumed) {
+      nextIsConsumed = true;
+      if (!sink.test(next)) {
+        return false;
+      }
+    }
+
+    return forEachRemainingWhile(iterator, value -> !predicate.test(value) || sink.test(value));
+  }
+
+  private void dropUntilValue() {
+    while (nextIsConsumed && iterator.hasNext()) {
+      double currentNext = iterator.nextDouble();
+      if (predicate.test(currentNext)) {
+        next = currentNext;
+        nextIsConsumed = false;
+      }
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(iterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(iterator);
+  }
+}
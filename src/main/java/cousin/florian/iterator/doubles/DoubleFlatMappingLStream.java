@@ -0,0 +1,57 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleFlatMappingLStream extends DoubleLStream {
+
+  private final PrimitiveIterator.OfDouble baseIterator;
+  private final DoubleFunction<? extends DoubleLStream> mapper;
+  private PrimitiveIterator.OfDouble currentMappingIterator = DoubleLStream.empty();
+
+  @Override
+  public boolean hasNext() {
+
+    dropBaseIteratorUntilValue();
+
+    return currentMappingIterator.hasNext();
+  }
+
+  @Override
+  public double nextDouble() {
+
+    dropBaseIteratorUntilValue();
+
+    return currentMappingIterator.nextDouble();
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+
+    if (!forEachRemainingWhile(currentMappingIterator, sink)) {
+      return false;
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          currentMappingIterator = mapToIterator(value);
+          return forEachRemainingWhile(currentMappingIterator, sink);
+        });
+  }
+
+  private void dropBaseIteratorUntilValue() {
+    while (!currentMappingIterator.hasNext() && baseIterator.hasNext()) {
+      currentMappingIterator = mapToIterator(baseIterator.nextDouble());
+    }
+  }
+
+  private PrimitiveIterator.OfDouble mapToIterator(double value) {
+    DoubleLStream mappedValues = mapper.apply(value);
+    return mappedValues == null ? DoubleLStream.empty() : mappedValues;
+  }
+}
@@ -0,0 +1,80 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleLimitLStream extends DoubleLStream {
+
+  private final PrimitiveIterator.OfDouble baseIterator;
+  private final long maxSize;
+  private long iteration = 0;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext() && iteration < maxSize;
+  }
+
+  @Override
+  public double nextDouble() {
+
+    if (hasNext()) {
+      iteration++;
+    } else {
+      throw new NoSuchElementException("iteration limit has been reached");
+    }
+
+    return baseIterator.nextDouble();
+  }
+
+  @Override
+  public long knownSize() {
+    long baseKnownSize = knownSizeOf(baseIterator);
+    return baseKnownSize < 0 ? -1 : Math.min(baseKnownSize, remainingSize());
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return Math.min(sizeUpperBoundOf(baseIterator), remainingSize());
+  }
+
+  private long remainingSize() {
+    return Math.max(0, maxSize - iteration);
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+
+    if (iteration >= maxSize) {
+      return true;
+    }
+
+    boolean[] stoppedBySink = {false};
+
+    forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          iteration++;
+          if (!sink.test(value)) {
+            stoppedBySink[0] = true;
+            return false;
+          }
+          return iteration < maxSize;
+        });
+
+    return !stoppedBySink[0];
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
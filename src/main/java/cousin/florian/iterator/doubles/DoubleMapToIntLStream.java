@@ -0,0 +1,39 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import cousin.florian.IntLStream;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleMapToIntLStream extends IntLStream {
+
+  private final DoubleLStream baseIterator;
+  private final DoubleToIntFunction mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public int nextInt() {
+    return mapper.applyAsInt(baseIterator.nextDouble());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.applyAsInt(value)));
+  }
+}
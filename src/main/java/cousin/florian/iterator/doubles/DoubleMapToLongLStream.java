@@ -0,0 +1,39 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import cousin.florian.LongLStream;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleMapToLongLStream extends LongLStream {
+
+  private final DoubleLStream baseIterator;
+  private final DoubleToLongFunction mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+    return mapper.applyAsLong(baseIterator.nextDouble());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.applyAsLong(value)));
+  }
+}
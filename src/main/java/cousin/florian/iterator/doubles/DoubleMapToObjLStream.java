@@ -0,0 +1,39 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import cousin.florian.LStream;
+import java.util.function.DoubleFunction;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleMapToObjLStream<R> extends LStream<R> {
+
+  private final DoubleLStream baseIterator;
+  private final DoubleFunction<? extends R> mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public R next() {
+    return mapper.apply(baseIterator.nextDouble());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super R> sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.apply(value)));
+  }
+}
@@ -0,0 +1,39 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleMappingLStream extends DoubleLStream {
+
+  private final PrimitiveIterator.OfDouble previousIterator;
+  private final DoubleUnaryOperator mapper;
+
+  @Override
+  public boolean hasNext() {
+    return previousIterator.hasNext();
+  }
+
+  @Override
+  public double nextDouble() {
+    return mapper.applyAsDouble(previousIterator.nextDouble());
+  }
+
+  @Override
+  public long knownSize() {
+    return knownSizeOf(previousIterator);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(previousIterator);
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+    return forEachRemainingWhile(previousIterator, value -> sink.test(mapper.applyAsDouble(value)));
+  }
+}
@@ -0,0 +1,56 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoublePeekLStream extends DoubleLStream {
+
+  private final PrimitiveIterator.OfDouble baseIterator;
+  private final DoubleConsumer action;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public double nextDouble() {
+    double next = baseIterator.nextDouble();
+    action.accept(next);
+    return next;
+  }
+
+  @Override
+  public long knownSize() {
+    return knownSizeOf(baseIterator);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator);
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          action.accept(value);
+          return sink.test(value);
+        });
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
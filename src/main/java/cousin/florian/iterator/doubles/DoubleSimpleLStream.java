@@ -0,0 +1,21 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.PrimitiveIterator;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleSimpleLStream extends DoubleLStream {
+
+  private final PrimitiveIterator.OfDouble iterator;
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public double nextDouble() {
+    return iterator.nextDouble();
+  }
+}
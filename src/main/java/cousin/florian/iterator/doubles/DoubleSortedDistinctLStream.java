@@ -0,0 +1,60 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.function.DoublePredicate;
+
+/**
+ * Removes duplicates of a sorted lstream : equal elements are consecutive, so that only the
+ * previous element is kept in memory.
+ */
+public class DoubleSortedDistinctLStream extends DoubleLStream {
+
+  private final DoubleLStream distinctIterator;
+  private boolean hasPrevious = false;
+  private double previous;
+
+  public DoubleSortedDistinctLStream(DoubleLStream baseIterator) {
+    this.distinctIterator = new DoubleFilterLStream(baseIterator, this::isNotPrevious);
+  }
+
+  private boolean isNotPrevious(double value) {
+
+    if (hasPrevious && Double.compare(previous, value) == 0) {
+      return false;
+    }
+
+    hasPrevious = true;
+    previous = value;
+    return true;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return distinctIterator.hasNext();
+  }
+
+  @Override
+  public double nextDouble() {
+    return distinctIterator.nextDouble();
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+    return distinctIterator.forEachWhile(sink);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return distinctIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean isSorted() {
+    return true;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return true;
+  }
+}
@@ -0,0 +1,83 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.DoublePredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleSortedLStream extends DoubleLStream {
+
+  private final DoubleLStream baseIterator;
+
+  private double[] sortedValues;
+  private int nextIndex = 0;
+
+  @Override
+  public boolean hasNext() {
+    return sortedValues().length > nextIndex;
+  }
+
+  @Override
+  public double nextDouble() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the sorted values.");
+    }
+
+    return sortedValues[nextIndex++];
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+    double[] values = sortedValues();
+    while (nextIndex < values.length) {
+      if (!sink.test(values[nextIndex++])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public double[] toArray() {
+    double[] values = sortedValues();
+    return nextIndex == 0 ? values : Arrays.copyOfRange(values, nextIndex, values.length);
+  }
+
+  @Override
+  public long count() {
+    return sortedValues == null ? baseIterator.count() : sortedValues.length - nextIndex;
+  }
+
+  @Override
+  public boolean isSorted() {
+    return true;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return baseIterator.isDistinct();
+  }
+
+  @Override
+  public long knownSize() {
+    return sortedValues == null ? baseIterator.knownSize() : sortedValues.length - nextIndex;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sortedValues == null ? baseIterator.sizeUpperBound() : sortedValues.length - nextIndex;
+  }
+
+  private double[] sortedValues() {
+
+    if (sortedValues == null) {
+      sortedValues = baseIterator.toArray();
+      Arrays.sort(sortedValues);
+    }
+
+    return sortedValues;
+  }
+}
@@ -0,0 +1,92 @@
+package cousin.florian.iterator.doubles;
+
+import cousin.florian.DoubleLStream;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DoubleTakeWhileLStream extends DoubleLStream {
+
+  private final PrimitiveIterator.OfDouble baseIterator;
+  private final DoublePredicate predicate;
+
+  private double next;
+  private boolean nextIsConsumed = true;
+
+  @Override
+  public boolean hasNext() {
+
+    dropUntilNext();
+
+    return !nextIsConsumed && predicate.test(next);
+  }
+
+  @Override
+  public double nextDouble() {
+
+    if (hasNext()) {
+      nextIsConsumed = true;
+      return next;
+    } else {
+      throw new NoSuchElementException("the current element is not taken anymore");
+    }
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator, nextIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+
+    if (!nextIsConsumed) {
+      if (!predicate.test(next)) {
+        return true;
+      }
+      nextIsConsumed = true;
+      if (!sink.test(next)) {
+        return false;
+      }
+    }
+
+    boolean[] stoppedBySink = {false};
+
+    forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (!predicate.test(value)) {
+            next = value;
+            nextIsConsumed = false;
+            return false;
+          }
+          if (!sink.test(value)) {
+            stoppedBySink[0] = true;
+            return false;
+          }
+          return true;
+        });
+
+    return !stoppedBySink[0];
+  }
+
+  private void dropUntilNext() {
+
+    if (nextIsConsumed && baseIterator.hasNext()) {
+      nextIsConsumed = false;
+      next = baseIterator.nextDouble();
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
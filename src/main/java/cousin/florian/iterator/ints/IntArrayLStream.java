@@ -0,0 +1,77 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntArrayLStream extends IntLStream {
+
+  private final int[] iterationValues;
+  private int nextIndex = 0;
+
+  @Override
+  public boolean hasNext() {
+    return iterationValues.length > nextIndex;
+  }
+
+  @Override
+  public int nextInt() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the array.");
+    }
+
+    return iterationValues[nextIndex++];
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    while (nextIndex < iterationValues.length) {
+      if (!sink.test(iterationValues[nextIndex++])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public IntArrayLStream skip(long nbToSkip) {
+    requirePositive(nbToSkip);
+    nextIndex = (int) Math.min(Integer.MAX_VALUE, nextIndex + nbToSkip);
+    return this;
+  }
+
+  @Override
+  public int[] toArray() {
+
+    if (!hasNext()) {
+      return new int[0];
+    }
+
+    return Arrays.copyOfRange(iterationValues, nextIndex, iterationValues.length);
+  }
+
+  @Override
+  public long count() {
+    return Math.max(0, iterationValues.length - nextIndex);
+  }
+
+  @Override
+  public long knownSize() {
+    return count();
+  }
+
+  @Override
+  public OptionalInt findLast() {
+
+    if (hasNext()) {
+      return OptionalInt.of(iterationValues[iterationValues.length - 1]);
+    }
+
+    return OptionalInt.empty();
+  }
+}
@@ -0,0 +1,80 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import cousin.florian.utils.IntChunkedBuffer;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntBufferLStream extends IntLStream {
+
+  private final IntChunkedBuffer iterationValues;
+  private int nextIndex = 0;
+
+  @Override
+  public boolean hasNext() {
+    return iterationValues.size() > nextIndex;
+  }
+
+  @Override
+  public int nextInt() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the buffer.");
+    }
+
+    return iterationValues.get(nextIndex++);
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    int size = iterationValues.size();
+    while (nextIndex < size) {
+      if (!sink.test(iterationValues.get(nextIndex++))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public IntBufferLStream skip(long nbToSkip) {
+    requirePositive(nbToSkip);
+    nextIndex = (int) Math.min(Integer.MAX_VALUE, nextIndex + nbToSkip);
+    return this;
+  }
+
+  @Override
+  public int[] toArray() {
+
+    if (nextIndex == 0) {
+      nextIndex = iterationValues.size();
+      return iterationValues.toArray();
+    }
+
+    return super.toArray();
+  }
+
+  @Override
+  public long count() {
+    return Math.max(0, iterationValues.size() - nextIndex);
+  }
+
+  @Override
+  public long knownSize() {
+    return count();
+  }
+
+  @Override
+  public OptionalInt findLast() {
+
+    if (hasNext()) {
+      nextIndex = iterationValues.size();
+      return OptionalInt.of(iterationValues.get(nextIndex - 1));
+    }
+
+    return OptionalInt.empty();
+  }
+}
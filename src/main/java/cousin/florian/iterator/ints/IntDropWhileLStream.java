@@ -0,0 +1,94 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntDropWhileLStream extends IntLStream {
+
+  private final PrimitiveIterator.OfInt baseIterator;
+  private final IntPredicate predicate;
+
+  private int firstNotDroppedValue;
+  private boolean firstIsConsumed = true;
+  private boolean started = false;
+
+  @Override
+  public boolean hasNext() {
+
+    dropUntilNext();
+
+    return !firstIsConsumed || baseIterator.hasNext();
+  }
+
+  @Override
+  public int nextInt() {
+
+    dropUntilNext();
+
+    started = true;
+
+    if (firstIsConsumed) {
+      return baseIterator.nextInt();
+    }
+
+    firstIsConsumed = true;
+    return firstNotDroppedValue;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator, firstIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+
+    if (!firstIsConsumed) {
+      firstIsConsumed = true;
+      started = true;
+      if (!sink.test(firstNotDroppedValue)) {
+        return false;
+      }
+    }
+
+    if (started) {
+      return forEachRemainingWhile(baseIterator, sink);
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (!started) {
+            if (predicate.test(value)) {
+              return true;
+            }
+            started = true;
+          }
+          return sink.test(value);
+        });
+  }
+
+  private void dropUntilNext() {
+
+    while (!started && firstIsConsumed && baseIterator.hasNext()) {
+      int currentNext = baseIterator.nextInt();
+      if (predicate.negate().test(currentNext)) {
+        firstIsConsumed = false;
+        firstNotDroppedValue = currentNext;
+      }
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
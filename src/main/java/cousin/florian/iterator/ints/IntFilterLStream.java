@@ -0,0 +1,74 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntFilterLStream extends IntLStream {
+
+  private final PrimitiveIterator.OfInt iterator;
+  private final IntPredicate predicate;
+
+  private int next;
+  private boolean nextIsConsumed = true;
+
+  @Override
+  public boolean hasNext() {
+
+    dropUntilValue();
+
+    return !nextIsConsumed;
+  }
+
+  @Override
+  public int nextInt() {
+
+    if (hasNext()) {
+      nextIsConsumed = true;
+      return next;
+    } else {
+      throw new NoSuchElementException("No more elements in filter iterator.");
+    }
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(iterator, nextIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+
+    if (!nextIsConsumed) {
+      nextIsConsumed = true;
+      if (!sink.test(next)) {
+        return false;
+      }
+    }
+
+    return forEachRemainingWhile(iterator, value -> !predicate.test(value) || sink.test(value));
+  }
+
+  private void dropUntilValue() {
+    while (nextIsConsumed && iterator.hasNext()) {
+      int currentNext = iterator.nextInt();
+      if (predicate.test(currentNext)) {
+        next = currentNext;
+        nextIsConsumed = false;
+      }
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(iterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(iterator);
+  }
+}
@@ -0,0 +1,57 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntFlatMappingLStream extends IntLStream {
+
+  private final PrimitiveIterator.OfInt baseIterator;
+  private final IntFunction<? extends IntLStream> mapper;
+  private PrimitiveIterator.OfInt currentMappingIterator = IntLStream.empty();
+
+  @Override
+  public boolean hasNext() {
+
+    dropBaseIteratorUntilValue();
+
+    return currentMappingIterator.hasNext();
+  }
+
+  @Override
+  public int nextInt() {
+
+    dropBaseIteratorUntilValue();
+
+    return currentMappingIterator.nextInt();
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+
+    if (!forEachRemainingWhile(currentMappingIterator, sink)) {
+      return false;
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          currentMappingIterator = mapToIterator(value);
+          return forEachRemainingWhile(currentMappingIterator, sink);
+        });
+  }
+
+  private void dropBaseIteratorUntilValue() {
+    while (!currentMappingIterator.hasNext() && baseIterator.hasNext()) {
+      currentMappingIterator = mapToIterator(baseIterator.nextInt());
+    }
+  }
+
+  private PrimitiveIterator.OfInt mapToIterator(int value) {
+    IntLStream mappedValues = mapper.apply(value);
+    return mappedValues == null ? IntLStream.empty() : mappedValues;
+  }
+}
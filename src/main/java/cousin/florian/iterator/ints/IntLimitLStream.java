@@ -0,0 +1,80 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntLimitLStream extends IntLStream {
+
+  private final PrimitiveIterator.OfInt baseIterator;
+  private final long maxSize;
+  private long iteration = 0;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext() && iteration < maxSize;
+  }
+
+  @Override
+  public int nextInt() {
+
+    if (hasNext()) {
+      iteration++;
+    } else {
+      throw new NoSuchElementException("iteration limit has been reached");
+    }
+
+    return baseIterator.nextInt();
+  }
+
+  @Override
+  public long knownSize() {
+    long baseKnownSize = knownSizeOf(baseIterator);
+    return baseKnownSize < 0 ? -1 : Math.min(baseKnownSize, remainingSize());
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return Math.min(sizeUpperBoundOf(baseIterator), remainingSize());
+  }
+
+  private long remainingSize() {
+    return Math.max(0, maxSize - iteration);
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+
+    if (iteration >= maxSize) {
+      return true;
+    }
+
+    boolean[] stoppedBySink = {false};
+
+    forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          iteration++;
+          if (!sink.test(value)) {
+            stoppedBySink[0] = true;
+            return false;
+          }
+          return iteration < maxSize;
+        });
+
+    return !stoppedBySink[0];
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
@@ -0,0 +1,39 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.DoubleLStream;
+import cousin.florian.IntLStream;
+import java.util.function.DoublePredicate;
+import java.util.function.IntToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntMapToDoubleLStream extends DoubleLStream {
+
+  private final IntLStream baseIterator;
+  private final IntToDoubleFunction mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public double nextDouble() {
+    return mapper.applyAsDouble(baseIterator.nextInt());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.applyAsDouble(value)));
+  }
+}
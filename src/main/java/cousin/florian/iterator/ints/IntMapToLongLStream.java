@@ -0,0 +1,39 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import cousin.florian.LongLStream;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntMapToLongLStream extends LongLStream {
+
+  private final IntLStream baseIterator;
+  private final IntToLongFunction mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+    return mapper.applyAsLong(baseIterator.nextInt());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.applyAsLong(value)));
+  }
+}
@@ -0,0 +1,39 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import cousin.florian.LStream;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntMapToObjLStream<R> extends LStream<R> {
+
+  private final IntLStream baseIterator;
+  private final IntFunction<? extends R> mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public R next() {
+    return mapper.apply(baseIterator.nextInt());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super R> sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.apply(value)));
+  }
+}
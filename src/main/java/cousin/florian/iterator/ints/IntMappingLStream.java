@@ -0,0 +1,39 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntMappingLStream extends IntLStream {
+
+  private final PrimitiveIterator.OfInt previousIterator;
+  private final IntUnaryOperator mapper;
+
+  @Override
+  public boolean hasNext() {
+    return previousIterator.hasNext();
+  }
+
+  @Override
+  public int nextInt() {
+    return mapper.applyAsInt(previousIterator.nextInt());
+  }
+
+  @Override
+  public long knownSize() {
+    return knownSizeOf(previousIterator);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(previousIterator);
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    return forEachRemainingWhile(previousIterator, value -> sink.test(mapper.applyAsInt(value)));
+  }
+}
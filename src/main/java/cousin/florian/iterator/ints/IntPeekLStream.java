@@ -0,0 +1,56 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntPeekLStream extends IntLStream {
+
+  private final PrimitiveIterator.OfInt baseIterator;
+  private final IntConsumer action;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public int nextInt() {
+    int next = baseIterator.nextInt();
+    action.accept(next);
+    return next;
+  }
+
+  @Override
+  public long knownSize() {
+    return knownSizeOf(baseIterator);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator);
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          action.accept(value);
+          return sink.test(value);
+        });
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
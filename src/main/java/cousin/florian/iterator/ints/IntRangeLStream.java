@@ -0,0 +1,182 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.function.IntPredicate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * The arithmetic progression {@code first, first + step, first + 2 * step, ...} of {@code
+ * remaining} elements. Its elements are never stored, so most operations are computed in constant
+ * time.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IntRangeLStream extends IntLStream {
+
+  private int next;
+  private final int step;
+  private long remaining;
+
+  public static IntRangeLStream of(int start, int end, int step, boolean endInclusive) {
+
+    if (step == 0) {
+      throw new IllegalArgumentException("step should not be 0");
+    }
+
+    long distance = step > 0 ? (long) end - start : (long) start - end;
+    long absoluteStep = Math.abs((long) step);
+
+    long size;
+    if (endInclusive) {
+      size = distance < 0 ? 0 : distance / absoluteStep + 1;
+    } else {
+      size = distance <= 0 ? 0 : (distance - 1) / absoluteStep + 1;
+    }
+
+    return new IntRangeLStream(start, step, size);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return remaining > 0;
+  }
+
+  @Override
+  public int nextInt() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the range.");
+    }
+
+    int current = next;
+    next += step;
+    remaining--;
+    return current;
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    while (remaining > 0) {
+      if (!sink.test(nextInt())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public IntRangeLStream skip(long nbToSkip) {
+
+    requirePositive(nbToSkip);
+
+    if (nbToSkip >= remaining) {
+      remaining = 0;
+    } else {
+      next = (int) (next + nbToSkip * step);
+      remaining -= nbToSkip;
+    }
+
+    return this;
+  }
+
+  @Override
+  public IntRangeLStream limit(long maxSize) {
+    remaining = Math.max(0, Math.min(remaining, maxSize));
+    return this;
+  }
+
+  @Override
+  public IntRangeLStream distinct() {
+    return this;
+  }
+
+  @Override
+  public IntRangeLStream sorted() {
+
+    if (step > 0 || remaining == 0) {
+      return this;
+    }
+
+    IntRangeLStream sortedRange = new IntRangeLStream(last(), -step, remaining);
+    remaining = 0;
+    return sortedRange;
+  }
+
+  @Override
+  public boolean isSorted() {
+    return step > 0 || remaining <= 1;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return true;
+  }
+
+  @Override
+  public long count() {
+    return remaining;
+  }
+
+  @Override
+  public long knownSize() {
+    return remaining;
+  }
+
+  @Override
+  public int[] toArray() {
+
+    if (remaining > Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("Required array size is too large");
+    }
+
+    int[] elements = new int[(int) remaining];
+    for (int index = 0; index < elements.length; index++) {
+      elements[index] = next;
+      next += step;
+    }
+
+    remaining = 0;
+    return elements;
+  }
+
+  @Override
+  public int sum() {
+
+    // first * n + step * n * (n - 1) / 2, dividing the even factor so that overflows wrap as if
+    // the elements were added one by one
+    long halfProduct =
+        remaining % 2 == 0 ? remaining / 2 * (remaining - 1) : (remaining - 1) / 2 * remaining;
+    int sum = (int) (next * remaining + step * halfProduct);
+
+    remaining = 0;
+    return sum;
+  }
+
+  @Override
+  public OptionalInt min() {
+    return step > 0 ? findFirst() : findLast();
+  }
+
+  @Override
+  public OptionalInt max() {
+    return step > 0 ? findLast() : findFirst();
+  }
+
+  @Override
+  public OptionalInt findLast() {
+
+    if (remaining == 0) {
+      return OptionalInt.empty();
+    }
+
+    int last = last();
+    remaining = 0;
+    return OptionalInt.of(last);
+  }
+
+  private int last() {
+    return (int) (next + (remaining - 1) * step);
+  }
+}
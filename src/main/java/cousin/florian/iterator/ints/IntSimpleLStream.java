@@ -0,0 +1,21 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.PrimitiveIterator;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntSimpleLStream extends IntLStream {
+
+  private final PrimitiveIterator.OfInt iterator;
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public int nextInt() {
+    return iterator.nextInt();
+  }
+}
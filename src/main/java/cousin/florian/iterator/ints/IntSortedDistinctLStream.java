@@ -0,0 +1,60 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.function.IntPredicate;
+
+/**
+ * Removes duplicates of a sorted lstream : equal elements are consecutive, so that only the
+ * previous element is kept in memory.
+ */
+public class IntSortedDistinctLStream extends IntLStream {
+
+  private final IntLStream distinctIterator;
+  private boolean hasPrevious = false;
+  private int previous;
+
+  public IntSortedDistinctLStream(IntLStream baseIterator) {
+    this.distinctIterator = new IntFilterLStream(baseIterator, this::isNotPrevious);
+  }
+
+  private boolean isNotPrevious(int value) {
+
+    if (hasPrevious && previous == value) {
+      return false;
+    }
+
+    hasPrevious = true;
+    previous = value;
+    return true;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return distinctIterator.hasNext();
+  }
+
+  @Override
+  public int nextInt() {
+    return distinctIterator.nextInt();
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    return distinctIterator.forEachWhile(sink);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return distinctIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean isSorted() {
+    return true;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return true;
+  }
+}
@@ -0,0 +1,88 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import cousin.florian.utils.RadixSort;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntSortedLStream extends IntLStream {
+
+  private final IntLStream baseIterator;
+
+  private int[] sortedValues;
+  private int nextIndex = 0;
+
+  @Override
+  public boolean hasNext() {
+    return sortedValues().length > nextIndex;
+  }
+
+  @Override
+  public int nextInt() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the sorted values.");
+    }
+
+    return sortedValues[nextIndex++];
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    int[] values = sortedValues();
+    while (nextIndex < values.length) {
+      if (!sink.test(values[nextIndex++])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int[] toArray() {
+    int[] values = sortedValues();
+    return nextIndex == 0 ? values : Arrays.copyOfRange(values, nextIndex, values.length);
+  }
+
+  @Override
+  public long count() {
+    return sortedValues == null ? baseIterator.count() : sortedValues.length - nextIndex;
+  }
+
+  @Override
+  public boolean isSorted() {
+    return true;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return baseIterator.isDistinct();
+  }
+
+  @Override
+  public long knownSize() {
+    return sortedValues == null ? baseIterator.knownSize() : sortedValues.length - nextIndex;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sortedValues == null ? baseIterator.sizeUpperBound() : sortedValues.length - nextIndex;
+  }
+
+  private int[] sortedValues() {
+
+    if (sortedValues == null) {
+      sortedValues = baseIterator.toArray();
+      if (sortedValues.length >= RadixSort.THRESHOLD) {
+        RadixSort.sort(sortedValues);
+      } else {
+        Arrays.sort(sortedValues);
+      }
+    }
+
+    return sortedValues;
+  }
+}
@@ -0,0 +1,92 @@
+package cousin.florian.iterator.ints;
+
+import cousin.florian.IntLStream;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class IntTakeWhileLStream extends IntLStream {
+
+  private final PrimitiveIterator.OfInt baseIterator;
+  private final IntPredicate predicate;
+
+  private int next;
+  private boolean nextIsConsumed = true;
+
+  @Override
+  public boolean hasNext() {
+
+    dropUntilNext();
+
+    return !nextIsConsumed && predicate.test(next);
+  }
+
+  @Override
+  public int nextInt() {
+
+    if (hasNext()) {
+      nextIsConsumed = true;
+      return next;
+    } else {
+      throw new NoSuchElementException("the current element is not taken anymore");
+    }
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator, nextIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+
+    if (!nextIsConsumed) {
+      if (!predicate.test(next)) {
+        return true;
+      }
+      nextIsConsumed = true;
+      if (!sink.test(next)) {
+        return false;
+      }
+    }
+
+    boolean[] stoppedBySink = {false};
+
+    forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (!predicate.test(value)) {
+            next = value;
+            nextIsConsumed = false;
+            return false;
+          }
+          if (!sink.test(value)) {
+            stoppedBySink[0] = true;
+            return false;
+          }
+          return true;
+        });
+
+    return !stoppedBySink[0];
+  }
+
+  private void dropUntilNext() {
+
+    if (nextIsConsumed && baseIterator.hasNext()) {
+      nextIsConsumed = false;
+      next = baseIterator.nextInt();
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
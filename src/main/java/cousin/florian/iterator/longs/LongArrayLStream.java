@@ -0,0 +1,77 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongArrayLStream extends LongLStream {
+
+  private final long[] iterationValues;
+  private int nextIndex = 0;
+
+  @Override
+  public boolean hasNext() {
+    return iterationValues.length > nextIndex;
+  }
+
+  @Override
+  public long nextLong() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the array.");
+    }
+
+    return iterationValues[nextIndex++];
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    while (nextIndex < iterationValues.length) {
+      if (!sink.test(iterationValues[nextIndex++])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public LongArrayLStream skip(long nbToSkip) {
+    requirePositive(nbToSkip);
+    nextIndex = (int) Math.min(Integer.MAX_VALUE, nextIndex + nbToSkip);
+    return this;
+  }
+
+  @Override
+  public long[] toArray() {
+
+    if (!hasNext()) {
+      return new long[0];
+    }
+
+    return Arrays.copyOfRange(iterationValues, nextIndex, iterationValues.length);
+  }
+
+  @Override
+  public long count() {
+    return Math.max(0, iterationValues.length - nextIndex);
+  }
+
+  @Override
+  public long knownSize() {
+    return count();
+  }
+
+  @Override
+  public OptionalLong findLast() {
+
+    if (hasNext()) {
+      return OptionalLong.of(iterationValues[iterationValues.length - 1]);
+    }
+
+    return OptionalLong.empty();
+  }
+}
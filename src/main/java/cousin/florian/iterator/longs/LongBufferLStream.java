@@ -0,0 +1,80 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import cousin.florian.utils.LongChunkedBuffer;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongBufferLStream extends LongLStream {
+
+  private final LongChunkedBuffer iterationValues;
+  private int nextIndex = 0;
+
+  @Override
+  public boolean hasNext() {
+    return iterationValues.size() > nextIndex;
+  }
+
+  @Override
+  public long nextLong() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the buffer.");
+    }
+
+    return iterationValues.get(nextIndex++);
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    int size = iterationValues.size();
+    while (nextIndex < size) {
+      if (!sink.test(iterationValues.get(nextIndex++))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public LongBufferLStream skip(long nbToSkip) {
+    requirePositive(nbToSkip);
+    nextIndex = (int) Math.min(Integer.MAX_VALUE, nextIndex + nbToSkip);
+    return this;
+  }
+
+  @Override
+  public long[] toArray() {
+
+    if (nextIndex == 0) {
+      nextIndex = iterationValues.size();
+      return iterationValues.toArray();
+    }
+
+    return super.toArray();
+  }
+
+  @Override
+  public long count() {
+    return Math.max(0, iterationValues.size() - nextIndex);
+  }
+
+  @Override
+  public long knownSize() {
+    return count();
+  }
+
+  @Override
+  public OptionalLong findLast() {
+
+    if (hasNext()) {
+      nextIndex = iterationValues.size();
+      return OptionalLong.of(iterationValues.get(nextIndex - 1));
+    }
+
+    return OptionalLong.empty();
+  }
+}
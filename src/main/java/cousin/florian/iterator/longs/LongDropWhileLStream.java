@@ -0,0 +1,94 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongDropWhileLStream extends LongLStream {
+
+  private final PrimitiveIterator.OfLong baseIterator;
+  private final LongPredicate predicate;
+
+  private long firstNotDroppedValue;
+  private boolean firstIsConsumed = true;
+  private boolean started = false;
+
+  @Override
+  public boolean hasNext() {
+
+    dropUntilNext();
+
+    return !firstIsConsumed || baseIterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+
+    dropUntilNext();
+
+    started = true;
+
+    if (firstIsConsumed) {
+      return baseIterator.nextLong();
+    }
+
+    firstIsConsumed = true;
+    return firstNotDroppedValue;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator, firstIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+
+    if (!firstIsConsumed) {
+      firstIsConsumed = true;
+      started = true;
+      if (!sink.test(firstNotDroppedValue)) {
+        return false;
+      }
+    }
+
+    if (started) {
+      return forEachRemainingWhile(baseIterator, sink);
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (!started) {
+            if (predicate.test(value)) {
+              return true;
+            }
+            started = true;
+          }
+          return sink.test(value);
+        });
+  }
+
+  private void dropUntilNext() {
+
+    while (!started && firstIsConsumed && baseIterator.hasNext()) {
+      long currentNext = baseIterator.nextLong();
+      if (predicate.negate().test(currentNext)) {
+        firstIsConsumed = false;
+        firstNotDroppedValue = currentNext;
+      }
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
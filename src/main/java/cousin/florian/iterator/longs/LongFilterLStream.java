@@ -0,0 +1,74 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongFilterLStream extends LongLStream {
+
+  private final PrimitiveIterator.OfLong iterator;
+  private final LongPredicate predicate;
+
+  private long next;
+  private boolean nextIsConsumed = true;
+
+  @Override
+  public boolean hasNext() {
+
+    dropUntilValue();
+
+    return !nextIsConsumed;
+  }
+
+  @Override
+  public long nextLong() {
+
+    if (hasNext()) {
+      nextIsConsumed = true;
+      return next;
+    } else {
+      throw new NoSuchElementException("No more elements in filter iterator.");
+    }
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(iterator, nextIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+
+    if (!nextIsConsumed) {
+      nextIsConsumed = true;
+      if (!sink.test(next)) {
+        return false;
+      }
+    }
+
+    return forEachRemainingWhile(iterator, value -> !predicate.test(value) || sink.test(value));
+  }
+
+  private void dropUntilValue() {
+    while (nextIsConsumed && iterator.hasNext()) {
+      long currentNext = iterator.nextLong();
+      if (predicate.test(currentNext)) {
+        next = currentNext;
+        nextIsConsumed = false;
+      }
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(iterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(iterator);
+  }
+}
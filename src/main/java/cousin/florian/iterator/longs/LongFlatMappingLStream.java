@@ -0,0 +1,57 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongFlatMappingLStream extends LongLStream {
+
+  private final PrimitiveIterator.OfLong baseIterator;
+  private final LongFunction<? extends LongLStream> mapper;
+  private PrimitiveIterator.OfLong currentMappingIterator = LongLStream.empty();
+
+  @Override
+  public boolean hasNext() {
+
+    dropBaseIteratorUntilValue();
+
+    return currentMappingIterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+
+    dropBaseIteratorUntilValue();
+
+    return currentMappingIterator.nextLong();
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+
+    if (!forEachRemainingWhile(currentMappingIterator, sink)) {
+      return false;
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          currentMappingIterator = mapToIterator(value);
+          return forEachRemainingWhile(currentMappingIterator, sink);
+        });
+  }
+
+  private void dropBaseIteratorUntilValue() {
+    while (!currentMappingIterator.hasNext() && baseIterator.hasNext()) {
+      currentMappingIterator = mapToIterator(baseIterator.nextLong());
+    }
+  }
+
+  private PrimitiveIterator.OfLong mapToIterator(long value) {
+    LongLStream mappedValues = mapper.apply(value);
+    return mappedValues == null ? LongLStream.empty() : mappedValues;
+  }
+}
@@ -0,0 +1,39 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.DoubleLStream;
+import cousin.florian.LongLStream;
+import java.util.function.DoublePredicate;
+import java.util.function.LongToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongMapToDoubleLStream extends DoubleLStream {
+
+  private final LongLStream baseIterator;
+  private final LongToDoubleFunction mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public double nextDouble() {
+    return mapper.applyAsDouble(baseIterator.nextLong());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(DoublePredicate sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.applyAsDouble(value)));
+  }
+}
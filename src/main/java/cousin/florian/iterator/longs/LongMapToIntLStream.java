@@ -0,0 +1,39 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.IntLStream;
+import cousin.florian.LongLStream;
+import java.util.function.IntPredicate;
+import java.util.function.LongToIntFunction;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongMapToIntLStream extends IntLStream {
+
+  private final LongLStream baseIterator;
+  private final LongToIntFunction mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public int nextInt() {
+    return mapper.applyAsInt(baseIterator.nextLong());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(IntPredicate sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.applyAsInt(value)));
+  }
+}
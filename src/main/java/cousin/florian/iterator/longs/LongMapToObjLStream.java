@@ -0,0 +1,39 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LStream;
+import cousin.florian.LongLStream;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongMapToObjLStream<R> extends LStream<R> {
+
+  private final LongLStream baseIterator;
+  private final LongFunction<? extends R> mapper;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public R next() {
+    return mapper.apply(baseIterator.nextLong());
+  }
+
+  @Override
+  public long knownSize() {
+    return baseIterator.knownSize();
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return baseIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super R> sink) {
+    return baseIterator.forEachWhile(value -> sink.test(mapper.apply(value)));
+  }
+}
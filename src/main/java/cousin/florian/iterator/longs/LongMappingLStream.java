@@ -0,0 +1,39 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongMappingLStream extends LongLStream {
+
+  private final PrimitiveIterator.OfLong previousIterator;
+  private final LongUnaryOperator mapper;
+
+  @Override
+  public boolean hasNext() {
+    return previousIterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+    return mapper.applyAsLong(previousIterator.nextLong());
+  }
+
+  @Override
+  public long knownSize() {
+    return knownSizeOf(previousIterator);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(previousIterator);
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    return forEachRemainingWhile(previousIterator, value -> sink.test(mapper.applyAsLong(value)));
+  }
+}
@@ -0,0 +1,56 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongPeekLStream extends LongLStream {
+
+  private final PrimitiveIterator.OfLong baseIterator;
+  private final LongConsumer action;
+
+  @Override
+  public boolean hasNext() {
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+    long next = baseIterator.nextLong();
+    action.accept(next);
+    return next;
+  }
+
+  @Override
+  public long knownSize() {
+    return knownSizeOf(baseIterator);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator);
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          action.accept(value);
+          return sink.test(value);
+        });
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
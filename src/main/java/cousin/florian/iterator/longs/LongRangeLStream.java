@@ -0,0 +1,188 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.LongPredicate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+/**
+ * The arithmetic progression {@code first, first + step, first + 2 * step, ...} of {@code
+ * remaining} elements. Its elements are never stored, so most operations are computed in constant
+ * time.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LongRangeLStream extends LongLStream {
+
+  private long next;
+  private final long step;
+  private long remaining;
+
+  public static LongRangeLStream of(long start, long end, long step, boolean endInclusive) {
+
+    if (step == 0) {
+      throw new IllegalArgumentException("step should not be 0");
+    }
+
+    boolean isEmpty = step > 0 ? end < start : end > start;
+    if (isEmpty || (!endInclusive && end == start)) {
+      return new LongRangeLStream(start, step, 0);
+    }
+
+    // The distance and the absolute step may not fit in a signed long, they are read as unsigned
+    long distance = step > 0 ? end - start : start - end;
+    long absoluteStep = step > 0 ? step : -step;
+    long lastIndex = Long.divideUnsigned(endInclusive ? distance : distance - 1, absoluteStep);
+
+    if (lastIndex < 0 || lastIndex == Long.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Range from %d to %d with step %d has more than %d elements"
+              .formatted(start, end, step, Long.MAX_VALUE));
+    }
+
+    return new LongRangeLStream(start, step, lastIndex + 1);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return remaining > 0;
+  }
+
+  @Override
+  public long nextLong() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the range.");
+    }
+
+    long current = next;
+    next += step;
+    remaining--;
+    return current;
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    while (remaining > 0) {
+      if (!sink.test(nextLong())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public LongRangeLStream skip(long nbToSkip) {
+
+    requirePositive(nbToSkip);
+
+    if (nbToSkip >= remaining) {
+      remaining = 0;
+    } else {
+      next = (next + nbToSkip * step);
+      remaining -= nbToSkip;
+    }
+
+    return this;
+  }
+
+  @Override
+  public LongRangeLStream limit(long maxSize) {
+    remaining = Math.max(0, Math.min(remaining, maxSize));
+    return this;
+  }
+
+  @Override
+  public LongRangeLStream distinct() {
+    return this;
+  }
+
+  @Override
+  public LongRangeLStream sorted() {
+
+    if (step > 0 || remaining == 0) {
+      return this;
+    }
+
+    LongRangeLStream sortedRange = new LongRangeLStream(last(), -step, remaining);
+    remaining = 0;
+    return sortedRange;
+  }
+
+  @Override
+  public boolean isSorted() {
+    return step > 0 || remaining <= 1;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return true;
+  }
+
+  @Override
+  public long count() {
+    return remaining;
+  }
+
+  @Override
+  public long knownSize() {
+    return remaining;
+  }
+
+  @Override
+  public long[] toArray() {
+
+    if (remaining > Integer.MAX_VALUE) {
+      throw new OutOfMemoryError("Required array size is too large");
+    }
+
+    long[] elements = new long[(int) remaining];
+    for (int index = 0; index < elements.length; index++) {
+      elements[index] = next;
+      next += step;
+    }
+
+    remaining = 0;
+    return elements;
+  }
+
+  @Override
+  public long sum() {
+
+    // first * n + step * n * (n - 1) / 2, dividing the even factor so that overflows wrap as if
+    // the elements were added one by one
+    long halfProduct =
+        remaining % 2 == 0 ? remaining / 2 * (remaining - 1) : (remaining - 1) / 2 * remaining;
+    long sum = (next * remaining + step * halfProduct);
+
+    remaining = 0;
+    return sum;
+  }
+
+  @Override
+  public OptionalLong min() {
+    return step > 0 ? findFirst() : findLast();
+  }
+
+  @Override
+  public OptionalLong max() {
+    return step > 0 ? findLast() : findFirst();
+  }
+
+  @Override
+  public OptionalLong findLast() {
+
+    if (remaining == 0) {
+      return OptionalLong.empty();
+    }
+
+    long last = last();
+    remaining = 0;
+    return OptionalLong.of(last);
+  }
+
+  private long last() {
+    return (next + (remaining - 1) * step);
+  }
+}
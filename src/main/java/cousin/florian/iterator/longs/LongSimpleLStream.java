@@ -0,0 +1,21 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.PrimitiveIterator;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongSimpleLStream extends LongLStream {
+
+  private final PrimitiveIterator.OfLong iterator;
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+    return iterator.nextLong();
+  }
+}
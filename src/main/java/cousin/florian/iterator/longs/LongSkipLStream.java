@@ -0,0 +1,84 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongSkipLStream extends LongLStream {
+
+  private final PrimitiveIterator.OfLong baseIterator;
+  private final long nbToSkip;
+
+  private long nbSkipped = 0;
+
+  @Override
+  public boolean hasNext() {
+
+    skipNeeded();
+
+    return baseIterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+
+    if (hasNext()) {
+      return baseIterator.nextLong();
+    } else {
+      throw new NoSuchElementException("no more elements");
+    }
+  }
+
+  @Override
+  public long knownSize() {
+    long baseKnownSize = knownSizeOf(baseIterator);
+    return baseKnownSize < 0 ? -1 : Math.max(0, baseKnownSize - (nbToSkip - nbSkipped));
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    long baseUpperBound = sizeUpperBoundOf(baseIterator);
+    return baseUpperBound == Long.MAX_VALUE
+        ? Long.MAX_VALUE
+        : Math.max(0, baseUpperBound - (nbToSkip - nbSkipped));
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+
+    if (nbSkipped >= nbToSkip) {
+      return forEachRemainingWhile(baseIterator, sink);
+    }
+
+    return forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (nbSkipped < nbToSkip) {
+            nbSkipped++;
+            return true;
+          }
+          return sink.test(value);
+        });
+  }
+
+  private void skipNeeded() {
+
+    while (nbSkipped < nbToSkip && baseIterator.hasNext()) {
+      baseIterator.nextLong();
+      nbSkipped++;
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
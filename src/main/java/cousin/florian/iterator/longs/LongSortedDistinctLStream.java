@@ -0,0 +1,60 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.function.LongPredicate;
+
+/**
+ * Removes duplicates of a sorted lstream : equal elements are consecutive, so that only the
+ * previous element is kept in memory.
+ */
+public class LongSortedDistinctLStream extends LongLStream {
+
+  private final LongLStream distinctIterator;
+  private boolean hasPrevious = false;
+  private long previous;
+
+  public LongSortedDistinctLStream(LongLStream baseIterator) {
+    this.distinctIterator = new LongFilterLStream(baseIterator, this::isNotPrevious);
+  }
+
+  private boolean isNotPrevious(long value) {
+
+    if (hasPrevious && previous == value) {
+      return false;
+    }
+
+    hasPrevious = true;
+    previous = value;
+    return true;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return distinctIterator.hasNext();
+  }
+
+  @Override
+  public long nextLong() {
+    return distinctIterator.nextLong();
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    return distinctIterator.forEachWhile(sink);
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return distinctIterator.sizeUpperBound();
+  }
+
+  @Override
+  public boolean isSorted() {
+    return true;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return true;
+  }
+}
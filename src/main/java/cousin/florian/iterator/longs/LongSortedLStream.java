@@ -0,0 +1,88 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import cousin.florian.utils.RadixSort;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongSortedLStream extends LongLStream {
+
+  private final LongLStream baseIterator;
+
+  private long[] sortedValues;
+  private int nextIndex = 0;
+
+  @Override
+  public boolean hasNext() {
+    return sortedValues().length > nextIndex;
+  }
+
+  @Override
+  public long nextLong() {
+
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements in the sorted values.");
+    }
+
+    return sortedValues[nextIndex++];
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+    long[] values = sortedValues();
+    while (nextIndex < values.length) {
+      if (!sink.test(values[nextIndex++])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public long[] toArray() {
+    long[] values = sortedValues();
+    return nextIndex == 0 ? values : Arrays.copyOfRange(values, nextIndex, values.length);
+  }
+
+  @Override
+  public long count() {
+    return sortedValues == null ? baseIterator.count() : sortedValues.length - nextIndex;
+  }
+
+  @Override
+  public boolean isSorted() {
+    return true;
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return baseIterator.isDistinct();
+  }
+
+  @Override
+  public long knownSize() {
+    return sortedValues == null ? baseIterator.knownSize() : sortedValues.length - nextIndex;
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sortedValues == null ? baseIterator.sizeUpperBound() : sortedValues.length - nextIndex;
+  }
+
+  private long[] sortedValues() {
+
+    if (sortedValues == null) {
+      sortedValues = baseIterator.toArray();
+      if (sortedValues.length >= RadixSort.THRESHOLD) {
+        RadixSort.sort(sortedValues);
+      } else {
+        Arrays.sort(sortedValues);
+      }
+    }
+
+    return sortedValues;
+  }
+}
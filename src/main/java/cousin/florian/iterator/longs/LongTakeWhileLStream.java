@@ -0,0 +1,92 @@
+package cousin.florian.iterator.longs;
+
+import cousin.florian.LongLStream;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LongTakeWhileLStream extends LongLStream {
+
+  private final PrimitiveIterator.OfLong baseIterator;
+  private final LongPredicate predicate;
+
+  private long next;
+  private boolean nextIsConsumed = true;
+
+  @Override
+  public boolean hasNext() {
+
+    dropUntilNext();
+
+    return !nextIsConsumed && predicate.test(next);
+  }
+
+  @Override
+  public long nextLong() {
+
+    if (hasNext()) {
+      nextIsConsumed = true;
+      return next;
+    } else {
+      throw new NoSuchElementException("the current element is not taken anymore");
+    }
+  }
+
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator, nextIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(LongPredicate sink) {
+
+    if (!nextIsConsumed) {
+      if (!predicate.test(next)) {
+        return true;
+      }
+      nextIsConsumed = true;
+      if (!sink.test(next)) {
+        return false;
+      }
+    }
+
+    boolean[] stoppedBySink = {false};
+
+    forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (!predicate.test(value)) {
+            next = value;
+            nextIsConsumed = false;
+            return false;
+          }
+          if (!sink.test(value)) {
+            stoppedBySink[0] = true;
+            return false;
+          }
+          return true;
+        });
+
+    return !stoppedBySink[0];
+  }
+
+  private void dropUntilNext() {
+
+    if (nextIsConsumed && baseIterator.hasNext()) {
+      nextIsConsumed = false;
+      next = baseIterator.nextLong();
+    }
+  }
+
+  @Override
+  public boolean isSorted() {
+    return isSortedOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
+}
@@ -1,10 +1,12 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
 
 @RequiredArgsConstructor
 public class takeWhileLStream<T> extends LStream<T> {
@@ -34,6 +36,44 @@ public class takeWhileLStream<T> extends LStream<T> {
     }
   }
 
+  @Override
+  public long sizeUpperBound() {
+    return sizeUpperBoundOf(baseIterator, nextIsConsumed ? 0 : 1);
+  }
+
+  @Override
+  public boolean forEachWhile(Predicate<? super T> sink) {
+
+    if (!nextIsConsumed) {
+      if (!predicate.test(next)) {
+        return true;
+      }
+      nextIsConsumed = true;
+      if (!sink.test(next)) {
+        return false;
+      }
+    }
+
+    boolean[] stoppedBySink = {false};
+
+    forEachRemainingWhile(
+        baseIterator,
+        value -> {
+          if (!predicate.test(value)) {
+            next = value;
+            nextIsConsumed = false;
+            return false;
+          }
+          if (!sink.test(value)) {
+            stoppedBySink[0] = true;
+            return false;
+          }
+          return true;
+        });
+
+    return !stoppedBySink[0];
+  }
+
   private void dropUntilNext() {
 
     if (nextIsConsumed && baseIterator.hasNext()) {
@@ -41,4 +81,14 @@ public class takeWhileLStream<T> extends LStream<T> {
       next = baseIterator.next();
     }
   }
+
+  @Override
+  public @Nullable Comparator<? super T> sortComparator() {
+    return sortComparatorOf(baseIterator);
+  }
+
+  @Override
+  public boolean isDistinct() {
+    return isDistinctOf(baseIterator);
+  }
 }
@@ -0,0 +1,33 @@
+package cousin.florian.sort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/** Writes and reads back elements, for example to spill them to disk. */
+public interface ElementSerializer<T> {
+
+  void write(T element, DataOutput output) throws IOException;
+
+  T read(DataInput input) throws IOException;
+
+  /** Serializes non-null strings as their length followed by their UTF-8 bytes. */
+  static ElementSerializer<String> ofStrings() {
+    return new ElementSerializer<>() {
+      @Override
+      public void write(String element, DataOutput output) throws IOException {
+        byte[] bytes = element.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+      }
+
+      @Override
+      public String read(DataInput input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+      }
+    };
+  }
+}
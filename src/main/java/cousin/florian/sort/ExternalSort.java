@@ -0,0 +1,44 @@
+package cousin.florian.sort;
+
+import java.nio.file.Path;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Settings of an external merge sort : the elements are sorted by runs of at most {@link
+ * #runSize()} elements in memory, each run is written with {@link #serializer()} in a temporary
+ * file of {@link #temporaryDirectory()}, then the runs are merged.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExternalSort<T> {
+
+  public static final int DEFAULT_RUN_SIZE = 1_000_000;
+
+  private final ElementSerializer<T> serializer;
+  private final int runSize;
+  private final Path temporaryDirectory;
+
+  public static <T> ExternalSort<T> of(ElementSerializer<T> serializer) {
+    return new ExternalSort<>(
+        serializer, DEFAULT_RUN_SIZE, Path.of(System.getProperty("java.io.tmpdir")));
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code runSize} is not strictly positive
+   */
+  public ExternalSort<T> withRunSize(int runSize) {
+
+    if (runSize <= 0) {
+      throw new IllegalArgumentException(
+          "runSize is %d but it should be strictly positive".formatted(runSize));
+    }
+
+    return new ExternalSort<>(serializer, runSize, temporaryDirectory);
+  }
+
+  public ExternalSort<T> withTemporaryDirectory(Path temporaryDirectory) {
+    return new ExternalSort<>(serializer, runSize, temporaryDirectory);
+  }
+}
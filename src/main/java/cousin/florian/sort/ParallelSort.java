@@ -0,0 +1,48 @@
+package cousin.florian.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Settings of a parallel sort : arrays of at least {@link #threshold()} elements are sorted with
+ * {@link Arrays#parallelSort} in {@link #pool()}, smaller ones are sorted sequentially since
+ * splitting them would cost more than it saves.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParallelSort {
+
+  public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+
+  public static ParallelSort of(ForkJoinPool pool) {
+    return new ParallelSort(pool, DEFAULT_THRESHOLD);
+  }
+
+  public static ParallelSort ofCommonPool() {
+    return of(ForkJoinPool.commonPool());
+  }
+
+  public ParallelSort withThreshold(int threshold) {
+    return new ParallelSort(pool, threshold);
+  }
+
+  /** Sorts the elements from {@code fromIndex} inclusive to {@code toIndex} exclusive, stably. */
+  public <T> void sort(
+      T[] elements, int fromIndex, int toIndex, @Nullable Comparator<? super T> comparator) {
+
+    if (toIndex - fromIndex < threshold) {
+      Arrays.sort(elements, fromIndex, toIndex, comparator);
+    } else {
+      // Sub-tasks forked by parallelSort run in the pool of the thread calling it
+      pool.submit(() -> Arrays.parallelSort(elements, fromIndex, toIndex, comparator)).join();
+    }
+  }
+}
@@ -10,6 +10,12 @@ public class AverageDouble {
     currentNumberOfValues++;
   }
 
+  public AverageDouble combine(AverageDouble other) {
+    currentSum += other.currentSum;
+    currentNumberOfValues += other.currentNumberOfValues;
+    return this;
+  }
+
   public double getAverage() {
     return currentNumberOfValues == 0 ? 0d : currentSum / currentNumberOfValues;
   }
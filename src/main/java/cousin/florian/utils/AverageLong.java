@@ -10,6 +10,18 @@ public class AverageLong {
     currentNumberOfValues++;
   }
 
+  /** Removes a value that was added before. */
+  public void removeValue(long value) {
+    currentSum -= value;
+    currentNumberOfValues--;
+  }
+
+  public AverageLong combine(AverageLong other) {
+    currentSum += other.currentSum;
+    currentNumberOfValues += other.currentNumberOfValues;
+    return this;
+  }
+
   public double getAverage() {
     return currentNumberOfValues == 0 ? 0d : (double) currentSum / currentNumberOfValues;
   }
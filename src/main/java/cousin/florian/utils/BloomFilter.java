@@ -0,0 +1,102 @@
+package cousin.florian.utils;
+
+import java.util.Objects;
+
+/**
+ * A probabilistic set of elements, based on their {@link Object#hashCode()}, with a fixed memory
+ * footprint. It never forgets an added element, but may wrongly consider that an element was added.
+ *
+ * <p>The number of bits and of hash functions are computed so that the probability of a false
+ * positive is about {@code falsePositiveRate} once {@code expectedNbElements} have been added.
+ */
+public class BloomFilter<T> {
+
+  private static final double LN_2 = Math.log(2);
+
+  private final long[] bits;
+  private final long nbBits;
+  private final int nbHashFunctions;
+
+  private BloomFilter(long nbBits, int nbHashFunctions) {
+    this.bits = new long[Math.toIntExact((nbBits + Long.SIZE - 1) / Long.SIZE)];
+    this.nbBits = nbBits;
+    this.nbHashFunctions = nbHashFunctions;
+  }
+
+  /**
+   * @throws IllegalArgumentException if {@code expectedNbElements} is not strictly positive or if
+   *     {@code falsePositiveRate} is not strictly between 0 and 1
+   */
+  public static <T> BloomFilter<T> of(long expectedNbElements, double falsePositiveRate) {
+
+    if (expectedNbElements <= 0) {
+      throw new IllegalArgumentException(
+          "expectedNbElements is %d but it should be strictly positive"
+              .formatted(expectedNbElements));
+    }
+
+    if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException(
+          "falsePositiveRate is %s but it should be strictly between 0 and 1"
+              .formatted(falsePositiveRate));
+    }
+
+    long nbBits =
+        Math.max(
+            Long.SIZE,
+            (long) Math.ceil(-expectedNbElements * Math.log(falsePositiveRate) / (LN_2 * LN_2)));
+    int nbHashFunctions =
+        (int) Math.max(1, Math.round((double) nbBits / expectedNbElements * LN_2));
+
+    return new BloomFilter<>(nbBits, nbHashFunctions);
+  }
+
+  /**
+   * @return true if {@code element} was certainly not added before, false if it may have been
+   */
+  public boolean add(T element) {
+
+    boolean changed = false;
+
+    long hash1 = mix(Objects.hashCode(element));
+    long hash2 = mix(hash1) | 1;
+    for (int hashIndex = 0; hashIndex < nbHashFunctions; hashIndex++) {
+      long bitIndex = Math.floorMod(hash1 + hashIndex * hash2, nbBits);
+      int wordIndex = (int) (bitIndex >>> 6);
+      long mask = 1L << bitIndex;
+      if ((bits[wordIndex] & mask) == 0) {
+        bits[wordIndex] |= mask;
+        changed = true;
+      }
+    }
+
+    return changed;
+  }
+
+  /**
+   * @return false if {@code element} was certainly not added, true if it may have been
+   */
+  public boolean mightContain(T element) {
+
+    long hash1 = mix(Objects.hashCode(element));
+    long hash2 = mix(hash1) | 1;
+    for (int hashIndex = 0; hashIndex < nbHashFunctions; hashIndex++) {
+      long bitIndex = Math.floorMod(hash1 + hashIndex * hash2, nbBits);
+      if ((bits[(int) (bitIndex >>> 6)] & (1L << bitIndex)) == 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /** Spreads the bits of {@code value} over 64 bits, like the finalizer of MurmurHash3. */
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+}
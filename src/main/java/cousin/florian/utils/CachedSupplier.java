@@ -21,4 +21,8 @@ public class CachedSupplier<Element> implements Supplier<Element> {
     cacheIsInitialised = true;
     return cachedValue;
   }
+
+  public boolean isSupplied() {
+    return cacheIsInitialised;
+  }
 }
@@ -0,0 +1,119 @@
+package cousin.florian.utils;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * An append-only list storing its elements in chunks whose sizes double, so that growing never
+ * copies the elements already added.
+ *
+ * <p>Chunk {@code k} has {@code FIRST_CHUNK_SIZE << k} elements, so the chunk of an index is
+ * computed in constant time.
+ */
+@SuppressWarnings({"unchecked", "java:S2160"}) // equals from AbstractList uses get
+public class ChunkedList<Element> extends AbstractList<Element> implements RandomAccess {
+
+  private static final int FIRST_CHUNK_SIZE_POWER = 4;
+  static final int MAX_NB_CHUNKS = Integer.SIZE - FIRST_CHUNK_SIZE_POWER;
+
+  private final Object[][] chunks = new Object[MAX_NB_CHUNKS][];
+  private int nbChunks = 0;
+  private Object[] lastChunk;
+  private int lastChunkSize = 0;
+  private int size = 0;
+
+  @Override
+  public boolean add(Element element) {
+
+    if (lastChunk == null || lastChunkSize == lastChunk.length) {
+      addChunk();
+    }
+
+    lastChunk[lastChunkSize++] = element;
+    size++;
+    modCount++;
+    return true;
+  }
+
+  private void addChunk() {
+
+    checkCanAddChunk(size, nbChunks);
+
+    lastChunk = new Object[chunkSize(nbChunks)];
+    chunks[nbChunks++] = lastChunk;
+    lastChunkSize = 0;
+  }
+
+  @Override
+  public Element get(int index) {
+    Objects.checkIndex(index, size);
+    int chunkIndex = chunkIndex(index);
+    return (Element) chunks[chunkIndex][index - chunkStart(chunkIndex)];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Object[] toArray() {
+    return copyInto(new Object[size]);
+  }
+
+  @Override
+  public <A> A[] toArray(IntFunction<A[]> generator) {
+    return copyInto(generator.apply(size));
+  }
+
+  @Override
+  public <A> A[] toArray(A[] array) {
+
+    if (array.length < size) {
+      Class<?> componentType = array.getClass().getComponentType();
+      return toArray(length -> (A[]) Array.newInstance(componentType, length));
+    }
+
+    copyInto(array);
+    if (array.length > size) {
+      array[size] = null;
+    }
+    return array;
+  }
+
+  private <A> A[] copyInto(A[] array) {
+
+    int copiedSize = 0;
+    for (int chunkIndex = 0; chunkIndex < nbChunks; chunkIndex++) {
+      int nbToCopy = Math.min(chunks[chunkIndex].length, size - copiedSize);
+      System.arraycopy(chunks[chunkIndex], 0, array, copiedSize, nbToCopy);
+      copiedSize += nbToCopy;
+    }
+
+    return array;
+  }
+
+  static void checkCanAddChunk(int size, int nbChunks) {
+    if (size == Integer.MAX_VALUE || nbChunks == MAX_NB_CHUNKS) {
+      throw new OutOfMemoryError("Required list size is too large");
+    }
+  }
+
+  static int chunkSize(int chunkIndex) {
+    // The last chunk is truncated so that the list size fits in an int
+    return chunkIndex == MAX_NB_CHUNKS - 1
+        ? Integer.MAX_VALUE - chunkStart(chunkIndex)
+        : 1 << (FIRST_CHUNK_SIZE_POWER + chunkIndex);
+  }
+
+  static int chunkStart(int chunkIndex) {
+    return ((1 << chunkIndex) - 1) << FIRST_CHUNK_SIZE_POWER;
+  }
+
+  static int chunkIndex(int index) {
+    return Integer.SIZE - 1 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_SIZE_POWER) + 1);
+  }
+}
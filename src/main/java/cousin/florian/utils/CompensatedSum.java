@@ -0,0 +1,39 @@
+package cousin.florian.utils;
+
+/**
+ * A running sum of doubles with Neumaier compensation, so that adding and removing many values, as
+ * in a sliding window, does not accumulate rounding errors.
+ */
+public class CompensatedSum {
+
+  private double sum = 0;
+  private double compensation = 0;
+  private long nbValues = 0;
+
+  public void add(double value) {
+    addToSum(value);
+    nbValues++;
+  }
+
+  /** Removes a value that was added before. */
+  public void remove(double value) {
+    addToSum(-value);
+    nbValues--;
+  }
+
+  private void addToSum(double value) {
+    double newSum = sum + value;
+    // The low-order bits lost by the addition are those of the smallest operand
+    compensation +=
+        Math.abs(sum) >= Math.abs(value) ? (sum - newSum) + value : (value - newSum) + sum;
+    sum = newSum;
+  }
+
+  public double sum() {
+    return sum + compensation;
+  }
+
+  public double average() {
+    return nbValues == 0 ? 0d : sum() / nbValues;
+  }
+}
@@ -0,0 +1,66 @@
+package cousin.florian.utils;
+
+import static cousin.florian.utils.ChunkedList.*;
+
+/**
+ * An append-only buffer of {@code double} storing its elements in chunks whose sizes double, so
+ * that growing never copies the elements already added.
+ *
+ * @see ChunkedList
+ */
+public class DoubleChunkedBuffer {
+
+  private final double[][] chunks = new double[MAX_NB_CHUNKS][];
+  private int nbChunks = 0;
+  private double[] lastChunk;
+  private int lastChunkSize = 0;
+  private int size = 0;
+
+  public void add(double value) {
+
+    if (lastChunk == null || lastChunkSize == lastChunk.length) {
+      addChunk();
+    }
+
+    lastChunk[lastChunkSize++] = value;
+    size++;
+  }
+
+  private void addChunk() {
+
+    checkCanAddChunk(size, nbChunks);
+
+    lastChunk = new double[chunkSize(nbChunks)];
+    chunks[nbChunks++] = lastChunk;
+    lastChunkSize = 0;
+  }
+
+  public double get(int index) {
+
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index %d out of bounds for size %d".formatted(index, size));
+    }
+
+    int chunkIndex = chunkIndex(index);
+    return chunks[chunkIndex][index - chunkStart(chunkIndex)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public double[] toArray() {
+
+    double[] values = new double[size];
+
+    int copiedSize = 0;
+    for (int chunkIndex = 0; chunkIndex < nbChunks; chunkIndex++) {
+      int nbToCopy = Math.min(chunks[chunkIndex].length, size - copiedSize);
+      System.arraycopy(chunks[chunkIndex], 0, values, copiedSize, nbToCopy);
+      copiedSize += nbToCopy;
+    }
+
+    return values;
+  }
+}
@@ -0,0 +1,160 @@
+package cousin.florian.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The elements of the built side of a hash join, grouped by key in buckets, and looked up with the
+ * elements of the probing side.
+ *
+ * @param <B> the type of the elements of the built side
+ * @param <P> the type of the elements of the probing side
+ */
+public abstract class HashJoinTable<B, P> {
+
+  private final List<Bucket<B>> buckets = new ArrayList<>();
+
+  /** The elements of the built side having the same key, the first one being stored inline. */
+  public static class Bucket<E> {
+
+    private final E first;
+    private @Nullable List<E> others = null;
+    private boolean isMatched = false;
+
+    private Bucket(E first) {
+      this.first = first;
+    }
+
+    public int size() {
+      return others == null ? 1 : 1 + others.size();
+    }
+
+    public E get(int index) {
+      return index == 0 ? first : others.get(index - 1);
+    }
+
+    /** Whether an element of the probing side matched this bucket, as marked by the join. */
+    public boolean isMatched() {
+      return isMatched;
+    }
+
+    public void markMatched() {
+      isMatched = true;
+    }
+
+    private void add(E element) {
+      if (others == null) {
+        others = new ArrayList<>(2);
+      }
+      others.add(element);
+    }
+  }
+
+  /**
+   * @param expectedSize the number of elements of the built side, or 0 if it is not known
+   */
+  public static <B, P> HashJoinTable<B, P> of(
+      Function<? super B, ?> builtKeyExtractor,
+      Function<? super P, ?> probingKeyExtractor,
+      int expectedSize) {
+    return new ObjectKeyTable<>(builtKeyExtractor, probingKeyExtractor, expectedSize);
+  }
+
+  /**
+   * Returns a table whose keys are primitive longs, which are not boxed.
+   *
+   * @param expectedSize the number of elements of the built side, or 0 if it is not known
+   */
+  public static <B, P> HashJoinTable<B, P> ofLongKeys(
+      ToLongFunction<? super B> builtKeyExtractor,
+      ToLongFunction<? super P> probingKeyExtractor,
+      int expectedSize) {
+    return new LongKeyTable<>(builtKeyExtractor, probingKeyExtractor, expectedSize);
+  }
+
+  /** Adds an element of the built side in the bucket of its key. */
+  public abstract void add(B element);
+
+  /** Returns the bucket of the key of an element of the probing side, or null if there is none. */
+  public abstract @Nullable Bucket<B> find(P element);
+
+  /** Returns the buckets in the order of their first element. */
+  public List<Bucket<B>> buckets() {
+    return buckets;
+  }
+
+  protected Bucket<B> newBucket(B first) {
+    Bucket<B> bucket = new Bucket<>(first);
+    buckets.add(bucket);
+    return bucket;
+  }
+
+  private static class ObjectKeyTable<B, P> extends HashJoinTable<B, P> {
+
+    private final Function<? super B, ?> builtKeyExtractor;
+    private final Function<? super P, ?> probingKeyExtractor;
+    private final Map<Object, Bucket<B>> bucketsByKey;
+
+    private ObjectKeyTable(
+        Function<? super B, ?> builtKeyExtractor,
+        Function<? super P, ?> probingKeyExtractor,
+        int expectedSize) {
+      this.builtKeyExtractor = builtKeyExtractor;
+      this.probingKeyExtractor = probingKeyExtractor;
+      this.bucketsByKey = HashMap.newHashMap(expectedSize);
+    }
+
+    @Override
+    public void add(B element) {
+      Object key = builtKeyExtractor.apply(element);
+      Bucket<B> bucket = bucketsByKey.get(key);
+      if (bucket == null) {
+        bucketsByKey.put(key, newBucket(element));
+      } else {
+        bucket.add(element);
+      }
+    }
+
+    @Override
+    public @Nullable Bucket<B> find(P element) {
+      return bucketsByKey.get(probingKeyExtractor.apply(element));
+    }
+  }
+
+  private static class LongKeyTable<B, P> extends HashJoinTable<B, P> {
+
+    private final ToLongFunction<? super B> builtKeyExtractor;
+    private final ToLongFunction<? super P> probingKeyExtractor;
+    private final LongHashMap<Bucket<B>> bucketsByKey;
+
+    private LongKeyTable(
+        ToLongFunction<? super B> builtKeyExtractor,
+        ToLongFunction<? super P> probingKeyExtractor,
+        int expectedSize) {
+      this.builtKeyExtractor = builtKeyExtractor;
+      this.probingKeyExtractor = probingKeyExtractor;
+      this.bucketsByKey = new LongHashMap<>(expectedSize);
+    }
+
+    @Override
+    public void add(B element) {
+      long key = builtKeyExtractor.applyAsLong(element);
+      Bucket<B> bucket = bucketsByKey.get(key);
+      if (bucket == null) {
+        bucketsByKey.put(key, newBucket(element));
+      } else {
+        bucket.add(element);
+      }
+    }
+
+    @Override
+    public @Nullable Bucket<B> find(P element) {
+      return bucketsByKey.get(probingKeyExtractor.applyAsLong(element));
+    }
+  }
+}
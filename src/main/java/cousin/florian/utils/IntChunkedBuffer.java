@@ -0,0 +1,66 @@
+package cousin.florian.utils;
+
+import static cousin.florian.utils.ChunkedList.*;
+
+/**
+ * An append-only buffer of {@code int} storing its elements in chunks whose sizes double, so that
+ * growing never copies the elements already added.
+ *
+ * @see ChunkedList
+ */
+public class IntChunkedBuffer {
+
+  private final int[][] chunks = new int[MAX_NB_CHUNKS][];
+  private int nbChunks = 0;
+  private int[] lastChunk;
+  private int lastChunkSize = 0;
+  private int size = 0;
+
+  public void add(int value) {
+
+    if (lastChunk == null || lastChunkSize == lastChunk.length) {
+      addChunk();
+    }
+
+    lastChunk[lastChunkSize++] = value;
+    size++;
+  }
+
+  private void addChunk() {
+
+    checkCanAddChunk(size, nbChunks);
+
+    lastChunk = new int[chunkSize(nbChunks)];
+    chunks[nbChunks++] = lastChunk;
+    lastChunkSize = 0;
+  }
+
+  public int get(int index) {
+
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index %d out of bounds for size %d".formatted(index, size));
+    }
+
+    int chunkIndex = chunkIndex(index);
+    return chunks[chunkIndex][index - chunkStart(chunkIndex)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int[] toArray() {
+
+    int[] values = new int[size];
+
+    int copiedSize = 0;
+    for (int chunkIndex = 0; chunkIndex < nbChunks; chunkIndex++) {
+      int nbToCopy = Math.min(chunks[chunkIndex].length, size - copiedSize);
+      System.arraycopy(chunks[chunkIndex], 0, values, copiedSize, nbToCopy);
+      copiedSize += nbToCopy;
+    }
+
+    return values;
+  }
+}
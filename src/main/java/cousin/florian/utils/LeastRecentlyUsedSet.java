@@ -0,0 +1,42 @@
+package cousin.florian.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A set remembering at most {@code capacity} elements : when full, adding an element forgets the
+ * least recently added or re-added one.
+ */
+public class LeastRecentlyUsedSet<T> {
+
+  private final Map<T, Boolean> elements;
+
+  public LeastRecentlyUsedSet(int capacity) {
+
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "capacity is %d but it should be strictly positive".formatted(capacity));
+    }
+
+    this.elements =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<T, Boolean> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  /**
+   * Adds {@code element}, or marks it as the most recently used one if it is already remembered.
+   *
+   * @return whether {@code element} was not remembered
+   */
+  public boolean add(T element) {
+    return elements.put(element, Boolean.TRUE) == null;
+  }
+
+  public int size() {
+    return elements.size();
+  }
+}
@@ -0,0 +1,66 @@
+package cousin.florian.utils;
+
+import static cousin.florian.utils.ChunkedList.*;
+
+/**
+ * An append-only buffer of {@code long} storing its elements in chunks whose sizes double, so that
+ * growing never copies the elements already added.
+ *
+ * @see ChunkedList
+ */
+public class LongChunkedBuffer {
+
+  private final long[][] chunks = new long[MAX_NB_CHUNKS][];
+  private int nbChunks = 0;
+  private long[] lastChunk;
+  private int lastChunkSize = 0;
+  private int size = 0;
+
+  public void add(long value) {
+
+    if (lastChunk == null || lastChunkSize == lastChunk.length) {
+      addChunk();
+    }
+
+    lastChunk[lastChunkSize++] = value;
+    size++;
+  }
+
+  private void addChunk() {
+
+    checkCanAddChunk(size, nbChunks);
+
+    lastChunk = new long[chunkSize(nbChunks)];
+    chunks[nbChunks++] = lastChunk;
+    lastChunkSize = 0;
+  }
+
+  public long get(int index) {
+
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index %d out of bounds for size %d".formatted(index, size));
+    }
+
+    int chunkIndex = chunkIndex(index);
+    return chunks[chunkIndex][index - chunkStart(chunkIndex)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public long[] toArray() {
+
+    long[] values = new long[size];
+
+    int copiedSize = 0;
+    for (int chunkIndex = 0; chunkIndex < nbChunks; chunkIndex++) {
+      int nbToCopy = Math.min(chunks[chunkIndex].length, size - copiedSize);
+      System.arraycopy(chunks[chunkIndex], 0, values, copiedSize, nbToCopy);
+      copiedSize += nbToCopy;
+    }
+
+    return values;
+  }
+}
@@ -0,0 +1,97 @@
+package cousin.florian.utils;
+
+import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A map from primitive longs to non null values, with open addressing and linear probing, so that
+ * keys are neither boxed nor hashed through {@link Long#hashCode()}.
+ */
+public class LongHashMap<V> {
+
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+  private long[] keys;
+  private Object[] values;
+  private int shift;
+  private int size = 0;
+
+  /** Creates a map holding {@code expectedSize} entries without growing. */
+  public LongHashMap(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(long key) {
+    int mask = values.length - 1;
+    for (int index = indexOf(key); ; index = (index + 1) & mask) {
+      Object value = values[index];
+      if (value == null || keys[index] == key) {
+        return (V) value;
+      }
+    }
+  }
+
+  public void put(long key, V value) {
+
+    Objects.requireNonNull(value);
+
+    int mask = values.length - 1;
+    int index = indexOf(key);
+    while (values[index] != null && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+
+    if (values[index] == null) {
+      size++;
+    }
+    keys[index] = key;
+    values[index] = value;
+
+    // The load factor stays below one half, so that probe sequences stay short
+    if (2 * size > values.length && values.length < MAX_CAPACITY) {
+      grow();
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private void grow() {
+
+    long[] previousKeys = keys;
+    Object[] previousValues = values;
+    allocate(2 * values.length);
+
+    int mask = values.length - 1;
+    for (int previousIndex = 0; previousIndex < previousValues.length; previousIndex++) {
+      if (previousValues[previousIndex] != null) {
+        int index = indexOf(previousKeys[previousIndex]);
+        while (values[index] != null) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = previousKeys[previousIndex];
+        values[index] = previousValues[previousIndex];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new Object[capacity];
+    shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+  }
+
+  /** Fibonacci hashing : the highest bits of the product are the best mixed ones. */
+  private int indexOf(long key) {
+    return (int) ((key * GOLDEN_RATIO) >>> shift);
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int minCapacity = (int) Math.min(MAX_CAPACITY, Math.max(MIN_CAPACITY, 2L * expectedSize));
+    return Integer.highestOneBit(minCapacity - 1) << 1;
+  }
+}
@@ -0,0 +1,82 @@
+package cousin.florian.utils;
+
+/**
+ * A set of primitive longs, with open addressing and linear probing, so that elements are not
+ * boxed. Free slots hold 0, so that 0 itself is tracked apart.
+ */
+public class LongHashSet {
+
+  private static final int MIN_CAPACITY = 16;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+  private long[] elements;
+  private int shift;
+  private int size = 0;
+  private boolean containsZero = false;
+
+  public LongHashSet() {
+    allocate(MIN_CAPACITY);
+  }
+
+  /**
+   * @return true if {@code element} was not in the set
+   */
+  public boolean add(long element) {
+
+    if (element == 0) {
+      boolean isAdded = !containsZero;
+      containsZero = true;
+      return isAdded;
+    }
+
+    int mask = elements.length - 1;
+    int index = indexOf(element);
+    while (elements[index] != 0) {
+      if (elements[index] == element) {
+        return false;
+      }
+      index = (index + 1) & mask;
+    }
+
+    elements[index] = element;
+    size++;
+
+    // The load factor stays below one half, so that probe sequences stay short
+    if (2 * size > elements.length && elements.length < MAX_CAPACITY) {
+      grow();
+    }
+    return true;
+  }
+
+  public int size() {
+    return containsZero ? size + 1 : size;
+  }
+
+  private void grow() {
+
+    long[] previousElements = elements;
+    allocate(2 * elements.length);
+
+    int mask = elements.length - 1;
+    for (long element : previousElements) {
+      if (element != 0) {
+        int index = indexOf(element);
+        while (elements[index] != 0) {
+          index = (index + 1) & mask;
+        }
+        elements[index] = element;
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    elements = new long[capacity];
+    shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+  }
+
+  /** Fibonacci hashing : the highest bits of the product are the best mixed ones. */
+  private int indexOf(long element) {
+    return (int) ((element * GOLDEN_RATIO) >>> shift);
+  }
+}
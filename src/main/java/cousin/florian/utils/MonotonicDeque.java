@@ -0,0 +1,42 @@
+package cousin.florian.utils;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps the minimum, according to {@code comparator}, of a window of non null elements added at its
+ * end and removed from its beginning, in amortized constant time : an element is dropped once a
+ * smaller one is added after it, since it cannot be the minimum any more.
+ */
+public class MonotonicDeque<T> {
+
+  private final Comparator<? super T> comparator;
+  private final Deque<T> candidates = new ArrayDeque<>();
+
+  public MonotonicDeque(Comparator<? super T> comparator) {
+    this.comparator = comparator;
+  }
+
+  /** Adds an element at the end of the window. */
+  public void add(T element) {
+    while (!candidates.isEmpty() && comparator.compare(candidates.peekLast(), element) > 0) {
+      candidates.removeLast();
+    }
+    candidates.addLast(element);
+  }
+
+  /** Removes {@code element}, which must be the first element of the window. */
+  public void remove(T element) {
+    // Equal elements are all kept, so that the first candidate is the removed one if it is equal
+    if (!candidates.isEmpty() && comparator.compare(candidates.peekFirst(), element) == 0) {
+      candidates.removeFirst();
+    }
+  }
+
+  /** Returns the minimum of the window, or null if it is empty. */
+  public @Nullable T min() {
+    return candidates.peekFirst();
+  }
+}
@@ -0,0 +1,112 @@
+package cousin.florian.utils;
+
+/**
+ * Least significant digit radix sort of {@code int} and {@code long} arrays, one byte per pass. It
+ * runs in linear time and beats comparison sorts on large arrays.
+ *
+ * <p>Passes on a byte shared by all values are skipped, so that small ranges of values are sorted
+ * in fewer passes.
+ */
+public final class RadixSort {
+
+  /** Arrays smaller than this are sorted faster by {@link java.util.Arrays#sort}. */
+  public static final int THRESHOLD = 1 << 16;
+
+  private static final int NB_BUCKETS = 1 << Byte.SIZE;
+  private static final int BUCKET_MASK = NB_BUCKETS - 1;
+
+  private RadixSort() {
+    throw new IllegalStateException("This is a utility class.");
+  }
+
+  public static void sort(int[] values) {
+
+    int nbDigits = Integer.BYTES;
+    int[][] counts = new int[nbDigits][NB_BUCKETS];
+    for (int value : values) {
+      int key = value ^ Integer.MIN_VALUE;
+      for (int digit = 0; digit < nbDigits; digit++) {
+        counts[digit][(key >>> (digit * Byte.SIZE)) & BUCKET_MASK]++;
+      }
+    }
+
+    int[] source = values;
+    int[] destination = new int[values.length];
+    for (int digit = 0; digit < nbDigits; digit++) {
+
+      int[] digitCounts = counts[digit];
+      if (isSingleBucket(digitCounts, values.length)) {
+        continue;
+      }
+
+      int[] nextPositions = startPositions(digitCounts);
+      int shift = digit * Byte.SIZE;
+      for (int value : source) {
+        int bucket = ((value ^ Integer.MIN_VALUE) >>> shift) & BUCKET_MASK;
+        destination[nextPositions[bucket]++] = value;
+      }
+
+      int[] swap = source;
+      source = destination;
+      destination = swap;
+    }
+
+    if (source != values) {
+      System.arraycopy(source, 0, values, 0, values.length);
+    }
+  }
+
+  public static void sort(long[] values) {
+
+    int nbDigits = Long.BYTES;
+    int[][] counts = new int[nbDigits][NB_BUCKETS];
+    for (long value : values) {
+      long key = value ^ Long.MIN_VALUE;
+      for (int digit = 0; digit < nbDigits; digit++) {
+        counts[digit][(int) (key >>> (digit * Byte.SIZE)) & BUCKET_MASK]++;
+      }
+    }
+
+    long[] source = values;
+    long[] destination = new long[values.length];
+    for (int digit = 0; digit < nbDigits; digit++) {
+
+      int[] digitCounts = counts[digit];
+      if (isSingleBucket(digitCounts, values.length)) {
+        continue;
+      }
+
+      int[] nextPositions = startPositions(digitCounts);
+      int shift = digit * Byte.SIZE;
+      for (long value : source) {
+        int bucket = (int) ((value ^ Long.MIN_VALUE) >>> shift) & BUCKET_MASK;
+        destination[nextPositions[bucket]++] = value;
+      }
+
+      long[] swap = source;
+      source = destination;
+      destination = swap;
+    }
+
+    if (source != values) {
+      System.arraycopy(source, 0, values, 0, values.length);
+    }
+  }
+
+  private static boolean isSingleBucket(int[] digitCounts, int nbValues) {
+    for (int count : digitCounts) {
+      if (count != 0) {
+        return count == nbValues;
+      }
+    }
+    return true;
+  }
+
+  private static int[] startPositions(int[] digitCounts) {
+    int[] startPositions = new int[NB_BUCKETS];
+    for (int bucket = 1; bucket < NB_BUCKETS; bucket++) {
+      startPositions[bucket] = startPositions[bucket - 1] + digitCounts[bucket - 1];
+    }
+    return startPositions;
+  }
+}
@@ -30,4 +30,8 @@ public class SuppliedAccessList<Element> extends AbstractList<Element> implement
   public int size() {
     return knownSize < 0 ? elementsSupplier.get().size() : knownSize;
   }
+
+  public boolean isSupplied() {
+    return elementsSupplier.isSupplied();
+  }
 }
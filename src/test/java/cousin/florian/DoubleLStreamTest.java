@@ -0,0 +1,73 @@
+package cousin.florian;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleLStreamTest {
+
+  @Test
+  void filterMapSorted() {
+
+    double[] actualValues =
+        DoubleLStream.of(2.5, -1, 0.5, 4).filter(d -> d > 0).map(d -> d * 2).sorted().toArray();
+
+    assertThat(actualValues).containsExactly(1, 5, 8);
+  }
+
+  @Test
+  void sumIsComputedOneByOne() {
+
+    assertThat(DoubleLStream.of(1e300, 3.5, -1e300).sum()).isZero();
+    assertThat(DoubleLStream.of(1e300, -1e300, 3.5).sum()).isEqualTo(3.5);
+  }
+
+  @Test
+  void average() {
+
+    assertThat(LStream.of("a", "bb").mapToDouble(String::length).average()).hasValue(1.5);
+    assertThat(DoubleLStream.empty().average()).isEmpty();
+  }
+
+  @Test
+  void mapToLongBoxed() {
+
+    assertThat(DoubleLStream.of(1.7, 2.2).mapToLong(d -> Math.round(d)).sum()).isEqualTo(4);
+    assertThat(DoubleLStream.of(1.5).boxed().toList()).containsExactly(1.5);
+  }
+
+  @Test
+  void takeWhileLimit() {
+
+    double[] actualValues = DoubleLStream.of(1, 2, 3, 4).takeWhile(d -> d < 4).limit(2).toArray();
+
+    assertThat(actualValues).containsExactly(1, 2);
+  }
+
+  @Test
+  void builder() {
+
+    DoubleLStream lStream = DoubleLStream.builder().add(2.5).add(2.5).add(0).build();
+
+    assertThat(lStream.count()).isEqualTo(3);
+    assertThat(lStream.toArray()).containsExactly(2.5, 2.5, 0);
+  }
+
+  @Test
+  void distinctOnSortedValuesIsRunLength() {
+
+    double[] actualValues =
+        DoubleLStream.of(2.0, Double.NaN, -0.0, 0.0, Double.NaN, 2.0).sorted().distinct().toArray();
+
+    assertThat(actualValues).containsExactly(-0.0, 0.0, 2.0, Double.NaN);
+  }
+
+  @Test
+  void distinctOnUnsortedValuesFollowsDoubleEquals() {
+
+    double[] actualValues =
+        DoubleLStream.of(2.0, Double.NaN, -0.0, 0.0, Double.NaN, 2.0, 0.0).distinct().toArray();
+
+    assertThat(actualValues).containsExactly(2.0, Double.NaN, -0.0, 0.0);
+  }
+}
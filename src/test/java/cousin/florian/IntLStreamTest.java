@@ -0,0 +1,312 @@
+package cousin.florian;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class IntLStreamTest {
+
+  @Test
+  void filterMap() {
+
+    int[] actualValues =
+        IntLStream.of(1, 2, 3, 4, 5).filter(i -> i % 2 == 1).map(i -> i * 10).toArray();
+
+    assertThat(actualValues).containsExactly(10, 30, 50);
+  }
+
+  @Test
+  void flatMap() {
+
+    int[] actualValues =
+        IntLStream.of(1, 2, 3).flatMap(i -> i == 2 ? null : IntLStream.of(i, i)).toArray();
+
+    assertThat(actualValues).containsExactly(1, 1, 3, 3);
+  }
+
+  @Test
+  void limitSkip() {
+
+    int[] actualValues =
+        IntLStream.of(1, 2, 3, 4, 5, 6).filter(i -> true).skip(1).limit(3).toArray();
+
+    assertThat(actualValues).containsExactly(2, 3, 4);
+  }
+
+  @Test
+  void takeWhileDropWhile() {
+
+    assertThat(IntLStream.of(1, 2, 3, 1).takeWhile(i -> i < 3).toArray()).containsExactly(1, 2);
+    assertThat(IntLStream.of(1, 2, 3, 1).dropWhile(i -> i < 3).toArray()).containsExactly(3, 1);
+  }
+
+  @Test
+  void sortedDistinct() {
+
+    int[] actualValues = IntLStream.of(5, 3, 5, 1, 3, 9).distinct().sorted().toArray();
+
+    assertThat(actualValues).containsExactly(1, 3, 5, 9);
+  }
+
+  @Test
+  void peek() {
+
+    List<Integer> peekedValues = new ArrayList<>();
+
+    int actualSum = IntLStream.of(1, 2, 3).peek(peekedValues::add).sum();
+
+    assertThat(actualSum).isEqualTo(6);
+    assertThat(peekedValues).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void toArrayUnknownSize() {
+
+    int[] actualValues =
+        IntLStream.from(IntStream.range(0, 1000).iterator()).filter(i -> i % 7 == 0).toArray();
+
+    assertThat(actualValues).isEqualTo(IntStream.range(0, 1000).filter(i -> i % 7 == 0).toArray());
+  }
+
+  @Test
+  void knownSize() {
+
+    IntLStream lStream = IntLStream.of(1, 2, 3, 4).map(i -> i + 1).skip(1);
+
+    assertThat(lStream.knownSize()).isEqualTo(3);
+    assertThat(lStream.count()).isEqualTo(3);
+  }
+
+  @Test
+  void reduce() {
+
+    assertThat(IntLStream.of(4, 9, -2).reduce(0, Math::max)).isEqualTo(9);
+    assertThat(IntLStream.of(4, 9, -2).reduce(Math::min)).hasValue(-2);
+    assertThat(IntLStream.empty().reduce(Math::min)).isEmpty();
+  }
+
+  @Test
+  void minMax() {
+
+    assertThat(IntLStream.of(4, 9, -2).min()).hasValue(-2);
+    assertThat(IntLStream.of(4, 9, -2).max()).hasValue(9);
+    assertThat(IntLStream.empty().max()).isEmpty();
+  }
+
+  @Test
+  void average() {
+
+    assertThat(IntLStream.of(1, 2).average()).hasValue(1.5);
+    assertThat(IntLStream.empty().average()).isEmpty();
+  }
+
+  @Test
+  void averageDoesNotOverflow() {
+
+    assertThat(IntLStream.of(Integer.MAX_VALUE, Integer.MAX_VALUE).average())
+        .hasValue(Integer.MAX_VALUE);
+  }
+
+  @Test
+  void summaryStatistics() {
+
+    IntSummaryStatistics actualStatistics = IntLStream.of(3, 1, 2).summaryStatistics();
+
+    assertThat(actualStatistics.getMin()).isEqualTo(1);
+    assertThat(actualStatistics.getMax()).isEqualTo(3);
+    assertThat(actualStatistics.getSum()).isEqualTo(6);
+    assertThat(actualStatistics.getCount()).isEqualTo(3);
+  }
+
+  @Test
+  void matches() {
+
+    assertThat(IntLStream.of(1, 2, 3).anyMatch(i -> i == 2)).isTrue();
+    assertThat(IntLStream.of(1, 2, 3).allMatch(i -> i > 0)).isTrue();
+    assertThat(IntLStream.of(1, 2, 3).noneMatch(i -> i > 2)).isFalse();
+  }
+
+  @Test
+  void findFirstFindLast() {
+
+    assertThat(IntLStream.of(1, 2, 3).findFirst()).hasValue(1);
+    assertThat(IntLStream.of(1, 2, 3).filter(i -> i < 3).findLast()).hasValue(2);
+    assertThat(IntLStream.of(1, 2, 3).skip(5).findLast()).isEmpty();
+  }
+
+  @Test
+  void mapToObjBoxed() {
+
+    assertThat(IntLStream.of(1, 2).mapToObj(Integer::toString).toList()).containsExactly("1", "2");
+    assertThat(IntLStream.of(1, 2).boxed().toList()).containsExactly(1, 2);
+  }
+
+  @Test
+  void mapToLongMapToDouble() {
+
+    assertThat(IntLStream.of(Integer.MAX_VALUE, 1).mapToLong(i -> i).sum())
+        .isEqualTo(2_147_483_648L);
+    assertThat(IntLStream.of(1, 2).mapToDouble(i -> i / 2d).toArray()).containsExactly(0.5, 1);
+  }
+
+  @Test
+  void mapToIntFromLStream() {
+
+    int actualSum = LStream.of("a", "bb", "ccc").mapToInt(String::length).sum();
+
+    assertThat(actualSum).isEqualTo(6);
+  }
+
+  @Test
+  void mapToIntKeepsKnownSize() {
+
+    assertThat(LStream.of("a", "bb", "ccc").mapToInt(String::length).knownSize()).isEqualTo(3);
+  }
+
+  @Test
+  void pushAfterPull() {
+
+    IntLStream lStream = IntLStream.of(1, 2, 3, 4, 5, 6).filter(i -> i % 2 == 0);
+
+    assertThat(lStream.nextInt()).isEqualTo(2);
+    assertThat(lStream.hasNext()).isTrue();
+    assertThat(lStream.toArray()).containsExactly(4, 6);
+  }
+
+  @Test
+  void range() {
+
+    assertThat(IntLStream.range(2, 6).toArray()).containsExactly(2, 3, 4, 5);
+    assertThat(IntLStream.rangeClosed(2, 6).toArray()).containsExactly(2, 3, 4, 5, 6);
+    assertThat(IntLStream.range(6, 2).toArray()).isEmpty();
+  }
+
+  @Test
+  void rangeWithStep() {
+
+    assertThat(IntLStream.range(0, 10, 3).toArray()).containsExactly(0, 3, 6, 9);
+    assertThat(IntLStream.rangeClosed(0, 9, 3).toArray()).containsExactly(0, 3, 6, 9);
+    assertThat(IntLStream.range(10, 0, -4).toArray()).containsExactly(10, 6, 2);
+  }
+
+  @Test
+  void rangeZeroStep() {
+
+    assertThatThrownBy(() -> IntLStream.range(0, 10, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rangeFullIntDomain() {
+
+    IntLStream lStream = IntLStream.rangeClosed(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    assertThat(lStream.count()).isEqualTo(1L << 32);
+    assertThat(lStream.skip((1L << 32) - 2).toArray())
+        .containsExactly(Integer.MAX_VALUE - 1, Integer.MAX_VALUE);
+  }
+
+  @Test
+  void rangeSkipLimitFindLast() {
+
+    IntLStream lStream = IntLStream.range(0, 500_000_000, 2).skip(10).limit(5);
+
+    assertThat(lStream.knownSize()).isEqualTo(5);
+    assertThat(lStream.nextInt()).isEqualTo(20);
+    assertThat(lStream.findLast()).hasValue(28);
+    assertThat(lStream.hasNext()).isFalse();
+  }
+
+  @Test
+  void rangeSum() {
+
+    assertThat(IntLStream.range(1, 101).sum()).isEqualTo(5050);
+    assertThat(IntLStream.range(10, -10, -3).sum())
+        .isEqualTo(IntStream.iterate(10, i -> i > -10, i -> i - 3).sum());
+    assertThat(IntLStream.range(0, 100_000).sum()).isEqualTo(IntStream.range(0, 100_000).sum());
+  }
+
+  @Test
+  void rangeSortedMinMax() {
+
+    assertThat(IntLStream.rangeClosed(9, 1, -4).sorted().toArray()).containsExactly(1, 5, 9);
+    assertThat(IntLStream.rangeClosed(9, 1, -4).min()).hasValue(1);
+    assertThat(IntLStream.rangeClosed(9, 1, -4).max()).hasValue(9);
+  }
+
+  @Test
+  void rangeSortedMinimumStep() {
+
+    int[] actualValues =
+        IntLStream.rangeClosed(0, Integer.MIN_VALUE, Integer.MIN_VALUE).sorted().toArray();
+
+    assertThat(actualValues).containsExactly(Integer.MIN_VALUE, 0);
+  }
+
+  @Test
+  void rangePushAfterPull() {
+
+    IntLStream lStream = IntLStream.range(0, 5);
+
+    assertThat(lStream.nextInt()).isZero();
+    assertThat(lStream.filter(i -> i % 2 == 0).toArray()).containsExactly(2, 4);
+  }
+
+  @Test
+  void builder() {
+
+    IntLStream.Builder builder = IntLStream.builder();
+    for (int i = 0; i < 100; i++) {
+      builder.add(i);
+    }
+    IntLStream lStream = builder.build();
+
+    assertThat(lStream.knownSize()).isEqualTo(100);
+    assertThat(lStream.nextInt()).isZero();
+    assertThat(lStream.skip(97).toArray()).containsExactly(98, 99);
+  }
+
+  @Test
+  void builderToArrayFindLast() {
+
+    assertThat(IntLStream.builder().add(3).add(1).build().toArray()).containsExactly(3, 1);
+    assertThat(IntLStream.builder().add(3).add(1).build().findLast()).hasValue(1);
+    assertThat(IntLStream.builder().build().findLast()).isEmpty();
+  }
+
+  @Test
+  void sortedLargeUsesRadixSort() {
+
+    int[] values = new Random(9).ints(200_000).toArray();
+
+    int[] actualValues = IntLStream.of(values).sorted().toArray();
+
+    assertThat(actualValues).isEqualTo(IntStream.of(values).sorted().toArray());
+  }
+
+  @Test
+  void rangeCharacteristics() {
+
+    assertThat(IntLStream.range(0, 10).filter(i -> i % 2 == 0).isSorted()).isTrue();
+    assertThat(IntLStream.range(0, 10).isDistinct()).isTrue();
+    assertThat(IntLStream.range(10, 0, -1).isSorted()).isFalse();
+    assertThat(IntLStream.range(0, 10).limit(3).max()).hasValue(2);
+  }
+
+  @Test
+  void distinctOnSortedValuesIsRunLength() {
+
+    IntLStream lStream = IntLStream.of(3, 1, 3, 2, 1, 3).sorted().distinct();
+
+    assertThat(lStream.isDistinct()).isTrue();
+    assertThat(lStream.isSorted()).isTrue();
+    assertThat(lStream.distinct()).isSameAs(lStream);
+    assertThat(lStream.toArray()).containsExactly(1, 2, 3);
+  }
+}
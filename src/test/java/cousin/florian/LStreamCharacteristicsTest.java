@@ -0,0 +1,125 @@
+package cousin.florian;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LStreamCharacteristicsTest {
+
+  @Test
+  void sortedSetIsSortedAndDistinct() {
+
+    LStream<Integer> lStream = LStream.from(new TreeSet<>(List.of(3, 1, 2)));
+
+    assertThat(lStream.isSortedBy(null)).isTrue();
+    assertThat(lStream.isSortedBy(Comparator.naturalOrder())).isTrue();
+    assertThat(lStream.isSortedBy(Comparator.reverseOrder())).isFalse();
+    assertThat(lStream.isDistinct()).isTrue();
+    assertThat(lStream.knownSize()).isEqualTo(3);
+  }
+
+  @Test
+  void sortedSetWithComparator() {
+
+    TreeSet<String> set = new TreeSet<>(Comparator.reverseOrder());
+    set.addAll(List.of("a", "c", "b"));
+
+    LStream<String> lStream = LStream.from(set);
+
+    assertThat(lStream.isSortedBy(Comparator.reverseOrder())).isTrue();
+    assertThat(lStream.isSortedBy(null)).isFalse();
+    assertThat(lStream.sorted(Comparator.reverseOrder())).isSameAs(lStream);
+    assertThat(lStream.max(Comparator.reverseOrder())).hasValue("a");
+  }
+
+  @Test
+  void redundantSortedAndDistinctAreFree() {
+
+    LStream<Integer> lStream = LStream.from(new TreeSet<>(List.of(3, 1, 2)));
+
+    assertThat(lStream.sorted()).isSameAs(lStream);
+    assertThat(lStream.distinct()).isSameAs(lStream);
+
+    LStream<Integer> sorted = LStream.of(3, 1, 2).sorted();
+    assertThat(sorted.sorted()).isSameAs(sorted);
+  }
+
+  @Test
+  void characteristicsArePropagated() {
+
+    LStream<Integer> lStream =
+        LStream.from(new TreeSet<>(List.of(5, 1, 4, 2, 3)))
+            .filter(i -> i != 3)
+            .skip(1)
+            .limit(10)
+            .peek(i -> {})
+            .takeWhile(i -> i < 5);
+
+    assertThat(lStream.isSortedBy(null)).isTrue();
+    assertThat(lStream.isDistinct()).isTrue();
+    assertThat(lStream.toList()).containsExactly(2, 4);
+
+    assertThat(LStream.of(1, 2).map(i -> i).isSortedBy(null)).isFalse();
+  }
+
+  @Test
+  void sortedLimitKeepsCharacteristic() {
+
+    LStream<Integer> lStream = LStream.of(5, 1, 4, 2, 3).sorted().limit(3);
+
+    assertThat(lStream.isSortedBy(null)).isTrue();
+    assertThat(lStream.toList()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void distinctOnSortedElementsIsRunLength() {
+
+    LStream<Integer> lStream = LStream.of(3, 1, 3, 2, 1, 3).sorted().distinct();
+
+    assertThat(lStream.isDistinct()).isTrue();
+    assertThat(lStream.isSortedBy(null)).isTrue();
+    assertThat(lStream.toList()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void distinctOnSortedNullValues() {
+
+    List<String> values = Arrays.asList(null, null, "a", "a", "b");
+
+    List<String> actualValues =
+        LStream.from(values).sorted(Comparator.nullsFirst(Comparator.naturalOrder())).toList();
+    assertThat(actualValues).containsExactly(null, null, "a", "a", "b");
+
+    LStream<String> distinct =
+        LStream.from(new TreeSet<>(List.of("a", "b"))).filter(s -> true).distinct();
+    assertThat(distinct.toList()).containsExactly("a", "b");
+  }
+
+  @Test
+  void minMaxOfSortedElementsUseFirstAndLast() {
+
+    AtomicInteger nbIterated = new AtomicInteger();
+    LStream<Integer> lStream =
+        LStream.from(new TreeSet<>(List.of(5, 1, 4))).peek(i -> nbIterated.incrementAndGet());
+
+    assertThat(lStream.min(Comparator.naturalOrder())).hasValue(1);
+    assertThat(nbIterated).hasValue(1);
+
+    assertThat(LStream.from(new TreeSet<>(List.of(5, 1, 4))).max(Comparator.naturalOrder()))
+        .hasValue(5);
+  }
+
+  @Test
+  void maxOfSortedElementsKeepsFirstOfEqualMaxima() {
+
+    record Pair(int key, String value) {}
+    Comparator<Pair> byKey = Comparator.comparingInt(Pair::key);
+
+    Optional<Pair> actualMax =
+        LStream.of(new Pair(2, "a"), new Pair(1, "x"), new Pair(2, "b")).sorted(byKey).max(byKey);
+
+    assertThat(actualMax).hasValue(new Pair(2, "a"));
+  }
+}
@@ -7,6 +7,7 @@ import cousin.florian.collector.LCollector;
 import cousin.florian.exception.SeveralElementsException;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.Test;
@@ -48,6 +49,50 @@ class LStreamEndTest {
     assertThat(actualValues).isEqualTo(expectedValues);
   }
 
+  @Test
+  void toArrayUnknownSize() {
+
+    Integer[] actualValues =
+        LStream.iterate(0, i -> i < 999, i -> i + 1)
+            .filter(i -> i % 3 == 0)
+            .toArray(Integer[]::new);
+
+    Integer[] expectedValues =
+        IntStream.range(0, 1000).filter(i -> i % 3 == 0).boxed().toArray(Integer[]::new);
+
+    assertThat(actualValues).isEqualTo(expectedValues);
+  }
+
+  @Test
+  void toArrayKnownSize() {
+
+    String[] actualValues = LStream.of(1, 2, 3).map(String::valueOf).toArray(String[]::new);
+
+    assertThat(actualValues).isEqualTo(new String[] {"1", "2", "3"});
+  }
+
+  @Test
+  void toArrayWrongType() {
+
+    ThrowableAssert.ThrowingCallable toArray =
+        () -> LStream.<Object>of(1, "2").filter(o -> true).toArray(Integer[]::new);
+
+    Assertions.assertThatThrownBy(toArray).isInstanceOf(ArrayStoreException.class);
+  }
+
+  @Test
+  void toListUnknownSize() {
+
+    List<Integer> actualValues =
+        LStream.iterate(0, i -> i < 99_999, i -> i + 1).filter(i -> i % 2 == 0).toList();
+
+    assertThat(actualValues)
+        .isUnmodifiable()
+        .hasSize(50_000)
+        .isEqualTo(IntStream.range(0, 100_000).filter(i -> i % 2 == 0).boxed().toList());
+    assertThat(actualValues.get(49_999)).isEqualTo(99_998);
+  }
+
   @Test
   void maxWithReduce() {
 
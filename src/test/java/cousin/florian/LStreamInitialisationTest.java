@@ -1,6 +1,7 @@
 package cousin.florian;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -121,4 +122,28 @@ class LStreamInitialisationTest {
 
     assertThat(actualConcatenation).isEmpty();
   }
+
+  @Test
+  void builderIsSizedAndRandomAccess() {
+
+    LStream.Builder<Integer> builder = LStream.builder();
+    for (int i = 0; i < 1_000; i++) {
+      builder.add(i);
+    }
+    LStream<Integer> lStream = builder.build();
+
+    assertThat(lStream.knownSize()).isEqualTo(1_000);
+    assertThat(lStream.skip(990).count()).isEqualTo(10);
+    assertThat(lStream.findLast()).hasValue(999);
+  }
+
+  @Test
+  void builderAddAfterBuild() {
+
+    LStream.Builder<String> builder = LStream.<String>builder().add("first");
+    builder.build();
+
+    assertThatThrownBy(() -> builder.add("second")).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(builder::build).isInstanceOf(IllegalStateException.class);
+  }
 }
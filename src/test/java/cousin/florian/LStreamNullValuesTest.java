@@ -295,6 +295,17 @@ class LStreamNullValuesTest {
     assertThat(actualValues).isEqualTo(expectedValues);
   }
 
+  @Test
+  void findLastOfSortedSetEndingWithNull() {
+
+    SortedSet<Integer> sortedSet = new TreeSet<>(Comparator.nullsLast(Comparator.naturalOrder()));
+    sortedSet.addAll(Arrays.asList(3, null, 1));
+
+    Optional<Integer> actualLast = LStream.from(sortedSet).findLast();
+
+    assertThat(actualLast).isEmpty();
+  }
+
   @Test
   void iterate() {
 
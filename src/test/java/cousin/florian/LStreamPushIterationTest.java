@@ -0,0 +1,154 @@
+package cousin.florian;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LStreamPushIterationTest {
+
+  @Test
+  void forEachWhileStopsWhenSinkReturnsFalse() {
+
+    List<Integer> pushedValues = new ArrayList<>();
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4, 5);
+
+    boolean actualAllPushed = lStream.forEachWhile(value -> pushedValues.add(value) && value < 3);
+
+    assertThat(actualAllPushed).isFalse();
+    assertThat(pushedValues).containsExactly(1, 2, 3);
+    assertThat(lStream.toList()).containsExactly(4, 5);
+  }
+
+  @Test
+  void forEachWhileAllPushed() {
+
+    List<Integer> pushedValues = new ArrayList<>();
+
+    boolean actualAllPushed =
+        LStream.from(List.of(1, 2, 3)).map(i -> i * 2).forEachWhile(pushedValues::add);
+
+    assertThat(actualAllPushed).isTrue();
+    assertThat(pushedValues).containsExactly(2, 4, 6);
+  }
+
+  @Test
+  void filterPushAfterHasNext() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4, 5, 6).filter(i -> i % 2 == 0);
+
+    assertThat(lStream.hasNext()).isTrue();
+
+    assertThat(lStream.toList()).containsExactly(2, 4, 6);
+  }
+
+  @Test
+  void filterMapPushAfterNext() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4, 5, 6).filter(i -> i > 1).map(i -> i * 10);
+
+    assertThat(lStream.next()).isEqualTo(20);
+
+    assertThat(lStream.toList()).containsExactly(30, 40, 50, 60);
+  }
+
+  @Test
+  void flatMapPushAfterPartialPull() {
+
+    LStream<Integer> lStream =
+        LStream.of(List.of(1, 2, 3), List.<Integer>of(), List.of(4, 5)).flatMap(LStream::from);
+
+    assertThat(lStream.next()).isEqualTo(1);
+
+    assertThat(lStream.toList()).containsExactly(2, 3, 4, 5);
+  }
+
+  @Test
+  void flatMapShortCircuitKeepsInnerElements() {
+
+    LStream<Integer> lStream = LStream.of(List.of(1, 2, 3), List.of(4, 5)).flatMap(LStream::from);
+
+    assertThat(lStream.anyMatch(i -> i == 2)).isTrue();
+
+    assertThat(lStream.toList()).containsExactly(3, 4, 5);
+  }
+
+  @Test
+  void limitAnyMatchOnLastElement() {
+
+    boolean actualMatch = LStream.of(1, 2, 3, 4).limit(3).anyMatch(i -> i == 3);
+
+    assertThat(actualMatch).isTrue();
+  }
+
+  @Test
+  void limitDoesNotConsumeMoreThanNeeded() {
+
+    List<Integer> peekedValues = new ArrayList<>();
+
+    long actualCount =
+        LStream.of(1, 2, 3, 4, 5).filter(i -> i > 0).peek(peekedValues::add).limit(2).count();
+
+    assertThat(actualCount).isEqualTo(2);
+    assertThat(peekedValues).containsExactly(1, 2);
+  }
+
+  @Test
+  void skipPushAfterHasNext() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4, 5).filter(i -> i > 0).skip(2);
+
+    assertThat(lStream.hasNext()).isTrue();
+
+    assertThat(lStream.toList()).containsExactly(3, 4, 5);
+  }
+
+  @Test
+  void takeWhilePushAfterHasNext() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4, 1).takeWhile(i -> i < 3);
+
+    assertThat(lStream.hasNext()).isTrue();
+
+    assertThat(lStream.toList()).containsExactly(1, 2);
+    assertThat(lStream.hasNext()).isFalse();
+  }
+
+  @Test
+  void takeWhilePreviousPush() {
+
+    List<Integer> actualValues = LStream.of(1, 2, 3, 4, 1).takeWhilePrevious(i -> i < 3).toList();
+
+    assertThat(actualValues).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void dropWhilePushAfterHasNext() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 1, 2).dropWhile(i -> i < 3);
+
+    assertThat(lStream.hasNext()).isTrue();
+
+    assertThat(lStream.toList()).containsExactly(3, 1, 2);
+  }
+
+  @Test
+  void dropWhilePush() {
+
+    List<Integer> actualValues = LStream.of(1, 2, 3, 1, 2).dropWhile(i -> i < 3).toList();
+
+    assertThat(actualValues).containsExactly(3, 1, 2);
+  }
+
+  @Test
+  void forEachRemainingUsesPush() {
+
+    List<String> actualValues = new ArrayList<>();
+
+    LStream.of("a", "b", "c").filter(s -> !"b".equals(s)).forEachRemaining(actualValues::add);
+
+    assertThat(actualValues).containsExactly("a", "c");
+  }
+}
@@ -0,0 +1,174 @@
+package cousin.florian;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cousin.florian.collector.LCollector;
+import cousin.florian.collector.LCollectors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LStreamSizeTest {
+
+  @Test
+  void arrayKnownSize() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4);
+
+    lStream.next();
+
+    assertThat(lStream.knownSize()).isEqualTo(3);
+  }
+
+  @Test
+  void unknownSize() {
+
+    LStream<Integer> lStream = LStream.from(Set.of(1, 2, 3));
+
+    assertThat(lStream.knownSize()).isEqualTo(-1);
+    assertThat(lStream.sizeUpperBound()).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  void mapPeekKeepKnownSize() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4).map(i -> i * 2).peek(i -> {});
+
+    assertThat(lStream.knownSize()).isEqualTo(4);
+  }
+
+  @Test
+  void limitSkipKnownSize() {
+
+    assertThat(LStream.of(1, 2, 3, 4).filter(i -> true).map(i -> i).limit(2).knownSize())
+        .isEqualTo(-1);
+    assertThat(LStream.of(1, 2, 3, 4).map(i -> i).limit(2).knownSize()).isEqualTo(2);
+    assertThat(LStream.of(1, 2, 3, 4).map(i -> i).limit(10).knownSize()).isEqualTo(4);
+    assertThat(LStream.of(1, 2, 3, 4).peek(i -> {}).skip(3).knownSize()).isEqualTo(1);
+    assertThat(LStream.of(1, 2, 3, 4).peek(i -> {}).skip(10).knownSize()).isZero();
+  }
+
+  @Test
+  void limitKnownSizeAfterIteration() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4).map(i -> i).limit(3);
+
+    lStream.next();
+
+    assertThat(lStream.knownSize()).isEqualTo(2);
+  }
+
+  @Test
+  void filterSizeUpperBound() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4).filter(i -> i > 1);
+
+    assertThat(lStream.knownSize()).isEqualTo(-1);
+    assertThat(lStream.sizeUpperBound()).isEqualTo(4);
+
+    // The next element is buffered in the filter
+    lStream.hasNext();
+
+    assertThat(lStream.sizeUpperBound()).isEqualTo(3);
+  }
+
+  @Test
+  void takeWhileSizeUpperBound() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4).takeWhile(i -> i < 3).limit(10);
+
+    assertThat(lStream.knownSize()).isEqualTo(-1);
+    assertThat(lStream.sizeUpperBound()).isEqualTo(4);
+  }
+
+  @Test
+  void sortedKnownSizeDoesNotSort() {
+
+    AtomicInteger nbComparisons = new AtomicInteger();
+
+    LStream<Integer> lStream =
+        LStream.of(4, 2, 3, 1)
+            .map(i -> i)
+            .sorted(
+                (i1, i2) -> {
+                  nbComparisons.incrementAndGet();
+                  return i1.compareTo(i2);
+                });
+
+    assertThat(lStream.knownSize()).isEqualTo(4);
+    assertThat(nbComparisons).hasValue(0);
+    assertThat(lStream.toList()).containsExactly(1, 2, 3, 4);
+  }
+
+  @Test
+  void sortedUnknownSize() {
+
+    LStream<Integer> lStream = LStream.of(4, 2, 3, 1).filter(i -> i > 1).sorted();
+
+    assertThat(lStream.knownSize()).isEqualTo(-1);
+    assertThat(lStream.sizeUpperBound()).isEqualTo(4);
+  }
+
+  @Test
+  void countDoesNotIterateSizedLStream() {
+
+    List<Integer> peekedValues = new ArrayList<>();
+
+    long actualCount = LStream.of(1, 2, 3).peek(peekedValues::add).count();
+
+    assertThat(actualCount).isEqualTo(3);
+    assertThat(peekedValues).isEmpty();
+  }
+
+  @Test
+  void collectorUsesSizedSupplier() {
+
+    AtomicInteger suppliedSize = new AtomicInteger(-1);
+
+    LCollector<Integer, List<Integer>, List<Integer>> sizedCollector =
+        LCollectors.<Integer>toList()
+            .withSizedSupplier(
+                size -> {
+                  suppliedSize.set(size);
+                  return new ArrayList<>(size);
+                });
+
+    List<Integer> actualValues = LStream.of(1, 2, 3).map(i -> i + 1).collect(sizedCollector);
+
+    assertThat(actualValues).containsExactly(2, 3, 4);
+    assertThat(suppliedSize).hasValue(3);
+  }
+
+  @Test
+  void collectorDoesNotUseSizedSupplierWhenFiltering() {
+
+    AtomicInteger suppliedSize = new AtomicInteger(-1);
+
+    LCollector<Integer, List<Integer>, List<Integer>> sizedCollector =
+        LCollectors.filtering(
+            i -> i > 1,
+            LCollectors.<Integer>toList()
+                .withSizedSupplier(
+                    size -> {
+                      suppliedSize.set(size);
+                      return new ArrayList<>(size);
+                    }));
+
+    List<Integer> actualValues = LStream.of(1, 2, 3).collect(sizedCollector);
+
+    assertThat(actualValues).containsExactly(2, 3);
+    assertThat(suppliedSize).hasValue(-1);
+  }
+
+  @Test
+  void toArrayAfterPartialConsumption() {
+
+    LStream<Integer> lStream = LStream.of(3, 1, 2).map(i -> i).sorted();
+
+    lStream.next();
+
+    assertThat(lStream.peek(i -> {}).toArray()).containsExactly(2, 3);
+  }
+}
@@ -0,0 +1,121 @@
+package cousin.florian;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LongSummaryStatistics;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class LongLStreamTest {
+
+  @Test
+  void filterMapSorted() {
+
+    long[] actualValues =
+        LongLStream.of(5L, 2L, 8L, 1L).filter(l -> l > 1).map(l -> l * 3).sorted().toArray();
+
+    assertThat(actualValues).containsExactly(6L, 15L, 24L);
+  }
+
+  @Test
+  void sum() {
+
+    long actualSum = LongLStream.of(Long.MAX_VALUE / 2, Long.MAX_VALUE / 2).sum();
+
+    assertThat(actualSum).isEqualTo(Long.MAX_VALUE - 1);
+  }
+
+  @Test
+  void summaryStatistics() {
+
+    LongSummaryStatistics actualStatistics =
+        LStream.of(3L, 1L, 2L).mapToLong(l -> l).summaryStatistics();
+
+    assertThat(actualStatistics.getAverage()).isEqualTo(2);
+    assertThat(actualStatistics.getMax()).isEqualTo(3);
+  }
+
+  @Test
+  void mapToIntMapToObj() {
+
+    assertThat(LongLStream.of(1L, 2L).mapToInt(l -> (int) l).sum()).isEqualTo(3);
+    assertThat(LongLStream.of(1L, 2L).mapToObj(Long::toString).toList()).containsExactly("1", "2");
+  }
+
+  @Test
+  void flatMapDistinct() {
+
+    long[] actualValues =
+        LongLStream.of(1L, 2L).flatMap(l -> LongLStream.of(l, 2L)).distinct().toArray();
+
+    assertThat(actualValues).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void rangeWithStep() {
+
+    assertThat(LongLStream.range(0, 10, 4).toArray()).containsExactly(0L, 4L, 8L);
+    assertThat(LongLStream.rangeClosed(3, -3, -3).toArray()).containsExactly(3L, 0L, -3L);
+  }
+
+  @Test
+  void rangeLargeCountSkipSum() {
+
+    LongLStream lStream = LongLStream.range(0, 300_000_000_000L);
+
+    assertThat(lStream.count()).isEqualTo(300_000_000_000L);
+    assertThat(lStream.skip(299_999_999_998L).sum()).isEqualTo(599_999_999_997L);
+  }
+
+  @Test
+  void rangeNearLongBounds() {
+
+    LongLStream lStream = LongLStream.range(Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+
+    assertThat(lStream.toArray()).containsExactly(Long.MIN_VALUE, -1L, Long.MAX_VALUE - 1);
+  }
+
+  @Test
+  void rangeTooLarge() {
+
+    assertThatThrownBy(() -> LongLStream.rangeClosed(Long.MIN_VALUE, Long.MAX_VALUE))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rangeSumWraps() {
+
+    long actualSum = LongLStream.range(Long.MAX_VALUE - 3, Long.MAX_VALUE).sum();
+
+    assertThat(actualSum).isEqualTo(LongStream.range(Long.MAX_VALUE - 3, Long.MAX_VALUE).sum());
+  }
+
+  @Test
+  void rangeSortedFindLast() {
+
+    assertThat(LongLStream.range(10, 0, -5).sorted().toArray()).containsExactly(5L, 10L);
+    assertThat(LongLStream.rangeClosed(1, 1_000_000_000_000L, 7).findLast())
+        .hasValue(1_000_000_000_000L);
+  }
+
+  @Test
+  void builder() {
+
+    LongLStream lStream = LongLStream.builder().add(5L).add(5L).add(0).build();
+
+    assertThat(lStream.count()).isEqualTo(3);
+    assertThat(lStream.toArray()).containsExactly(5L, 5L, 0);
+  }
+
+  @Test
+  void sortedLarge() {
+
+    long[] values = new Random(9).longs(200_000, -1_000, 1_000).toArray();
+
+    long[] actualValues = LongLStream.of(values).filter(l -> true).sorted().toArray();
+
+    assertThat(actualValues).isEqualTo(LongStream.of(values).sorted().toArray());
+  }
+}
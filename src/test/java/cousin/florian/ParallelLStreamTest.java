@@ -0,0 +1,152 @@
+package cousin.florian;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelLStreamTest {
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void shutdownPool() {
+    pool.shutdown();
+  }
+
+  private static List<Integer> numbers(int nbElements) {
+    return IntStream.range(0, nbElements).boxed().toList();
+  }
+
+  @Test
+  void toListKeepsEncounterOrder() {
+
+    List<Integer> actualValues =
+        LStream.from(numbers(10_000))
+            .parallel(pool)
+            .filter(i -> i % 3 == 0)
+            .map(i -> i * 2)
+            .toList();
+
+    assertThat(actualValues)
+        .isEqualTo(
+            IntStream.range(0, 10_000).filter(i -> i % 3 == 0).map(i -> i * 2).boxed().toList());
+  }
+
+  @Test
+  void flatMap() {
+
+    List<Integer> actualValues =
+        LStream.of(1, 2, 3).parallel(pool).flatMap(i -> LStream.of(i, -i)).toList();
+
+    assertThat(actualValues).containsExactly(1, -1, 2, -2, 3, -3);
+  }
+
+  @Test
+  void usesPoolThreads() {
+
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    LStream.from(numbers(1_000)).parallel(pool).forEach(i -> threads.add(Thread.currentThread()));
+
+    assertThat(threads).doesNotContain(Thread.currentThread()).isNotEmpty();
+  }
+
+  @Test
+  void startsAfterConsumedElements() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4);
+    lStream.next();
+
+    assertThat(lStream.parallel(pool).toList()).containsExactly(2, 3, 4);
+    assertThat(lStream.hasNext()).isFalse();
+  }
+
+  @Test
+  void nonRandomAccessSource() {
+
+    long actualCount =
+        LStream.from(numbers(1_000).iterator()).parallel(pool).filter(i -> i % 2 == 0).count();
+
+    assertThat(actualCount).isEqualTo(500);
+  }
+
+  @Test
+  void empty() {
+
+    assertThat(LStream.<Integer>empty().parallel(pool).map(i -> i + 1).toList()).isEmpty();
+    assertThat(LStream.<Integer>empty().parallel(pool).reduce(Integer::sum)).isEmpty();
+    List<Integer> actualValues =
+        LStream.<Integer>empty()
+            .parallel(pool)
+            .collect(ArrayList<Integer>::new, List::add, List::addAll);
+    assertThat(actualValues).isEmpty();
+  }
+
+  @Test
+  void reduceWithCombiner() {
+
+    String actualValue =
+        LStream.from(numbers(100)).parallel(pool).reduce("", (s, i) -> s + i + ",", String::concat);
+
+    assertThat(actualValue).isEqualTo(LStream.from(numbers(100)).reduce("", (s, i) -> s + i + ","));
+  }
+
+  @Test
+  void reduceAssociative() {
+
+    assertThat(LStream.from(numbers(1_001)).parallel(pool).reduce(Integer::sum)).hasValue(500_500);
+  }
+
+  @Test
+  void collectWithCombiner() {
+
+    List<Integer> actualValues =
+        LStream.from(numbers(1_000))
+            .parallel(pool)
+            .collect(ArrayList<Integer>::new, List::add, List::addAll);
+
+    assertThat(actualValues).isEqualTo(numbers(1_000));
+  }
+
+  @Test
+  void sequentialContinuesWithStatefulOperations() {
+
+    List<Integer> actualValues =
+        LStream.of(5, 3, 8, 1)
+            .parallel(pool)
+            .map(i -> i * 10)
+            .sequential()
+            .sorted()
+            .limit(3)
+            .toList();
+
+    assertThat(actualValues).containsExactly(10, 30, 50);
+  }
+
+  @Test
+  void exceptionIsPropagated() {
+
+    ParallelLStream<Integer> lStream =
+        LStream.from(numbers(100))
+            .parallel(pool)
+            .map(
+                i -> {
+                  if (i == 42) {
+                    throw new IllegalStateException("failure on 42");
+                  }
+                  return i;
+                });
+
+    assertThatThrownBy(lStream::toList)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("failure on 42");
+  }
+}
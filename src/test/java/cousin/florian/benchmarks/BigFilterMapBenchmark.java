@@ -51,6 +51,15 @@ public class BigFilterMapBenchmark {
     blackhole.consume(generatedList);
   }
 
+  @Benchmark
+  public void parallelLStream(Blackhole blackhole) {
+
+    List<Integer> generatedList =
+        LStream.from(testData).parallel().filter(i -> i > 0).map(i -> i - 1).toList();
+
+    blackhole.consume(generatedList);
+  }
+
   @Benchmark
   public void sequentialStream(Blackhole blackhole) {
 
@@ -0,0 +1,161 @@
+package cousin.florian.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.LStream;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CombinerCollectorTest {
+
+  private static final List<Integer> NUMBERS = IntStream.range(0, 1_000).boxed().toList();
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void shutdownPool() {
+    pool.shutdown();
+  }
+
+  private <R> void assertChunkedAndParallelAsSequential(LCollector<Integer, ?, R> collector) {
+
+    R expectedResult = LStream.from(NUMBERS).collect(collector);
+
+    assertThat(LStream.from(NUMBERS).collectChunked(collector, 7)).isEqualTo(expectedResult);
+    assertThat(LStream.from(NUMBERS).parallel(pool).collect(collector)).isEqualTo(expectedResult);
+  }
+
+  @Test
+  void collections() {
+    assertChunkedAndParallelAsSequential(LCollectors.toList());
+    assertChunkedAndParallelAsSequential(LCollectors.toUnmodifiableList());
+    assertChunkedAndParallelAsSequential(LCollectors.toSet());
+    assertChunkedAndParallelAsSequential(LCollectors.toCollection(TreeSet::new));
+  }
+
+  @Test
+  void maps() {
+    assertChunkedAndParallelAsSequential(LCollectors.toMap(i -> i, i -> -i));
+    assertChunkedAndParallelAsSequential(LCollectors.toMap(i -> i % 10, i -> i, Integer::sum));
+    assertChunkedAndParallelAsSequential(LCollectors.toUnmodifiableMap(i -> i, String::valueOf));
+    assertChunkedAndParallelAsSequential(LCollectors.groupingBy(i -> i % 3));
+    assertChunkedAndParallelAsSequential(
+        LCollectors.partitioningBy(i -> i < 400, LCollectors.counting()));
+  }
+
+  @Test
+  void numbers() {
+    assertChunkedAndParallelAsSequential(LCollectors.counting());
+    assertChunkedAndParallelAsSequential(LCollectors.summingInt(i -> i));
+    assertChunkedAndParallelAsSequential(LCollectors.summingLong(i -> i));
+    assertChunkedAndParallelAsSequential(LCollectors.summingDouble(i -> i));
+    assertChunkedAndParallelAsSequential(LCollectors.averagingInt(i -> i));
+    assertChunkedAndParallelAsSequential(LCollectors.averagingDouble(i -> i));
+    assertChunkedAndParallelAsSequential(
+        LCollectors.collectingAndThen(
+            LCollectors.summarizingInt(i -> i), IntSummaryStatistics::toString));
+  }
+
+  @Test
+  void minMax() {
+    assertChunkedAndParallelAsSequential(LCollectors.minBy(Comparator.comparing(i -> i % 17)));
+    assertChunkedAndParallelAsSequential(LCollectors.maxBy(Comparator.comparing(i -> i % 17)));
+  }
+
+  @Test
+  void joiningAndTeeing() {
+    assertChunkedAndParallelAsSequential(
+        LCollectors.mapping(String::valueOf, LCollectors.joining(",", "[", "]")));
+    assertChunkedAndParallelAsSequential(
+        LCollectors.mapping(String::valueOf, LCollectors.joining()));
+    assertChunkedAndParallelAsSequential(
+        LCollectors.teeing(
+            LCollectors.filtering(i -> i % 2 == 0, LCollectors.toList()),
+            LCollectors.counting(),
+            (evens, count) -> evens.size() + "/" + count));
+  }
+
+  @Test
+  void collectChunkedEmpty() {
+
+    List<Integer> actualValues = LStream.<Integer>empty().collectChunked(LCollectors.toList(), 3);
+
+    assertThat(actualValues).isEmpty();
+  }
+
+  @Test
+  void collectChunkedExactMultipleOfChunkSize() {
+
+    String actualValue =
+        LStream.of("a", "b", "c", "d")
+            .collectChunked(LCollectors.joining("-").collectingAndThen(s -> "<" + s + ">"), 2);
+
+    assertThat(actualValue).isEqualTo("<a-b-c-d>");
+  }
+
+  @Test
+  void collectChunkedUsesOneContainerPerChunk() {
+
+    List<Integer> chunkSizes = new ArrayList<>();
+    LCollector<Integer, List<Integer>, List<Integer>> collector =
+        LCollectors.<Integer>toList()
+            .withCombiner(
+                (list1, list2) -> {
+                  chunkSizes.add(list2.size());
+                  list1.addAll(list2);
+                  return list1;
+                });
+
+    List<Integer> actualValues = LStream.of(1, 2, 3, 4, 5, 6, 7).collectChunked(collector, 3);
+
+    assertThat(actualValues).containsExactly(1, 2, 3, 4, 5, 6, 7);
+    assertThat(chunkSizes).containsExactly(3, 1);
+  }
+
+  @Test
+  void noCombiner() {
+
+    LCollector<Integer, List<Integer>, List<Integer>> collector =
+        LCollector.of(ArrayList::new, List::add);
+
+    assertThatThrownBy(() -> LStream.of(1, 2).collectChunked(collector, 1))
+        .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> LStream.of(1, 2).parallel(pool).collect(collector))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void collectChunkedWrongChunkSize() {
+
+    LStream<Integer> lStream = LStream.of(1, 2);
+    LCollector<Integer, ?, List<Integer>> collector = LCollectors.toList();
+
+    assertThatThrownBy(() -> lStream.collectChunked(collector, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void toMapDuplicateKeyAcrossChunks() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 1);
+    LCollector<Integer, ?, Map<Integer, Integer>> collector = LCollectors.toMap(i -> i, i -> i);
+
+    assertThatThrownBy(() -> lStream.collectChunked(collector, 2))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Duplicate key 1");
+  }
+
+  @Test
+  void parallelGroupingByKeepsEncounterOrder() {
+
+    Map<Integer, List<Integer>> actualGroups =
+        LStream.from(NUMBERS).parallel(pool).collect(LCollectors.groupingBy(i -> i % 4));
+
+    assertThat(actualGroups).isEqualTo(NUMBERS.stream().collect(Collectors.groupingBy(i -> i % 4)));
+  }
+}
@@ -107,4 +107,59 @@ class GroupingByCollectorTest {
         .isInstanceOf(UnsupportedOperationException.class)
         .hasMessage(null);
   }
+
+  @Test
+  void groupingByOneContainerPerKey() {
+
+    List<HeapCounter> containers = new ArrayList<>();
+    LCollector<Integer, HeapCounter, Long> countingDownstream =
+        LCollector.of(
+            () -> {
+              HeapCounter container = new HeapCounter();
+              containers.add(container);
+              return container;
+            },
+            (container, newValue) -> container.count++,
+            container -> container.count);
+
+    Map<Integer, Long> actualGroups =
+        LStream.iterate(0, i -> i < 10_000, i -> i + 1)
+            .collect(LCollectors.groupingBy(i -> i % 3, countingDownstream));
+
+    assertThat(actualGroups).containsOnlyKeys(0, 1, 2);
+    assertThat(containers).hasSize(3);
+  }
+
+  private static class HeapCounter {
+    private long count = 0;
+  }
+
+  @Test
+  void groupingByCollectorIsReusable() {
+
+    LCollector<String, ?, Map<Integer, Long>> collector =
+        LCollectors.groupingBy(String::length, LCollectors.counting());
+
+    Map<Integer, Long> firstGroups = LStream.of("a", "bb", "cc").collect(collector);
+    Map<Integer, Long> secondGroups = LStream.of("dd").collect(collector);
+
+    assertThat(firstGroups).isEqualTo(Map.of(1, 1L, 2, 2L));
+    assertThat(secondGroups).isEqualTo(Map.of(2, 1L));
+  }
+
+  @Test
+  void groupingByUsesMapFactoryKeyComparison() {
+
+    Map<String, List<String>> actualGroups =
+        LStream.of("a", "B", "A", "b")
+            .collect(
+                LCollectors.groupingBy(
+                    Function.identity(),
+                    () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER),
+                    LCollectors.toList()));
+
+    assertThat(actualGroups).containsOnlyKeys("a", "b");
+    assertThat(actualGroups.get("a")).containsExactly("a", "A");
+    assertThat(actualGroups.get("B")).containsExactly("B", "b");
+  }
 }
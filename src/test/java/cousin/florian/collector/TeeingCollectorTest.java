@@ -3,7 +3,8 @@ package cousin.florian.collector;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import cousin.florian.LStream;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 
 class TeeingCollectorTest {
@@ -43,4 +44,79 @@ class TeeingCollectorTest {
 
     assertThat(actualCollection).isEqualTo(expectedCollection);
   }
+
+  @Test
+  void teeingIsSinglePass() {
+
+    List<Integer> iteratedValues = new ArrayList<>();
+
+    long actualCount =
+        LStream.of(3, 1, 2)
+            .peek(iteratedValues::add)
+            .collect(
+                LCollectors.teeing(
+                    LCollectors.counting(), LCollectors.toList(), (count, list) -> count));
+
+    assertThat(actualCount).isEqualTo(3);
+    assertThat(iteratedValues).containsExactly(3, 1, 2);
+  }
+
+  @Test
+  void teeingSeveralDownstreams() {
+
+    List<Object> actualResults =
+        LStream.of("bb", "a", "ccc", "dd")
+            .collect(
+                LCollectors.teeing(
+                    List.of(
+                        LCollectors.minBy(Comparator.comparing(String::length)),
+                        LCollectors.maxBy(Comparator.comparing(String::length)),
+                        LCollectors.counting(),
+                        LCollectors.groupingBy(String::length, LCollectors.counting())),
+                    Function.identity()));
+
+    assertThat(actualResults)
+        .containsExactly(Optional.of("a"), Optional.of("ccc"), 4L, Map.of(1, 1L, 2, 2L, 3, 1L));
+  }
+
+  @Test
+  void teeingSeveralDownstreamsSameType() {
+
+    int actualRange =
+        LStream.of(4, 9, 2)
+            .collect(
+                LCollectors.teeing(
+                    List.of(
+                        LCollectors.collectingAndThen(
+                            LCollectors.maxBy(Integer::compare), Optional::orElseThrow),
+                        LCollectors.collectingAndThen(
+                            LCollectors.minBy(Integer::compare), Optional::orElseThrow)),
+                    results -> results.get(0) - results.get(1)));
+
+    assertThat(actualRange).isEqualTo(7);
+  }
+
+  @Test
+  void teeingNoDownstream() {
+
+    int actualNbResults =
+        LStream.of(1, 2)
+            .collect(LCollectors.teeing(List.<LCollector<Integer, ?, Object>>of(), List::size));
+
+    assertThat(actualNbResults).isZero();
+  }
+
+  @Test
+  void teeingSeveralDownstreamsChunked() {
+
+    List<Object> actualResults =
+        LStream.of(5, 1, 4, 2, 3)
+            .collectChunked(
+                LCollectors.teeing(
+                    List.of(LCollectors.toList(), LCollectors.summingInt(i -> i)),
+                    Function.identity()),
+                2);
+
+    assertThat(actualResults).containsExactly(List.of(5, 1, 4, 2, 3), 15);
+  }
 }
@@ -0,0 +1,95 @@
+package cousin.florian.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import cousin.florian.LStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class WindowCollectorsTest {
+
+  private static final int WINDOW_SIZE = 7;
+
+  private static final List<Integer> VALUES =
+      new Random(42).ints(1_000, -100, 100).boxed().toList();
+
+  private static <R> List<R> recomputed(LCollector<Integer, ?, R> collector) {
+    return LStream.of(VALUES.toArray(Integer[]::new))
+        .windowed(WINDOW_SIZE)
+        .map(window -> LStream.from(window).collect(collector))
+        .toList();
+  }
+
+  private static <A, R> List<R> incremental(WindowCollector<Integer, A, R> collector) {
+    return LStream.from(VALUES).windowAggregate(WINDOW_SIZE, collector).toList();
+  }
+
+  @Test
+  void counting() {
+
+    assertThat(incremental(WindowCollectors.counting())).containsOnly((long) WINDOW_SIZE);
+  }
+
+  @Test
+  void summingLong() {
+
+    assertThat(incremental(WindowCollectors.summingLong(i -> i)))
+        .isEqualTo(recomputed(LCollectors.summingLong(i -> i)));
+  }
+
+  @Test
+  void averagingLong() {
+
+    assertThat(incremental(WindowCollectors.averagingLong(i -> i)))
+        .isEqualTo(recomputed(LCollectors.averagingLong(i -> i)));
+  }
+
+  @Test
+  void averagingDouble() {
+
+    List<Double> actualValues = incremental(WindowCollectors.averagingDouble(i -> i / 10d));
+    List<Double> expectedValues = recomputed(LCollectors.averagingDouble(i -> i / 10d));
+
+    for (int i = 0; i < expectedValues.size(); i++) {
+      assertThat(actualValues.get(i)).isCloseTo(expectedValues.get(i), within(1e-9));
+    }
+  }
+
+  @Test
+  void summingDoubleDoesNotDrift() {
+
+    List<Double> actualValues =
+        LStream.generate(() -> 0.1)
+            .limit(1_000_000)
+            .windowAggregate(10, WindowCollectors.summingDouble(d -> d))
+            .toList();
+
+    assertThat(actualValues.getLast()).isCloseTo(1.0, within(1e-12));
+  }
+
+  @Test
+  void minBy() {
+
+    List<Optional<Integer>> actualValues =
+        incremental(WindowCollectors.minBy(Comparator.naturalOrder()));
+
+    assertThat(actualValues).isEqualTo(recomputed(LCollectors.minBy(Comparator.naturalOrder())));
+  }
+
+  @Test
+  void maxByWithDuplicates() {
+
+    List<Optional<Integer>> actualValues =
+        LStream.of(3, 3, 1, 3, 2, 2)
+            .windowAggregate(2, WindowCollectors.maxBy(Comparator.naturalOrder()))
+            .toList();
+
+    assertThat(actualValues)
+        .containsExactly(
+            Optional.of(3), Optional.of(3), Optional.of(3), Optional.of(3), Optional.of(2));
+  }
+}
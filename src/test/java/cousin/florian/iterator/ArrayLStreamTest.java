@@ -3,7 +3,10 @@ package cousin.florian.iterator;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import cousin.florian.LStream;
+import cousin.florian.sort.ParallelSort;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 class ArrayLStreamTest {
@@ -113,4 +116,16 @@ class ArrayLStreamTest {
 
     assertThat(lStream.findLast()).isEmpty();
   }
+
+  @Test
+  void sortedInParallelSkip() {
+
+    Integer[] numbers = new Random(5).ints(20_000).boxed().toArray(Integer[]::new);
+    List<Integer> expectedValues = Arrays.stream(numbers).skip(1).sorted().toList();
+
+    LStream<Integer> lStream =
+        LStream.of(numbers).skip(1).sortedInParallel(ParallelSort.ofCommonPool().withThreshold(10));
+
+    assertThat(lStream.toList()).isEqualTo(expectedValues);
+  }
 }
@@ -0,0 +1,160 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.LStream;
+import cousin.florian.collector.LCollectors;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChannelRecordLStreamTest {
+
+  @TempDir Path temporaryDirectory;
+
+  private static ReadableByteChannel channel(ByteBuffer content) {
+    return Channels.newChannel(new ByteArrayInputStream(content.array(), 0, content.position()));
+  }
+
+  /** A channel returning at most 3 bytes per read */
+  private static ReadableByteChannel slowChannel(ByteBuffer content) {
+
+    ReadableByteChannel channel = channel(content);
+    return new ReadableByteChannel() {
+      @Override
+      public int read(ByteBuffer destination) throws IOException {
+        ByteBuffer smallDestination =
+            destination.slice().limit(Math.min(3, destination.remaining()));
+        int nbRead = channel.read(smallDestination);
+        destination.position(destination.position() + Math.max(0, nbRead));
+        return nbRead;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return channel.isOpen();
+      }
+
+      @Override
+      public void close() throws IOException {
+        channel.close();
+      }
+    };
+  }
+
+  private static ByteBuffer intAndLongRecords(int nbRecords) {
+    ByteBuffer content = ByteBuffer.allocate(nbRecords * 12);
+    for (int i = 0; i < nbRecords; i++) {
+      content.putInt(i).putLong(i * 10L);
+    }
+    return content;
+  }
+
+  @Test
+  void fixedSizeRecords() {
+
+    List<Long> actualValues =
+        LStream.records(channel(intAndLongRecords(100)), 12, 50)
+            .filter(record -> record.getInt(record.position()) % 10 == 0)
+            .map(record -> record.getLong(record.position() + 4))
+            .toList();
+
+    assertThat(actualValues)
+        .containsExactly(0L, 100L, 200L, 300L, 400L, 500L, 600L, 700L, 800L, 900L);
+  }
+
+  @Test
+  void recordIsAReusedView() {
+
+    LStream<ByteBuffer> lStream = LStream.records(channel(intAndLongRecords(2)), 12);
+
+    ByteBuffer first = lStream.next();
+    assertThat(first.remaining()).isEqualTo(12);
+    ByteBuffer second = lStream.next();
+
+    assertThat(second).isSameAs(first);
+    assertThat(second.getInt()).isEqualTo(1);
+  }
+
+  @Test
+  void aggregateWithCollector() {
+
+    long actualSum =
+        LStream.records(slowChannel(intAndLongRecords(1_000)), 12, 7)
+            .collect(LCollectors.summingLong(record -> record.getLong(record.position() + 4)));
+
+    assertThat(actualSum).isEqualTo(4_995_000L);
+  }
+
+  @Test
+  void lengthPrefixedRecords() {
+
+    ByteBuffer content = ByteBuffer.allocate(100);
+    for (String value : List.of("a", "", "a longer record than the buffer")) {
+      content.putInt(value.length()).put(value.getBytes());
+    }
+
+    List<String> actualValues =
+        LStream.lengthPrefixedRecords(slowChannel(content), 8)
+            .map(
+                record -> {
+                  byte[] bytes = new byte[record.remaining()];
+                  record.get(bytes);
+                  return new String(bytes);
+                })
+            .toList();
+
+    assertThat(actualValues).containsExactly("a", "", "a longer record than the buffer");
+  }
+
+  @Test
+  void truncatedRecord() {
+
+    ByteBuffer content = ByteBuffer.allocate(10).putInt(1).putInt(2);
+
+    LStream<ByteBuffer> lStream = LStream.records(channel(content), 6);
+
+    assertThat(lStream.next().getInt()).isEqualTo(1);
+    assertThatThrownBy(lStream::hasNext).isInstanceOf(UncheckedIOException.class);
+  }
+
+  @Test
+  void fileChannelSizeUpperBound() throws IOException {
+
+    ByteBuffer content = intAndLongRecords(10);
+    Path file =
+        Files.write(
+            temporaryDirectory.resolve("records.bin"),
+            Arrays.copyOf(content.array(), content.position()));
+
+    try (FileChannel channel = FileChannel.open(file)) {
+      LStream<ByteBuffer> lStream = LStream.records(channel, 12, 30);
+      assertThat(lStream.sizeUpperBound()).isEqualTo(10);
+      lStream.next();
+      assertThat(lStream.sizeUpperBound()).isEqualTo(9);
+      assertThat(lStream.count()).isEqualTo(9);
+    }
+  }
+
+  @Test
+  void wrongSizes() {
+
+    ReadableByteChannel channel = channel(ByteBuffer.allocate(0));
+
+    assertThatThrownBy(() -> LStream.records(channel, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LStream.lengthPrefixedRecords(channel, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,93 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.LStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ChunkingLStreamTest {
+
+  @Test
+  void chunk() {
+
+    LStream<List<Integer>> lStream = LStream.from(List.of(1, 2, 3, 4, 5).iterator()).chunk(2);
+
+    assertThat(lStream.toList()).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+  }
+
+  @Test
+  void chunkKnownSize() {
+
+    LStream<List<Integer>> lStream = LStream.of(1, 2, 3, 4, 5).map(i -> i).chunk(2);
+
+    assertThat(lStream.knownSize()).isEqualTo(3);
+    lStream.next();
+    assertThat(lStream.knownSize()).isEqualTo(2);
+  }
+
+  @Test
+  void chunkReusing() {
+
+    LStream<List<Integer>> lStream = LStream.of(1, 2, 3).map(i -> i).chunkReusing(2);
+
+    List<Integer> first = lStream.next();
+    assertThat(first).containsExactly(1, 2);
+    List<Integer> second = lStream.next();
+
+    assertThat(second).isSameAs(first).containsExactly(3);
+  }
+
+  @Test
+  void chunkBySizeOrTime() {
+
+    long[] now = {0};
+    List<List<Integer>> actualValues =
+        LStream.from(IntStream.range(0, 10).boxed().toList().iterator())
+            .peek(i -> now[0] += i == 2 ? 1_000 : 1)
+            .chunk(4, Duration.ofNanos(100), () -> now[0])
+            .toList();
+
+    assertThat(actualValues)
+        .containsExactly(List.of(0, 1, 2), List.of(3, 4, 5, 6), List.of(7, 8, 9));
+  }
+
+  @Test
+  void chunkRandomAccessSourceReturnsViews() {
+
+    List<Integer> source = new ArrayList<>(List.of(1, 2, 3, 4, 5));
+
+    LStream<List<Integer>> lStream = LStream.from(source).skip(1).chunk(3);
+
+    assertThat(lStream.knownSize()).isEqualTo(2);
+    List<List<Integer>> chunks = lStream.toList();
+    assertThat(chunks).containsExactly(List.of(2, 3, 4), List.of(5));
+
+    source.set(1, 20);
+    assertThat(chunks.getFirst()).containsExactly(20, 3, 4);
+  }
+
+  @Test
+  void chunkArray() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4);
+
+    assertThat(lStream.chunk(3).toList()).containsExactly(List.of(1, 2, 3), List.of(4));
+    assertThat(lStream.hasNext()).isFalse();
+    assertThat(LStream.<Integer>empty().chunk(3).toList()).isEmpty();
+  }
+
+  @Test
+  void wrongParameters() {
+
+    assertThatThrownBy(() -> LStream.of(1).chunk(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LStream.of(1).map(i -> i).chunk(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LStream.of(1).chunk(1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,189 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.LStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentMappingLStreamTest {
+
+  private static void sleep(long milliseconds) {
+    try {
+      Thread.sleep(milliseconds);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void orderedResults() {
+
+    List<Integer> actualValues =
+        LStream.of(5, 1, 4, 2, 3)
+            .mapConcurrent(
+                3,
+                i -> {
+                  sleep(i * 10L);
+                  return i * 10;
+                })
+            .toList();
+
+    assertThat(actualValues).containsExactly(50, 10, 40, 20, 30);
+  }
+
+  @Test
+  void unorderedResults() {
+
+    List<Integer> actualValues =
+        LStream.of(50, 1, 2)
+            .mapConcurrentUnordered(
+                3,
+                i -> {
+                  sleep(i);
+                  return i;
+                })
+            .toList();
+
+    assertThat(actualValues).containsExactlyInAnyOrder(50, 1, 2).endsWith(50);
+  }
+
+  @Test
+  void maxInFlight() {
+
+    AtomicInteger nbRunning = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    List<Integer> values = IntStream.range(0, 50).boxed().toList();
+    List<Integer> actualValues =
+        LStream.from(values)
+            .mapConcurrent(
+                4,
+                i -> {
+                  maxRunning.accumulateAndGet(nbRunning.incrementAndGet(), Math::max);
+                  sleep(2);
+                  nbRunning.decrementAndGet();
+                  return i;
+                })
+            .toList();
+
+    assertThat(actualValues).isEqualTo(values);
+    assertThat(maxRunning.get()).isBetween(2, 4);
+  }
+
+  @Test
+  void runsConcurrently() {
+
+    long start = System.nanoTime();
+    LStream.from(IntStream.range(0, 20).boxed().toList())
+        .mapConcurrent(
+            20,
+            i -> {
+              sleep(100);
+              return i;
+            })
+        .toList();
+
+    assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+  }
+
+  @Test
+  void firstFailureIsThrownWithoutWaitingForPreviousElements() {
+
+    CountDownLatch neverReleased = new CountDownLatch(1);
+
+    LStream<Integer> lStream =
+        LStream.of(1, 2)
+            .mapConcurrent(
+                2,
+                i -> {
+                  if (i == 2) {
+                    throw new IllegalStateException("failure on 2");
+                  }
+                  try {
+                    neverReleased.await();
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                  return i;
+                });
+
+    assertThatThrownBy(lStream::next)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("failure on 2");
+    assertThat(lStream.hasNext()).isFalse();
+  }
+
+  @Test
+  void findFirstCancelsInFlightComputations() {
+
+    AtomicInteger nbInterrupted = new AtomicInteger();
+    CountDownLatch othersStarted = new CountDownLatch(3);
+    CountDownLatch allInterrupted = new CountDownLatch(3);
+
+    Optional<Integer> actualFirst =
+        LStream.of(0, 1, 2, 3, 4)
+            .mapConcurrent(
+                4,
+                i -> {
+                  try {
+                    if (i == 0) {
+                      // The other computations are running when they are cancelled
+                      othersStarted.await();
+                      return i;
+                    }
+                    othersStarted.countDown();
+                    Thread.sleep(10_000);
+                  } catch (InterruptedException e) {
+                    nbInterrupted.incrementAndGet();
+                    allInterrupted.countDown();
+                  }
+                  return i;
+                })
+            .findFirst();
+
+    assertThat(actualFirst).hasValue(0);
+    try {
+      assertThat(allInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+    assertThat(nbInterrupted).hasValue(3);
+  }
+
+  @Test
+  void pushStoppedEarlyKeepsRemainingElements() {
+
+    assertThat(LStream.of(1, 2, 3, 4, 5, 6, 7).mapConcurrent(4, i -> i).chunk(3).toList())
+        .containsExactly(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7));
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4, 5).mapConcurrent(4, i -> i);
+    assertThat(lStream.anyMatch(i -> i == 1)).isTrue();
+    assertThat(lStream.hasNext()).isTrue();
+    assertThat(lStream.toList()).containsExactly(2, 3, 4, 5);
+  }
+
+  @Test
+  void knownSize() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3).mapConcurrent(2, i -> i);
+
+    assertThat(lStream.knownSize()).isEqualTo(3);
+    lStream.next();
+    assertThat(lStream.knownSize()).isEqualTo(2);
+  }
+
+  @Test
+  void wrongMaxInFlight() {
+
+    assertThatThrownBy(() -> LStream.of(1).mapConcurrent(0, i -> i))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,82 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.LStream;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class DistinctLStreamTest {
+
+  @Test
+  void distinctIsDistinct() {
+
+    LStream<Integer> lStream = LStream.of(3, 1, 3, 2, 1).distinct();
+
+    assertThat(lStream.isDistinct()).isTrue();
+    assertThat(lStream.distinct()).isSameAs(lStream);
+    assertThat(lStream.toList()).containsExactly(3, 1, 2);
+  }
+
+  @Test
+  void distinctBy() {
+
+    List<String> actualValues =
+        LStream.of("apple", "avocado", "banana", "blueberry", "cherry")
+            .distinctBy(fruit -> fruit.charAt(0))
+            .toList();
+
+    assertThat(actualValues).containsExactly("apple", "banana", "cherry");
+  }
+
+  @Test
+  void distinctWithinInfiniteLStream() {
+
+    int[] next = {0};
+    List<Integer> actualValues =
+        LStream.generate(() -> next[0]++ % 3).distinctWithin(3).limit(3).toList();
+
+    assertThat(actualValues).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  void distinctWithinForgetsOldElements() {
+
+    List<Integer> actualValues = LStream.of(1, 2, 1, 3, 1, 2).distinctWithin(2).toList();
+
+    // 1 is refreshed when it is seen again, so that 2 is the one forgotten when 3 comes
+    assertThat(actualValues).containsExactly(1, 2, 3, 2);
+  }
+
+  @Test
+  void distinctWithinWrongSize() {
+
+    assertThatThrownBy(() -> LStream.of(1).distinctWithin(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void distinctApproximately() {
+
+    List<Integer> values = new Random(42).ints(10_000, 0, 1_000).boxed().toList();
+
+    List<Integer> actualValues = LStream.from(values).distinctApproximately(1_000, 0.001).toList();
+
+    List<Integer> expectedValues = values.stream().distinct().toList();
+    assertThat(actualValues).doesNotHaveDuplicates().isSubsetOf(expectedValues);
+    assertThat(actualValues.size()).isGreaterThan(expectedValues.size() * 99 / 100);
+  }
+
+  @Test
+  void distinctKeepsSortedCharacteristic() {
+
+    LStream<Integer> lStream =
+        LStream.from(IntStream.range(0, 10).boxed().toList()).sorted().distinctBy(i -> i / 2);
+
+    assertThat(lStream.isSortedBy(null)).isTrue();
+    assertThat(lStream.toList()).containsExactly(0, 2, 4, 6, 8);
+  }
+}
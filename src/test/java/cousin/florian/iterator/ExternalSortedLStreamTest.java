@@ -0,0 +1,184 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.LStream;
+import cousin.florian.collector.LCollectors;
+import cousin.florian.exception.SeveralElementsException;
+import cousin.florian.sort.ElementSerializer;
+import cousin.florian.sort.ExternalSort;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ExternalSortedLStreamTest {
+
+  private static final ElementSerializer<Integer> INTEGER_SERIALIZER =
+      new ElementSerializer<>() {
+        @Override
+        public void write(Integer element, DataOutput output) throws IOException {
+          output.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput input) throws IOException {
+          return input.readInt();
+        }
+      };
+
+  @TempDir Path temporaryDirectory;
+
+  private ExternalSort<Integer> externalSort(int runSize) {
+    return ExternalSort.of(INTEGER_SERIALIZER)
+        .withRunSize(runSize)
+        .withTemporaryDirectory(temporaryDirectory);
+  }
+
+  private long nbTemporaryFiles() throws IOException {
+    try (Stream<Path> files = Files.list(temporaryDirectory)) {
+      return files.count();
+    }
+  }
+
+  @Test
+  void sortsOverSeveralRuns() throws IOException {
+
+    Random random = new Random(7);
+    List<Integer> numbers = IntStream.range(0, 10_000).map(i -> random.nextInt()).boxed().toList();
+
+    List<Integer> actualValues =
+        LStream.from(numbers.iterator()).sortedExternally(externalSort(1_000)).toList();
+
+    assertThat(actualValues).isEqualTo(numbers.stream().sorted().toList());
+    assertThat(nbTemporaryFiles()).isZero();
+  }
+
+  @Test
+  void isLazy() throws IOException {
+
+    LStream<Integer> lStream = LStream.of(3, 1, 2).sortedExternally(externalSort(1));
+
+    assertThat(nbTemporaryFiles()).isZero();
+    assertThat(lStream.next()).isEqualTo(1);
+    assertThat(nbTemporaryFiles()).isEqualTo(2);
+    assertThat(lStream.toList()).containsExactly(2, 3);
+  }
+
+  @Test
+  void findFirstDeletesRuns() throws IOException {
+
+    LStream<Integer> lStream = LStream.of(3, 1, 2).sortedExternally(externalSort(1));
+
+    assertThat(lStream.findFirst()).hasValue(1);
+    assertThat(nbTemporaryFiles()).isZero();
+  }
+
+  @Test
+  void findOneChecksForSecondElementBeforeDeletingRuns() throws IOException {
+
+    LStream<Integer> lStream = LStream.of(5, 3, 1, 4, 2).sortedExternally(externalSort(2));
+
+    assertThatThrownBy(lStream::findOne).isInstanceOf(SeveralElementsException.class);
+    assertThat(nbTemporaryFiles()).isZero();
+  }
+
+  @Test
+  void pushStoppedEarlyKeepsRemainingElements() {
+
+    assertThat(LStream.of(5, 3, 1, 4, 2).sortedExternally(externalSort(2)).chunk(2).toList())
+        .containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+    assertThat(
+            LStream.of(5, 3, 1, 4, 2)
+                .sortedExternally(externalSort(2))
+                .collectChunked(LCollectors.toList(), 2))
+        .containsExactly(1, 2, 3, 4, 5);
+
+    LStream<Integer> lStream = LStream.of(5, 3, 1, 4, 2).sortedExternally(externalSort(2));
+    assertThat(lStream.anyMatch(i -> i == 1)).isTrue();
+    assertThat(lStream.hasNext()).isTrue();
+    assertThat(lStream.toList()).containsExactly(2, 3, 4, 5);
+  }
+
+  @Test
+  void closeDeletesRunsNotMerged() throws IOException {
+
+    ExternalSortedLStream<Integer> lStream =
+        new ExternalSortedLStream<>(LStream.of(3, 1, 2), null, externalSort(1));
+
+    assertThat(lStream.next()).isEqualTo(1);
+    lStream.close();
+
+    assertThat(nbTemporaryFiles()).isZero();
+    assertThat(lStream.hasNext()).isFalse();
+  }
+
+  @Test
+  void singleRunStaysInMemory() throws IOException {
+
+    LStream<Integer> lStream = LStream.of(3, 1, 2).sortedExternally(externalSort(3));
+
+    assertThat(lStream.toList()).containsExactly(1, 2, 3);
+    assertThat(nbTemporaryFiles()).isZero();
+  }
+
+  @Test
+  void isStable() {
+
+    List<String> words = List.of("b1", "a1", "b2", "a2", "c1", "a3", "b3");
+    ExternalSort<String> externalSort =
+        ExternalSort.of(ElementSerializer.ofStrings())
+            .withRunSize(2)
+            .withTemporaryDirectory(temporaryDirectory);
+
+    List<String> actualValues =
+        LStream.from(words)
+            .sortedExternally(Comparator.comparing(word -> word.charAt(0)), externalSort)
+            .toList();
+
+    assertThat(actualValues).containsExactly("a1", "a2", "a3", "b1", "b2", "b3", "c1");
+  }
+
+  @Test
+  void knownSize() {
+
+    LStream<Integer> lStream = LStream.of(5, 4, 3, 2, 1).sortedExternally(externalSort(2));
+
+    assertThat(lStream.knownSize()).isEqualTo(5);
+    assertThat(lStream.next()).isEqualTo(1);
+    assertThat(lStream.knownSize()).isEqualTo(4);
+  }
+
+  @Test
+  void empty() {
+
+    assertThat(LStream.<Integer>empty().sortedExternally(externalSort(2)).toList()).isEmpty();
+  }
+
+  @Test
+  void missingTemporaryDirectory() {
+
+    ExternalSort<Integer> externalSort =
+        externalSort(1).withTemporaryDirectory(temporaryDirectory.resolve("missing"));
+    LStream<Integer> lStream = LStream.of(2, 1).sortedExternally(externalSort);
+
+    assertThatThrownBy(lStream::hasNext).isInstanceOf(UncheckedIOException.class);
+  }
+
+  @Test
+  void wrongRunSize() {
+
+    ExternalSort<Integer> externalSort = ExternalSort.of(INTEGER_SERIALIZER);
+
+    assertThatThrownBy(() -> externalSort.withRunSize(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
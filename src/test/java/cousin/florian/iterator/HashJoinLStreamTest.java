@@ -0,0 +1,162 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cousin.florian.JoinType;
+import cousin.florian.LStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class HashJoinLStreamTest {
+
+  private record Order(int customerId, String item) {}
+
+  private static final Map<Integer, String> CUSTOMERS = Map.of(1, "Ann", 2, "Bob", 3, "Cid");
+
+  /** A lstream of unknown size, so that it is bigger than any lstream of known size */
+  private static LStream<Order> orders() {
+    return LStream.from(
+        List.of(new Order(2, "pen"), new Order(4, "ink"), new Order(2, "cup"), new Order(1, "box"))
+            .iterator());
+  }
+
+  @Test
+  void joinBuildsSmallerSide() {
+
+    LStream<String> probingThis =
+        orders()
+            .hashJoin(LStream.of(1, 2), Order::customerId, id -> id, JoinType.INNER, this::label);
+    LStream<String> buildingThis =
+        LStream.of(1, 2)
+            .hashJoin(orders(), id -> id, Order::customerId, JoinType.INNER, this::label);
+
+    assertThat(probingThis).isInstanceOf(HashJoinLStream.class);
+    assertThat(probingThis.toList()).containsExactly("pen:Bob", "cup:Bob", "box:Ann");
+    assertThat(buildingThis).isInstanceOf(SwappedHashJoinLStream.class);
+    assertThat(buildingThis.toList()).containsExactly("2:pen", "2:cup", "1:box");
+  }
+
+  @Test
+  void joinTypesProbingThis() {
+
+    LStream<Integer> customerIds = LStream.of(1, 2, 3);
+
+    assertThat(join(orders(), customerIds, JoinType.LEFT).toList())
+        .containsExactly("pen:Bob", "ink:null", "cup:Bob", "box:Ann");
+    assertThat(join(orders(), LStream.of(1, 2, 2), JoinType.SEMI).toList())
+        .containsExactly("pen:Bob", "cup:Bob", "box:Ann");
+    assertThat(join(orders(), LStream.of(1, 2, 3), JoinType.ANTI).toList())
+        .containsExactly("ink:null");
+  }
+
+  @Test
+  void leftAndAntiJoinsKeepTheOrderOfThis() {
+
+    LStream<String> leftJoin =
+        LStream.of(5, 1, 3)
+            .hashJoin(orders(), id -> id, Order::customerId, JoinType.LEFT, this::label);
+    LStream<String> antiJoin =
+        LStream.of(5, 1, 3)
+            .hashJoin(orders(), id -> id, Order::customerId, JoinType.ANTI, this::label);
+
+    assertThat(leftJoin).isInstanceOf(HashJoinLStream.class);
+    assertThat(leftJoin.toList()).containsExactly("5:null", "1:box", "3:null");
+    assertThat(antiJoin).isInstanceOf(HashJoinLStream.class);
+    assertThat(antiJoin.toList()).containsExactly("5:null", "3:null");
+  }
+
+  @Test
+  void semiJoinBuildingThis() {
+
+    LStream<String> lStream =
+        LStream.of(2, 1, 2)
+            .hashJoin(orders(), id -> id, Order::customerId, JoinType.SEMI, this::label);
+
+    assertThat(lStream).isInstanceOf(SwappedHashJoinLStream.class);
+    assertThat(lStream.toList()).containsExactly("2:pen", "2:pen", "1:box");
+  }
+
+  @Test
+  void semiJoinStopsOnceAllKeysMatch() {
+
+    AtomicInteger nbProbed = new AtomicInteger();
+
+    List<Integer> actualValues =
+        LStream.of(1, 2)
+            .hashJoin(
+                LStream.iterate(0, i -> i + 1).peek(i -> nbProbed.incrementAndGet()),
+                id -> id,
+                i -> i,
+                JoinType.SEMI,
+                (id, i) -> id)
+            .toList();
+
+    assertThat(actualValues).containsExactly(1, 2);
+    assertThat(nbProbed).hasValue(3);
+  }
+
+  @Test
+  void hashJoinOnLongKeys() {
+
+    List<String> actualValues =
+        orders()
+            .hashJoinOnLong(
+                LStream.of(1L, 2L, 2L),
+                Order::customerId,
+                id -> id,
+                JoinType.INNER,
+                (order, id) -> order.item() + id)
+            .toList();
+
+    assertThat(actualValues).containsExactly("pen2", "pen2", "cup2", "cup2", "box1");
+  }
+
+  @Test
+  void hashJoinOnManyLongKeys() {
+
+    LStream<Long> keys = LStream.iterate(0L, i -> i + 7).limit(14_286);
+
+    long actualCount =
+        LStream.iterate(0L, i -> i + 3)
+            .limit(33_334)
+            .hashJoinOnLong(keys, i -> i, i -> i, JoinType.SEMI, (i, j) -> i)
+            .count();
+
+    assertThat(actualCount).isEqualTo(4_762);
+  }
+
+  @Test
+  void pushAfterPull() {
+
+    LStream<String> lStream = join(orders(), LStream.of(2, 2, 1), JoinType.INNER);
+
+    assertThat(lStream.next()).isEqualTo("pen:Bob");
+    List<String> actualValues = new ArrayList<>();
+    lStream.forEach(actualValues::add);
+    assertThat(actualValues).containsExactly("pen:Bob", "cup:Bob", "cup:Bob", "box:Ann");
+  }
+
+  @Test
+  void limitStopsInsideMatches() {
+
+    LStream<String> lStream = join(orders(), LStream.of(2, 2), JoinType.INNER);
+
+    assertThat(lStream.limit(3).toList()).containsExactly("pen:Bob", "pen:Bob", "cup:Bob");
+  }
+
+  private LStream<String> join(
+      LStream<Order> orders, LStream<Integer> customerIds, JoinType joinType) {
+    return orders.hashJoin(customerIds, Order::customerId, id -> id, joinType, this::label);
+  }
+
+  private String label(Order order, Integer customerId) {
+    return order.item() + ":" + (customerId == null ? null : CUSTOMERS.get(customerId));
+  }
+
+  private String label(Integer customerId, Order order) {
+    return customerId + ":" + (order == null ? null : order.item());
+  }
+}
@@ -0,0 +1,87 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cousin.florian.LStream;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class IncrementalSortedLStreamTest {
+
+  private static List<Integer> randomNumbers(int nbElements) {
+    Random random = new Random(3);
+    return IntStream.range(0, nbElements).map(i -> random.nextInt(500)).boxed().toList();
+  }
+
+  @Test
+  void sortsAllElements() {
+
+    List<Integer> numbers = randomNumbers(5_000);
+
+    List<Integer> actualValues = LStream.from(numbers).sortedIncrementally().toList();
+
+    assertThat(actualValues).isEqualTo(numbers.stream().sorted().toList());
+  }
+
+  @Test
+  void isStable() {
+
+    List<String> words = List.of("b1", "a1", "c1", "b2", "a2", "a3", "c2", "b3");
+
+    List<String> actualValues =
+        LStream.from(words)
+            .sortedIncrementally(Comparator.comparing(word -> word.charAt(0)))
+            .toList();
+
+    assertThat(actualValues).containsExactly("a1", "a2", "a3", "b1", "b2", "b3", "c1", "c2");
+  }
+
+  @Test
+  void firstElementsCostLinearTime() {
+
+    AtomicLong nbComparisons = new AtomicLong();
+    Comparator<Integer> countingComparator =
+        (i1, i2) -> {
+          nbComparisons.incrementAndGet();
+          return Integer.compare(i1, i2);
+        };
+
+    List<Integer> numbers = randomNumbers(100_000);
+
+    List<Integer> actualValues =
+        LStream.from(numbers).sortedIncrementally(countingComparator).limit(50).toList();
+
+    assertThat(actualValues).isEqualTo(numbers.stream().sorted().limit(50).toList());
+    assertThat(nbComparisons.get()).isLessThan(300_000);
+  }
+
+  @Test
+  void isLazy() {
+
+    List<Integer> iteratedValues = new ArrayList<>();
+
+    LStream<Integer> lStream = LStream.of(2, 1).peek(iteratedValues::add).sortedIncrementally();
+
+    assertThat(iteratedValues).isEmpty();
+    assertThat(lStream.findFirst()).hasValue(1);
+    assertThat(iteratedValues).containsExactly(2, 1);
+  }
+
+  @Test
+  void knownSize() {
+
+    LStream<Integer> lStream = LStream.of(3, 1, 2).sortedIncrementally();
+
+    assertThat(lStream.knownSize()).isEqualTo(3);
+    assertThat(lStream.next()).isEqualTo(1);
+    assertThat(lStream.knownSize()).isEqualTo(2);
+  }
+
+  @Test
+  void empty() {
+
+    assertThat(LStream.<Integer>empty().sortedIncrementally().hasNext()).isFalse();
+  }
+}
@@ -0,0 +1,142 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.LStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedLinesLStreamTest {
+
+  @TempDir Path temporaryDirectory;
+
+  private Path file(String content) throws IOException {
+    return Files.writeString(temporaryDirectory.resolve("lines.txt"), content);
+  }
+
+  @Test
+  void lines() throws IOException {
+
+    Path file = file("first\r\nsecond\n\nthird line with ünïcode");
+
+    assertThat(LStream.lines(file).toList())
+        .containsExactly("first", "second", "", "third line with ünïcode");
+  }
+
+  @Test
+  void noEmptyLineAfterFinalTerminator() throws IOException {
+
+    assertThat(LStream.lines(file("a\nb\n")).toList()).containsExactly("a", "b");
+    assertThat(LStream.lines(file("")).toList()).isEmpty();
+    assertThat(LStream.lines(file("\n")).toList()).containsExactly("");
+  }
+
+  @Test
+  void sameLinesAsFilesReadAllLines() throws IOException {
+
+    String content =
+        IntStream.range(0, 1_000)
+            .mapToObj(i -> "line number " + i + " " + "x".repeat(i % 17))
+            .reduce("", (lines, line) -> lines + line + "\n");
+    Path file = file(content);
+
+    assertThat(LStream.lines(file).toList()).isEqualTo(Files.readAllLines(file));
+  }
+
+  @Test
+  void linesAcrossSegments() throws IOException {
+
+    Path file = file("one\ntwo\nthree\nfour\nfive");
+
+    MappedLinesLStream<String> lStream =
+        new MappedLinesLStream<>(file, 6, MappedLinesLStream.stringDecoder(StandardCharsets.UTF_8));
+
+    assertThat(lStream.toList()).containsExactly("one", "two", "three", "four", "five");
+  }
+
+  @Test
+  void lineLongerThanSegment() throws IOException {
+
+    Path file = file("short\nthis line is too long\n");
+
+    MappedLinesLStream<String> lStream =
+        new MappedLinesLStream<>(file, 8, MappedLinesLStream.stringDecoder(StandardCharsets.UTF_8));
+
+    assertThat(lStream.next()).isEqualTo("short");
+    assertThatThrownBy(lStream::next).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void lineBuffers() throws IOException {
+
+    List<ByteBuffer> actualValues = LStream.lineBuffers(file("ab\ncde")).toList();
+
+    assertThat(actualValues)
+        .containsExactly(
+            ByteBuffer.wrap("ab".getBytes(StandardCharsets.UTF_8)),
+            ByteBuffer.wrap("cde".getBytes(StandardCharsets.UTF_8)));
+    assertThat(actualValues.getFirst().isReadOnly()).isTrue();
+  }
+
+  @Test
+  void skipBytes() throws IOException {
+
+    // Lines start at bytes 0, 4, 8 and 14
+    Path file = file("one\ntwo\nthree\nfour\n");
+
+    assertThat(LStream.lines(file).skipBytes(4).toList()).containsExactly("two", "three", "four");
+    assertThat(LStream.lines(file).skipBytes(5).toList()).containsExactly("three", "four");
+    assertThat(LStream.lines(file).skipBytes(100).toList()).isEmpty();
+
+    MappedLinesLStream<String> lStream = LStream.lines(file);
+    lStream.next();
+    assertThat(lStream.bytePosition()).isEqualTo(4);
+    assertThat(lStream.skipBytes(5).next()).isEqualTo("four");
+  }
+
+  @Test
+  void skipBytesAcrossSegments() throws IOException {
+
+    Path file = file("a".repeat(20) + "\nlast\n");
+
+    MappedLinesLStream<String> lStream =
+        new MappedLinesLStream<>(file, 8, MappedLinesLStream.stringDecoder(StandardCharsets.UTF_8));
+
+    assertThat(lStream.skipBytes(1).toList()).containsExactly("last");
+  }
+
+  @Test
+  void sizeUpperBound() throws IOException {
+
+    MappedLinesLStream<String> lStream = LStream.lines(file("a\nb\n"));
+
+    assertThat(lStream.sizeUpperBound()).isEqualTo(4);
+    lStream.next();
+    assertThat(lStream.sizeUpperBound()).isEqualTo(2);
+  }
+
+  @Test
+  void wrongCharset() throws IOException {
+
+    Path file = file("a");
+
+    assertThatThrownBy(() -> LStream.lines(file, StandardCharsets.UTF_16))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void missingFile() {
+
+    assertThatThrownBy(() -> LStream.lines(temporaryDirectory.resolve("missing")))
+        .isInstanceOf(UncheckedIOException.class);
+  }
+}
@@ -0,0 +1,87 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.JoinType;
+import cousin.florian.LStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MergeJoinLStreamTest {
+
+  @Test
+  void joinTypes() {
+
+    assertThat(join(JoinType.INNER)).containsExactly("1a", "3b", "3c", "3b", "3c");
+    assertThat(join(JoinType.LEFT)).containsExactly("1a", "2-", "3b", "3c", "3b", "3c", "6-");
+    assertThat(join(JoinType.SEMI)).containsExactly("1a", "3b", "3b");
+    assertThat(join(JoinType.ANTI)).containsExactly("2-", "6-");
+  }
+
+  @Test
+  void innerJoinStopsWhenOtherEnds() {
+
+    AtomicInteger nbRead = new AtomicInteger();
+
+    List<String> actualValues =
+        LStream.iterate(0, i -> i + 1)
+            .peek(i -> nbRead.incrementAndGet())
+            .mergeJoin(
+                LStream.of("0", "2"),
+                i -> i,
+                Integer::valueOf,
+                null,
+                JoinType.INNER,
+                (i, s) -> i + s)
+            .toList();
+
+    assertThat(actualValues).containsExactly("00", "22");
+    assertThat(nbRead).hasValue(4);
+  }
+
+  @Test
+  void mergeJoinWithComparator() {
+
+    List<String> actualValues =
+        LStream.of(5, 3, 1)
+            .mergeJoin(
+                LStream.of("e", "c", "b"),
+                i -> i,
+                s -> s.charAt(0) - 'a' + 1,
+                Comparator.reverseOrder(),
+                JoinType.LEFT,
+                (i, s) -> i + (s == null ? "-" : s))
+            .toList();
+
+    assertThat(actualValues).containsExactly("5e", "3c", "1-");
+  }
+
+  @Test
+  void unsortedKeysThrow() {
+
+    LStream<String> unsortedThis =
+        LStream.of(2, 1)
+            .mergeJoin(LStream.of(1, 2), i -> i, i -> i, null, JoinType.INNER, (i, j) -> "");
+    LStream<String> unsortedOther =
+        LStream.of(1, 3)
+            .mergeJoin(LStream.of(2, 1), i -> i, i -> i, null, JoinType.INNER, (i, j) -> "");
+
+    assertThatThrownBy(unsortedThis::toList).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(unsortedOther::toList).isInstanceOf(IllegalStateException.class);
+  }
+
+  private static List<String> join(JoinType joinType) {
+    return LStream.of(1, 2, 3, 3, 6)
+        .mergeJoin(
+            LStream.of("0z", "1a", "3b", "3c", "5d"),
+            i -> i,
+            s -> s.charAt(0) - '0',
+            null,
+            joinType,
+            (i, s) -> i + (s == null ? "-" : s.substring(1)))
+        .toList();
+  }
+}
@@ -0,0 +1,127 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cousin.florian.LStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MergeSortedLStreamTest {
+
+  @Test
+  void mergeTwo() {
+
+    LStream<Integer> lStream =
+        LStream.mergeSorted(null, LStream.of(1, 4, 6, 9), LStream.of(2, 3, 6, 10, 11));
+
+    assertThat(lStream).isInstanceOf(TwoWayMergeSortedLStream.class);
+    assertThat(lStream.knownSize()).isEqualTo(9);
+    assertThat(lStream.toList()).containsExactly(1, 2, 3, 4, 6, 6, 9, 10, 11);
+  }
+
+  @Test
+  void mergeMany() {
+
+    Random random = new Random(5);
+    List<LStream<Integer>> lStreams = new ArrayList<>();
+    List<Integer> expectedValues = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      List<Integer> shard = random.ints(random.nextInt(50), 0, 100).sorted().boxed().toList();
+      lStreams.add(LStream.from(shard));
+      expectedValues.addAll(shard);
+    }
+    expectedValues.sort(null);
+
+    LStream<Integer> lStream = LStream.mergeSorted(null, lStreams);
+
+    assertThat(lStream).isInstanceOf(MergeSortedLStream.class);
+    assertThat(lStream.knownSize()).isEqualTo(expectedValues.size());
+    assertThat(lStream.toList()).isEqualTo(expectedValues);
+  }
+
+  @Test
+  void mergeIsStable() {
+
+    Comparator<String> byLength = Comparator.comparingInt(String::length);
+
+    List<String> actualTwoWay =
+        LStream.mergeSorted(byLength, LStream.of("a", "bb"), LStream.of("c", "dd")).toList();
+    List<String> actualManyWay =
+        LStream.mergeSorted(
+                byLength, LStream.of("a", "bb"), LStream.of("c", "dd"), LStream.of("e", "ff"))
+            .toList();
+
+    assertThat(actualTwoWay).containsExactly("a", "c", "bb", "dd");
+    assertThat(actualManyWay).containsExactly("a", "c", "e", "bb", "dd", "ff");
+  }
+
+  @Test
+  void mergeEmptyAndSingle() {
+
+    LStream<Integer> single = LStream.of(1, 2);
+
+    assertThat(LStream.mergeSorted(null).toList()).isEmpty();
+    assertThat(LStream.mergeSorted(null, single)).isSameAs(single);
+    assertThat(
+            LStream.mergeSorted(null, LStream.<Integer>of(), LStream.of(3), LStream.<Integer>of())
+                .toList())
+        .containsExactly(3);
+  }
+
+  @Test
+  void mergeIsLazy() {
+
+    LStream<Integer> infinite = LStream.iterate(0, i -> i + 3);
+
+    LStream<Integer> lStream =
+        LStream.mergeSorted(null, infinite, LStream.iterate(1, i -> i + 3), LStream.of(2, 5));
+
+    assertThat(lStream.knownSize()).isEqualTo(-1);
+    assertThat(lStream.sizeUpperBound()).isEqualTo(Long.MAX_VALUE);
+    assertThat(lStream.limit(8).toList()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+  }
+
+  @Test
+  void mergeIsSorted() {
+
+    LStream<Integer> lStream =
+        LStream.mergeSorted(
+            Comparator.reverseOrder(),
+            LStream.of(5, 1),
+            LStream.of(4, 2),
+            LStream.from(IntStream.of(3).boxed().iterator()));
+
+    assertThat(lStream.isSortedBy(Comparator.reverseOrder())).isTrue();
+    assertThat(lStream.sorted(Comparator.reverseOrder())).isSameAs(lStream);
+    assertThat(lStream.toList()).containsExactly(5, 4, 3, 2, 1);
+  }
+
+  @Test
+  void mergeDoesNotReadBeforeFirstElementIsAsked() {
+
+    AtomicInteger nbRead = new AtomicInteger();
+
+    LStream<Integer> twoWay =
+        LStream.mergeSorted(
+            null,
+            LStream.of(1, 3).peek(i -> nbRead.incrementAndGet()),
+            LStream.of(2).peek(i -> nbRead.incrementAndGet()));
+    LStream<Integer> manyWay =
+        LStream.mergeSorted(
+            null,
+            LStream.of(1, 4).peek(i -> nbRead.incrementAndGet()),
+            LStream.of(2).peek(i -> nbRead.incrementAndGet()),
+            LStream.of(3).peek(i -> nbRead.incrementAndGet()));
+
+    assertThat(nbRead).hasValue(0);
+    assertThat(twoWay.knownSize()).isEqualTo(3);
+    assertThat(manyWay.knownSize()).isEqualTo(4);
+    assertThat(twoWay.toList()).containsExactly(1, 2, 3);
+    assertThat(manyWay.toList()).containsExactly(1, 2, 3, 4);
+  }
+}
@@ -0,0 +1,154 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.LStream;
+import cousin.florian.collector.LCollectors;
+import cousin.florian.exception.SeveralElementsException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PrefetchLStreamTest {
+
+  @Test
+  void keepsOrder() {
+
+    List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+
+    assertThat(LStream.from(values).prefetch(16).map(i -> i * 2).toList())
+        .isEqualTo(values.stream().map(i -> i * 2).toList());
+  }
+
+  @Test
+  void baseIsIteratedOnAnotherThread() {
+
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    LStream.of(1, 2, 3).peek(i -> threads.add(Thread.currentThread())).prefetch(2).toList();
+
+    assertThat(threads).hasSize(1).doesNotContain(Thread.currentThread());
+    assertThat(threads.iterator().next().isVirtual()).isTrue();
+  }
+
+  @Test
+  void nullValues() {
+
+    assertThat(LStream.from(Arrays.asList(1, null, 3)).prefetch(1).toList())
+        .containsExactly(1, null, 3);
+  }
+
+  @Test
+  void exceptionIsThrownAfterPreviousElements() {
+
+    LStream<Integer> lStream =
+        LStream.of(1, 2, 3)
+            .map(
+                i -> {
+                  if (i == 3) {
+                    throw new IllegalStateException("failure on 3");
+                  }
+                  return i;
+                })
+            .prefetch(8);
+
+    assertThat(lStream.next()).isEqualTo(1);
+    assertThat(lStream.next()).isEqualTo(2);
+    assertThatThrownBy(lStream::hasNext)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("failure on 3");
+    assertThat(lStream.hasNext()).isFalse();
+  }
+
+  @Test
+  void producerWaitsWhileBufferIsFull() throws InterruptedException {
+
+    AtomicInteger nbGenerated = new AtomicInteger();
+
+    List<Integer> actualValues =
+        LStream.generate(nbGenerated::getAndIncrement).prefetch(4).limit(3).toList();
+
+    assertThat(actualValues).containsExactly(0, 1, 2);
+    Thread.sleep(300);
+    int nbGeneratedAfterCancellation = nbGenerated.get();
+    Thread.sleep(300);
+    assertThat(nbGenerated.get()).isEqualTo(nbGeneratedAfterCancellation).isLessThan(20);
+  }
+
+  @Test
+  void knownSize() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3).prefetch(2);
+
+    assertThat(lStream.knownSize()).isEqualTo(3);
+    lStream.next();
+    assertThat(lStream.knownSize()).isEqualTo(2);
+    assertThat(lStream.count()).isEqualTo(2);
+  }
+
+  @Test
+  void wrongBufferSize() {
+
+    assertThatThrownBy(() -> LStream.of(1).prefetch(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void findFirstStopsTheBackgroundThread() throws InterruptedException {
+
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    LStream<Integer> lStream =
+        LStream.generate(() -> 1).peek(i -> threads.add(Thread.currentThread())).prefetch(4);
+
+    assertThat(lStream.findFirst()).hasValue(1);
+    Thread producer = threads.iterator().next();
+    producer.join(2_000);
+    assertThat(producer.isAlive()).isFalse();
+  }
+
+  @Test
+  void findOneStopsTheBackgroundThread() throws InterruptedException {
+
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    LStream<Integer> lStream =
+        LStream.generate(() -> 1).peek(i -> threads.add(Thread.currentThread())).prefetch(4);
+
+    assertThatThrownBy(lStream::findOne).isInstanceOf(SeveralElementsException.class);
+    Thread producer = threads.iterator().next();
+    producer.join(2_000);
+    assertThat(producer.isAlive()).isFalse();
+    assertThat(LStream.of(7).prefetch(2).findOne()).hasValue(7);
+  }
+
+  @Test
+  void pushStoppedEarlyKeepsRemainingElements() {
+
+    assertThat(LStream.of(1, 2, 3, 4, 5, 6, 7).prefetch(4).chunk(3).toList())
+        .containsExactly(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7));
+    assertThat(LStream.of(1, 2, 3, 4, 5, 6, 7).prefetch(4).collectChunked(LCollectors.toList(), 2))
+        .containsExactly(1, 2, 3, 4, 5, 6, 7);
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4, 5).prefetch(2);
+    assertThat(lStream.anyMatch(i -> i == 1)).isTrue();
+    assertThat(lStream.hasNext()).isTrue();
+    assertThat(lStream.toList()).containsExactly(2, 3, 4, 5);
+  }
+
+  @Test
+  void cancelledHasNoElementLeft() {
+
+    LStream<Integer> lStream = LStream.of(1, 2, 3, 4, 5).prefetch(2);
+
+    assertThat(lStream.next()).isEqualTo(1);
+    ((PrefetchLStream<Integer>) lStream).cancel();
+
+    assertThat(lStream.knownSize()).isZero();
+    assertThat(lStream.sizeUpperBound()).isZero();
+    assertThat(lStream.count()).isZero();
+  }
+}
@@ -1,8 +1,11 @@
 package cousin.florian.iterator;
 
 import cousin.florian.LStream;
-import java.util.Optional;
-import java.util.Set;
+import cousin.florian.sort.ParallelSort;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +26,184 @@ class SortedLStreamTest {
 
     Assertions.assertThat(actualOneFound).hasValue(7);
   }
+
+  private static List<Integer> randomNumbers() {
+    Random random = new Random(42);
+    return IntStream.range(0, 10_000).map(i -> random.nextInt(1_000)).boxed().toList();
+  }
+
+  @Test
+  void sortedLimitSelectsSmallest() {
+
+    List<Integer> numbers = randomNumbers();
+
+    List<Integer> actualValues = LStream.from(numbers.iterator()).sorted().limit(100).toList();
+
+    Assertions.assertThat(actualValues).isEqualTo(numbers.stream().sorted().limit(100).toList());
+  }
+
+  @Test
+  void sortedLimitIsStable() {
+
+    List<String> words = List.of("bb", "a1", "cc", "a2", "dd", "b2", "a3");
+
+    List<String> actualValues =
+        LStream.from(words.iterator())
+            .sorted(Comparator.comparing(word -> word.charAt(0)))
+            .limit(4)
+            .toList();
+
+    Assertions.assertThat(actualValues).containsExactly("a1", "a2", "a3", "bb");
+  }
+
+  @Test
+  void sortedLimitDoesNotSortEverything() {
+
+    AtomicLong nbComparisons = new AtomicLong();
+    Comparator<Integer> countingComparator =
+        (i1, i2) -> {
+          nbComparisons.incrementAndGet();
+          return Integer.compare(i1, i2);
+        };
+
+    List<Integer> actualValues =
+        LStream.from(randomNumbers().iterator()).sorted(countingComparator).limit(3).toList();
+
+    Assertions.assertThat(actualValues).hasSize(3);
+    Assertions.assertThat(nbComparisons.get()).isLessThan(30_000);
+  }
+
+  @Test
+  void sortedSkipLimit() {
+
+    List<Integer> numbers = randomNumbers();
+
+    List<Integer> actualValues =
+        LStream.from(numbers.iterator())
+            .sorted(Comparator.reverseOrder())
+            .skip(10)
+            .limit(5)
+            .toList();
+
+    Assertions.assertThat(actualValues)
+        .isEqualTo(numbers.stream().sorted(Comparator.reverseOrder()).skip(10).limit(5).toList());
+  }
+
+  @Test
+  void sortedLimitMoreThanSize() {
+
+    List<Integer> actualValues = LStream.of(3, 1, 2).sorted().limit(10).toList();
+
+    Assertions.assertThat(actualValues).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void sortedLimitZero() {
+
+    List<Integer> actualValues =
+        LStream.from(List.of(3, 1, 2).iterator()).sorted().limit(0).toList();
+
+    Assertions.assertThat(actualValues).isEmpty();
+  }
+
+  @Test
+  void sortedFindFirstIsFirstSmallest() {
+
+    Optional<String> actualFirst =
+        LStream.from(List.of("b", "a1", "c", "a2").iterator())
+            .sorted(Comparator.comparing(word -> word.charAt(0)))
+            .findFirst();
+
+    Assertions.assertThat(actualFirst).hasValue("a1");
+  }
+
+  @Test
+  void sortedFindFirstAfterNext() {
+
+    LStream<Integer> lStream = LStream.from(List.of(3, 1, 2).iterator()).sorted();
+
+    Assertions.assertThat(lStream.next()).isEqualTo(1);
+    Assertions.assertThat(lStream.findFirst()).hasValue(2);
+  }
+
+  @Test
+  void sortedFindFirstEmpty() {
+
+    Optional<Integer> actualFirst =
+        LStream.from(List.<Integer>of().iterator()).sorted().findFirst();
+
+    Assertions.assertThat(actualFirst).isEmpty();
+  }
+
+  @Test
+  void sortedInParallel() {
+
+    List<Integer> numbers = randomNumbers();
+    ForkJoinPool pool = new ForkJoinPool(3);
+    ParallelSort parallelSort = ParallelSort.of(pool).withThreshold(100);
+
+    List<Integer> actualValues =
+        LStream.from(numbers.iterator()).sortedInParallel(parallelSort).toList();
+
+    pool.shutdown();
+    Assertions.assertThat(actualValues).isEqualTo(numbers.stream().sorted().toList());
+  }
+
+  @Test
+  void sortedInParallelIsStable() {
+
+    List<Integer> numbers = randomNumbers();
+    Comparator<Integer> byTens = Comparator.comparing(i -> i / 10);
+
+    List<Integer> actualValues =
+        LStream.from(numbers)
+            .sortedInParallel(byTens, ParallelSort.ofCommonPool().withThreshold(10))
+            .toList();
+
+    Assertions.assertThat(actualValues).isEqualTo(numbers.stream().sorted(byTens).toList());
+  }
+
+  @Test
+  void sortedInParallelLimit() {
+
+    List<Integer> actualValues =
+        LStream.from(List.of(5, 3, 4, 1, 2).iterator())
+            .sortedInParallel(ParallelSort.ofCommonPool())
+            .limit(2)
+            .toList();
+
+    Assertions.assertThat(actualValues).containsExactly(1, 2);
+  }
+
+  @Test
+  void sortedSizeAfterNext() {
+
+    LStream<Integer> mapped = LStream.of(3, 1, 2).map(i -> i).sorted();
+    LStream<Integer> fromList = LStream.from(List.of(3, 1, 2)).sorted();
+    LStream<Integer> unsized = LStream.from(List.of(3, 1, 2).iterator()).sorted();
+
+    for (LStream<Integer> lStream : List.of(mapped, fromList, unsized)) {
+      Assertions.assertThat(lStream.next()).isEqualTo(1);
+    }
+
+    Assertions.assertThat(mapped.knownSize()).isEqualTo(2);
+    Assertions.assertThat(fromList.knownSize()).isEqualTo(2);
+    Assertions.assertThat(unsized.knownSize()).isEqualTo(2);
+    Assertions.assertThat(mapped.count()).isEqualTo(2);
+    Assertions.assertThat(fromList.peek(i -> {}).toArray()).containsExactly(2, 3);
+    Assertions.assertThat(unsized.toList()).containsExactly(2, 3);
+  }
+
+  @Test
+  void sortedToArrayToListAfterNext() {
+
+    LStream<Integer> toArrayLStream = LStream.of(3, 1, 2).map(i -> i).sorted();
+    LStream<Integer> toListLStream = LStream.from(List.of(3, 1, 2)).sorted();
+
+    toArrayLStream.next();
+    toListLStream.next();
+
+    Assertions.assertThat(toArrayLStream.peek(i -> {}).toArray()).containsExactly(2, 3);
+    Assertions.assertThat(toListLStream.peek(i -> {}).toList()).containsExactly(2, 3);
+  }
 }
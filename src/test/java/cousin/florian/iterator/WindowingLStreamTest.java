@@ -0,0 +1,78 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import cousin.florian.LStream;
+import cousin.florian.collector.WindowCollectors;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WindowingLStreamTest {
+
+  @Test
+  void slidingWindows() {
+
+    LStream<List<Integer>> lStream = LStream.of(1, 2, 3, 4).windowed(3);
+
+    assertThat(lStream.knownSize()).isEqualTo(2);
+    assertThat(lStream.toList()).containsExactly(List.of(1, 2, 3), List.of(2, 3, 4));
+  }
+
+  @Test
+  void tumblingWindowsDropLastElements() {
+
+    assertThat(LStream.of(1, 2, 3, 4, 5).windowed(2, 2).toList())
+        .containsExactly(List.of(1, 2), List.of(3, 4));
+  }
+
+  @Test
+  void hoppingWindowsSkipElements() {
+
+    LStream<List<Integer>> lStream = LStream.of(1, 2, 3, 4, 5, 6, 7, 8).windowed(2, 3);
+
+    assertThat(lStream.knownSize()).isEqualTo(3);
+    lStream.next();
+    assertThat(lStream.knownSize()).isEqualTo(2);
+    assertThat(lStream.toList()).containsExactly(List.of(4, 5), List.of(7, 8));
+  }
+
+  @Test
+  void notEnoughElements() {
+
+    assertThat(LStream.of(1, 2).windowed(3).toList()).isEmpty();
+    assertThat(LStream.of(1, 2).windowed(3).knownSize()).isZero();
+    assertThat(LStream.of(1, 2).windowAggregate(3, WindowCollectors.counting()).toList()).isEmpty();
+  }
+
+  @Test
+  void windowAggregate() {
+
+    LStream<Long> lStream =
+        LStream.of(1, 2, 3, 4, 5).windowAggregate(3, WindowCollectors.summingLong(i -> i));
+
+    assertThat(lStream.knownSize()).isEqualTo(3);
+    assertThat(lStream.next()).isEqualTo(6);
+    assertThat(lStream.knownSize()).isEqualTo(2);
+    assertThat(lStream.toList()).containsExactly(9L, 12L);
+  }
+
+  @Test
+  void windowAggregateOfOne() {
+
+    assertThat(
+            LStream.of(3, 1, 2).windowAggregate(1, WindowCollectors.summingLong(i -> i)).toList())
+        .containsExactly(3L, 1L, 2L);
+  }
+
+  @Test
+  void wrongSizes() {
+
+    assertThatThrownBy(() -> LStream.of(1).windowed(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LStream.of(1).windowed(1, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> LStream.of(1).windowAggregate(0, WindowCollectors.counting()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
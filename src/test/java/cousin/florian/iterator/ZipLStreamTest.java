@@ -0,0 +1,103 @@
+package cousin.florian.iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cousin.florian.Indexed;
+import cousin.florian.LStream;
+import cousin.florian.LongLStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ZipLStreamTest {
+
+  @Test
+  void zipStopsAtShortest() {
+
+    List<String> actualValues =
+        LStream.of("a", "b", "c").zip(LStream.of(1, 2), (s, i) -> s + i).toList();
+
+    assertThat(actualValues).containsExactly("a1", "b2");
+  }
+
+  @Test
+  void zipWithIterator() {
+
+    List<String> actualValues =
+        LStream.of("a", "b").zip(List.of(1, 2, 3).iterator(), (s, i) -> s + i).toList();
+
+    assertThat(actualValues).containsExactly("a1", "b2");
+  }
+
+  @Test
+  void zipSizedCountAndSkipDoNotCombine() {
+
+    AtomicInteger nbCombined = new AtomicInteger();
+
+    LStream<Integer> lStream =
+        LStream.of(1, 2, 3, 4, 5)
+            .zip(
+                LStream.of(10, 20, 30, 40),
+                (i, j) -> {
+                  nbCombined.incrementAndGet();
+                  return i + j;
+                });
+
+    assertThat(lStream.count()).isEqualTo(4);
+    assertThat(lStream.skip(2).toList()).containsExactly(33, 44);
+    assertThat(nbCombined).hasValue(2);
+  }
+
+  @Test
+  void zipWithIndex() {
+
+    List<Indexed<String>> actualValues = LStream.of("a", "b").zipWithIndex().toList();
+
+    assertThat(actualValues).containsExactly(new Indexed<>(0, "a"), new Indexed<>(1, "b"));
+  }
+
+  @Test
+  void zipWithIndexSkipKeepsIndexes() {
+
+    AtomicInteger nbCombined = new AtomicInteger();
+
+    LStream<String> lStream =
+        LStream.of("a", "b", "c", "d")
+            .zipWithIndex(
+                (index, s) -> {
+                  nbCombined.incrementAndGet();
+                  return s + index;
+                });
+
+    assertThat(lStream.next()).isEqualTo("a0");
+    assertThat(lStream.skip(2).toList()).containsExactly("d3");
+    assertThat(nbCombined).hasValue(2);
+    assertThat(
+            LStream.from(List.of("a", "b", "c").iterator())
+                .zipWithIndex((index, s) -> s + index)
+                .skip(1)
+                .toList())
+        .containsExactly("b1", "c2");
+  }
+
+  @Test
+  void indexesWhere() {
+
+    LongLStream indexes = LStream.of(5, 2, 8, 1, 6).indexesWhere(i -> i > 4);
+
+    assertThat(indexes.isSorted()).isTrue();
+    assertThat(indexes.isDistinct()).isTrue();
+    assertThat(indexes.toArray()).containsExactly(0, 2, 4);
+  }
+
+  @Test
+  void indexesWhereIterated() {
+
+    LongLStream indexes = LStream.of(5, 2, 8, 1, 6).indexesWhere(i -> i > 4);
+
+    assertThat(indexes.nextLong()).isZero();
+    assertThat(indexes.hasNext()).isTrue();
+    assertThat(indexes.findFirst()).hasValue(2);
+    assertThat(indexes.max()).hasValue(4);
+  }
+}
@@ -0,0 +1,48 @@
+package cousin.florian.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  void addedElementsAreContained() {
+
+    BloomFilter<String> bloomFilter = BloomFilter.of(100, 0.01);
+
+    assertThat(bloomFilter.add("first")).isTrue();
+    assertThat(bloomFilter.add("first")).isFalse();
+    assertThat(bloomFilter.mightContain("first")).isTrue();
+    assertThat(bloomFilter.add(null)).isTrue();
+    assertThat(bloomFilter.mightContain(null)).isTrue();
+  }
+
+  @Test
+  void falsePositiveRate() {
+
+    BloomFilter<Integer> bloomFilter = BloomFilter.of(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      bloomFilter.add(i);
+    }
+
+    int nbFalsePositives = 0;
+    for (int i = 10_000; i < 110_000; i++) {
+      if (bloomFilter.mightContain(i)) {
+        nbFalsePositives++;
+      }
+    }
+
+    assertThat(nbFalsePositives).isLessThan(2_000);
+  }
+
+  @Test
+  void wrongParameters() {
+
+    assertThatThrownBy(() -> BloomFilter.of(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BloomFilter.of(10, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BloomFilter.of(10, Double.NaN))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,41 @@
+package cousin.florian.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongHashMapTest {
+
+  @Test
+  void putGetGrows() {
+
+    LongHashMap<String> map = new LongHashMap<>(0);
+    Map<Long, String> expectedMap = new HashMap<>();
+    Random random = new Random(3);
+    for (int i = 0; i < 10_000; i++) {
+      long key = random.nextInt(5_000) * 1024L;
+      map.put(key, "v" + i);
+      expectedMap.put(key, "v" + i);
+    }
+
+    assertThat(map.size()).isEqualTo(expectedMap.size());
+    expectedMap.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    assertThat(map.get(1)).isNull();
+    assertThat(map.get(Long.MIN_VALUE)).isNull();
+  }
+
+  @Test
+  void zeroAndNegativeKeys() {
+
+    LongHashMap<String> map = new LongHashMap<>(4);
+    map.put(0, "zero");
+    map.put(-1, "minus one");
+
+    assertThat(map.get(0)).isEqualTo("zero");
+    assertThat(map.get(-1)).isEqualTo("minus one");
+    assertThat(map.get(1)).isNull();
+  }
+}
@@ -0,0 +1,39 @@
+package cousin.florian.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+  @Test
+  void addGrows() {
+
+    LongHashSet set = new LongHashSet();
+    Set<Long> expectedSet = new HashSet<>();
+    Random random = new Random(3);
+    for (int i = 0; i < 10_000; i++) {
+      long element = random.nextInt(5_000) * 1024L;
+      assertThat(set.add(element)).isEqualTo(expectedSet.add(element));
+    }
+
+    assertThat(set.size()).isEqualTo(expectedSet.size());
+  }
+
+  @Test
+  void zeroAndNegativeElements() {
+
+    LongHashSet set = new LongHashSet();
+
+    assertThat(set.add(0)).isTrue();
+    assertThat(set.add(-1)).isTrue();
+    assertThat(set.add(Long.MIN_VALUE)).isTrue();
+    assertThat(set.add(0)).isFalse();
+    assertThat(set.add(-1)).isFalse();
+    assertThat(set.add(Long.MIN_VALUE)).isFalse();
+    assertThat(set.size()).isEqualTo(3);
+  }
+}
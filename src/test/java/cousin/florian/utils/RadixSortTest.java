@@ -0,0 +1,78 @@
+package cousin.florian.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RadixSortTest {
+
+  private final Random random = new Random(11);
+
+  @Test
+  void sortInts() {
+
+    int[] values = random.ints(100_000).toArray();
+    int[] expectedValues = values.clone();
+    Arrays.sort(expectedValues);
+
+    RadixSort.sort(values);
+
+    assertThat(values).isEqualTo(expectedValues);
+  }
+
+  @Test
+  void sortIntsSmallRange() {
+
+    int[] values = random.ints(10_000, -50, 50).toArray();
+    int[] expectedValues = values.clone();
+    Arrays.sort(expectedValues);
+
+    RadixSort.sort(values);
+
+    assertThat(values).isEqualTo(expectedValues);
+  }
+
+  @Test
+  void sortIntsBounds() {
+
+    int[] values = {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1, 1};
+
+    RadixSort.sort(values);
+
+    assertThat(values).containsExactly(Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE);
+  }
+
+  @Test
+  void sortLongs() {
+
+    long[] values = random.longs(100_000).toArray();
+    long[] expectedValues = values.clone();
+    Arrays.sort(expectedValues);
+
+    RadixSort.sort(values);
+
+    assertThat(values).isEqualTo(expectedValues);
+  }
+
+  @Test
+  void sortLongsBounds() {
+
+    long[] values = {Long.MAX_VALUE, 0, Long.MIN_VALUE, -1, 1};
+
+    RadixSort.sort(values);
+
+    assertThat(values).containsExactly(Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE);
+  }
+
+  @Test
+  void sortEmpty() {
+
+    int[] values = {};
+
+    RadixSort.sort(values);
+
+    assertThat(values).isEmpty();
+  }
+}